@@ -0,0 +1,67 @@
+package com.odds.scoreboard.benchmark;
+
+import com.odds.scoreboard.ScoreBoard;
+import com.odds.scoreboard.domain.OperationStatus;
+import com.odds.scoreboard.domain.ScoreEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Burst of score updates applied as one batch, compared to single-event calls in a loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+    private static final int BOARD_SIZE = 1000;
+    private static final int BURST = 100;
+
+    @Param({Boards.CONCURRENT, Boards.SNAPSHOT, Boards.SLAB})
+    public String storage;
+
+    private ScoreBoard board;
+    private List<ScoreEvent> events;
+
+    @Setup
+    public void setUp() {
+        board = Boards.create(storage, BOARD_SIZE);
+        events = new ArrayList<>(BURST);
+        for (int i = 0; i < BURST; i++) {
+            int match = i * 7 % BOARD_SIZE;
+            events.add(ScoreEvent.update(Boards.homeTeam(match), i % 5, Boards.awayTeam(match), i % 3));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public List<OperationStatus> applyBatch() {
+        return board.applyBatch(events);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void singleEvents(Blackhole blackhole) {
+        for (ScoreEvent event : events) {
+            blackhole.consume(board.tryUpdateScore(event.homeTeam(), event.homeTeamScore(),
+                    event.awayTeam(), event.awayTeamScore()));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.odds.scoreboard.benchmark;
+
+import com.odds.scoreboard.BoardEventPublisher;
+import com.odds.scoreboard.ScoreBoard;
+import com.odds.scoreboard.domain.TeamRegistry;
+import com.odds.scoreboard.infrastructure.ConcurrentMatchStorage;
+import com.odds.scoreboard.infrastructure.MatchStorage;
+import com.odds.scoreboard.infrastructure.ShardedMatchStorage;
+import com.odds.scoreboard.infrastructure.SlabMatchStorage;
+import com.odds.scoreboard.metrics.BoardMetrics;
+import com.odds.scoreboard.metrics.RecordingBoardMetrics;
+
+import java.time.Clock;
+
+/**
+ * Factory of boards used by benchmarks, so all of them use same storage variants and team names.
+ */
+final class Boards {
+    /**
+     * Storage variants, to be used as {@code @Param} values.
+     */
+    static final String CONCURRENT = "concurrent";
+    static final String SNAPSHOT = "snapshot";
+    static final String SLAB = "slab";
+    static final String SHARDED = "sharded";
+
+    private Boards() {
+    }
+
+    static MatchStorage storage(String type) {
+        return switch (type) {
+            case CONCURRENT -> new ConcurrentMatchStorage();
+            case SNAPSHOT -> new ConcurrentMatchStorage(true);
+            case SLAB -> new SlabMatchStorage(true);
+            case SHARDED -> new ShardedMatchStorage();
+            default -> throw new IllegalArgumentException("Unknown storage: " + type);
+        };
+    }
+
+    /**
+     * Board with {@code size} matches in progress, with different scores.
+     */
+    static ScoreBoard create(String storageType, int size) {
+        return create(storageType, size, false);
+    }
+
+    /**
+     * Board with {@code size} matches in progress, recording its operations in {@code RecordingBoardMetrics} if
+     * {@code metrics} is true.
+     */
+    static ScoreBoard create(String storageType, int size, boolean metrics) {
+        ScoreBoard board = new ScoreBoard(storage(storageType), new TeamRegistry(), Clock.systemUTC(),
+                new BoardEventPublisher(), metrics ? new RecordingBoardMetrics() : BoardMetrics.NONE);
+        for (int i = 0; i < size; i++) {
+            board.startMatch(homeTeam(i), awayTeam(i));
+            board.updateScore(homeTeam(i), i % 7, awayTeam(i), i % 5);
+        }
+        return board;
+    }
+
+    static String homeTeam(int match) {
+        return "home-" + match;
+    }
+
+    static String awayTeam(int match) {
+        return "away-" + match;
+    }
+
+    static String[] homeTeams(int size) {
+        String[] teams = new String[size];
+        for (int i = 0; i < size; i++) {
+            teams[i] = homeTeam(i);
+        }
+        return teams;
+    }
+
+    static String[] awayTeams(int size) {
+        String[] teams = new String[size];
+        for (int i = 0; i < size; i++) {
+            teams[i] = awayTeam(i);
+        }
+        return teams;
+    }
+}
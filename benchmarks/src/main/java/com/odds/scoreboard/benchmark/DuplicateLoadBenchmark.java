@@ -0,0 +1,74 @@
+package com.odds.scoreboard.benchmark;
+
+import com.odds.scoreboard.ScoreBoard;
+import com.odds.scoreboard.domain.OperationStatus;
+import com.odds.scoreboard.infrastructure.exception.KeyExistsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of duplicate starts, as in replayed feed, where every event is rejected.
+ * Compares result codes, stackless exceptions and baseline exception with stack trace, which is what storage used to
+ * throw before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DuplicateLoadBenchmark {
+    private static final int BOARD_SIZE = 1000;
+
+    private ScoreBoard board;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int match;
+
+    @Setup
+    public void setUp() {
+        board = Boards.create(Boards.CONCURRENT, BOARD_SIZE);
+        homeTeams = Boards.homeTeams(BOARD_SIZE);
+        awayTeams = Boards.awayTeams(BOARD_SIZE);
+    }
+
+    @Benchmark
+    public OperationStatus resultCode() {
+        int i = match++ % BOARD_SIZE;
+        return board.tryStartMatch(homeTeams[i], awayTeams[i]);
+    }
+
+    @Benchmark
+    public Object stacklessException() {
+        int i = match++ % BOARD_SIZE;
+        try {
+            board.startMatch(homeTeams[i], awayTeams[i]);
+            return null;
+        } catch (KeyExistsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object exceptionWithStackTrace() {
+        int i = match++ % BOARD_SIZE;
+        try {
+            if (board.tryStartMatch(homeTeams[i], awayTeams[i]) == OperationStatus.ALREADY_EXISTS) {
+                throw new IllegalStateException("Key already exists");
+            }
+            return null;
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.odds.scoreboard.benchmark;
+
+import com.odds.scoreboard.ScoreBoard;
+import com.odds.scoreboard.domain.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent readers and writers on the same board.
+ * Each group has 4 threads, in read-heavy (3 readers, 1 writer) or write-heavy (1 reader, 3 writers) mix.
+ * Run with {@code -t 4,8,16,32,64} to scale number of groups, see README.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class MixedWorkloadBenchmark {
+    @Param({Boards.CONCURRENT, Boards.SNAPSHOT, Boards.SLAB, Boards.SHARDED})
+    public String storage;
+
+    @Param({"1000"})
+    public int boardSize;
+
+    private ScoreBoard board;
+    private String[] homeTeams;
+    private String[] awayTeams;
+
+    @Setup
+    public void setUp() {
+        board = Boards.create(storage, boardSize);
+        homeTeams = Boards.homeTeams(boardSize);
+        awayTeams = Boards.awayTeams(boardSize);
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        private int match;
+        private int score;
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(3)
+    public List<Match> readHeavyRead() {
+        return board.topMatches(20);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyWrite(Writer writer) {
+        write(writer);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public List<Match> writeHeavyRead() {
+        return board.topMatches(20);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public void writeHeavyWrite(Writer writer) {
+        write(writer);
+    }
+
+    private void write(Writer writer) {
+        int match = writer.match++ % boardSize;
+        int score = writer.score++ & 15;
+        board.tryUpdateScore(homeTeams[match], score, awayTeams[match], score >> 1);
+    }
+}
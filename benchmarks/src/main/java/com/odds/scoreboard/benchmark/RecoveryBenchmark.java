@@ -0,0 +1,120 @@
+package com.odds.scoreboard.benchmark;
+
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.TeamRegistry;
+import com.odds.scoreboard.infrastructure.FsyncPolicy;
+import com.odds.scoreboard.infrastructure.JournalingMatchStorage;
+import com.odds.scoreboard.infrastructure.MatchStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Restart time of {@code JournalingMatchStorage}: board of 100k matches with millions of journaled score updates,
+ * recovered from the latest checkpoint and the journal tail written after it.
+ * <p>
+ * Journal is written once per trial and copied before every iteration, since recovery writes new checkpoint and
+ * deletes the replayed segments.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecoveryBenchmark {
+    @Param({Boards.CONCURRENT, Boards.SLAB})
+    public String storage;
+
+    @Param({"100000"})
+    public int boardSize;
+
+    @Param({"1000000", "5000000"})
+    public int events;
+
+    /**
+     * Journaled writes between checkpoints, so the tail to replay is at most this long.
+     */
+    @Param({"100000", "1000000"})
+    public long checkpointInterval;
+
+    private Path journal;
+    private Path copy;
+
+    @Setup(Level.Trial)
+    public void writeJournal() throws IOException {
+        journal = Files.createTempDirectory("journal");
+        TeamRegistry teams = new TeamRegistry();
+        try (JournalingMatchStorage storage = open(Boards.storage(storage), teams, journal)) {
+            OffsetDateTime start = OffsetDateTime.now();
+            MatchId[] keys = new MatchId[boardSize];
+            for (int i = 0; i < boardSize; i++) {
+                keys[i] = teams.matchId(Boards.homeTeam(i), Boards.awayTeam(i));
+                storage.save(keys[i], new Match(Boards.homeTeam(i), 0, Boards.awayTeam(i), 0, start.plusSeconds(i)));
+            }
+            for (int i = 0; i < events; i++) {
+                storage.update(keys[i % boardSize], i % 7, i % 5);
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void copyJournal() throws IOException {
+        copy = Files.createTempDirectory("journal-copy");
+        try (Stream<Path> files = Files.list(journal)) {
+            for (Path file : files.toList()) {
+                Files.copy(file, copy.resolve(file.getFileName()));
+            }
+        }
+    }
+
+    @Benchmark
+    public int recover() throws IOException {
+        try (JournalingMatchStorage storage = open(Boards.storage(storage), new TeamRegistry(), copy)) {
+            return storage.size();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteCopy() throws IOException {
+        delete(copy);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteJournal() throws IOException {
+        delete(journal);
+    }
+
+    private JournalingMatchStorage open(MatchStorage delegate, TeamRegistry teams, Path directory) {
+        return new JournalingMatchStorage(delegate, teams, directory, FsyncPolicy.NEVER,
+                JournalingMatchStorage.DEFAULT_FLUSH_INTERVAL, checkpointInterval);
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
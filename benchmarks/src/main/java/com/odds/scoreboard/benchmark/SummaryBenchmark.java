@@ -0,0 +1,64 @@
+package com.odds.scoreboard.benchmark;
+
+import com.odds.scoreboard.ScoreBoard;
+import com.odds.scoreboard.domain.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of summary reads, for board sizes from 10 to 100k matches.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SummaryBenchmark {
+    @Param({Boards.CONCURRENT, Boards.SNAPSHOT, Boards.SLAB, Boards.SHARDED})
+    public String storage;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int boardSize;
+
+    private ScoreBoard board;
+
+    @Setup
+    public void setUp() {
+        board = Boards.create(storage, boardSize);
+    }
+
+    @Benchmark
+    public List<Match> matchesInProgress() {
+        return board.matchesInProgress();
+    }
+
+    @Benchmark
+    public List<Match> topMatches() {
+        return board.topMatches(20);
+    }
+
+    /**
+     * Full walk over snapshot, which is not available for storage without snapshot mode.
+     */
+    @Benchmark
+    public void snapshot(Blackhole blackhole) {
+        if (Boards.CONCURRENT.equals(storage) || Boards.SHARDED.equals(storage)) {
+            return;
+        }
+        board.snapshot().matches().forEach(blackhole::consume);
+    }
+}
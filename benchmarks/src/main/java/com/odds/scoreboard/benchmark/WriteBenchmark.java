@@ -0,0 +1,85 @@
+package com.odds.scoreboard.benchmark;
+
+import com.odds.scoreboard.ScoreBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput of {@code startMatch}, {@code updateScore} and {@code finishMatch}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteBenchmark {
+    @Param({Boards.CONCURRENT, Boards.SNAPSHOT, Boards.SLAB, Boards.SHARDED})
+    public String storage;
+
+    @Param({"1000"})
+    public int boardSize;
+
+    /**
+     * Overhead of counting operations and recording their latencies.
+     */
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private ScoreBoard board;
+    private String[] homeTeams;
+    private String[] awayTeams;
+
+    @Setup
+    public void setUp() {
+        board = Boards.create(storage, boardSize, metrics);
+        homeTeams = Boards.homeTeams(boardSize);
+        awayTeams = Boards.awayTeams(boardSize);
+    }
+
+    /**
+     * Every thread starts and finishes its own match, which is not on board.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private String homeTeam;
+        private String awayTeam;
+        private int match;
+        private int score;
+
+        @Setup
+        public void setUp() {
+            int thread = THREADS.incrementAndGet();
+            homeTeam = "thread-home-" + thread;
+            awayTeam = "thread-away-" + thread;
+            match = thread * 7919;
+        }
+    }
+
+    @Benchmark
+    public void updateScore(ThreadState state) {
+        int match = state.match++ % boardSize;
+        int score = state.score++ & 15;
+        board.updateScore(homeTeams[match], score, awayTeams[match], score >> 1);
+    }
+
+    @Benchmark
+    public void startAndFinishMatch(ThreadState state) {
+        board.startMatch(state.homeTeam, state.awayTeam);
+        board.finishMatch(state.homeTeam, state.awayTeam);
+    }
+}
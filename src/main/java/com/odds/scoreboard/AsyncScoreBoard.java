@@ -0,0 +1,253 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.OperationStatus;
+import com.odds.scoreboard.domain.ScoreEvent;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asynchronous variants of {@code ScoreBoard} operations, returning {@code CompletableFuture}s, meant to be called
+ * from request handlers running on virtual threads.
+ * <p>
+ * Writes are queued per match and applied by non-throwing board operations, one match by at most one task at a time,
+ * so writes of one match are applied in order they were submitted. Queued score update of a match, which is not being
+ * applied yet, is replaced by later update of the same match, so only the latest score is applied and intermediate
+ * states are skipped. Futures of all coalesced updates complete with result of the applied one. Invalid input is
+ * rejected before it's queued, so it's never coalesced with valid update.
+ * <p>
+ * Queues are guarded by {@code ReentrantLock}, not {@code synchronized}, so virtual threads waiting for a queue never
+ * pin their carrier threads. Virtual thread can still pin its carrier briefly inside {@code ConcurrentHashMap} compute
+ * methods, which hold monitor of the map bin: while queue of a match or new team is created, and for the whole write
+ * of {@code ConcurrentMatchStorage}. {@code SlabMatchStorage} and {@code ShardedMatchStorage} writes take only
+ * {@code java.util.concurrent} locks.
+ * Tasks run on given executor, by default new virtual thread per task.
+ */
+public class AsyncScoreBoard implements AutoCloseable {
+    private final ScoreBoard board;
+    private final ExecutorService executor;
+    private final ConcurrentMap<TeamPair, WriteQueue> queues = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    public AsyncScoreBoard(ScoreBoard board) {
+        this(board, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * @param board    board to apply operations to
+     * @param executor executor running the operations, closed together with this board
+     */
+    public AsyncScoreBoard(ScoreBoard board, ExecutorService executor) {
+        this.board = board;
+        this.executor = executor;
+    }
+
+    /**
+     * Asynchronous variant of {@link ScoreBoard#tryStartMatch(String, String)}.
+     *
+     * @return future completed with {@code OK}, {@code INVALID_INPUT} or {@code ALREADY_EXISTS}
+     */
+    public CompletableFuture<OperationStatus> startMatch(String homeTeam, String awayTeam) {
+        return startMatch(null, homeTeam, awayTeam);
+    }
+
+    /**
+     * Asynchronous variant of {@link ScoreBoard#tryStartMatch(String, String, String)}.
+     *
+     * @return future completed with {@code OK}, {@code INVALID_INPUT} or {@code ALREADY_EXISTS}
+     */
+    public CompletableFuture<OperationStatus> startMatch(String competition, String homeTeam, String awayTeam) {
+        if (competition != null && competition.isBlank()) {
+            return CompletableFuture.completedFuture(OperationStatus.INVALID_INPUT);
+        }
+        return write(homeTeam, awayTeam, ScoreEvent.Type.START, 0, 0, competition);
+    }
+
+    /**
+     * Asynchronous variant of {@link ScoreBoard#tryUpdateScore(String, int, String, int)}. Update can be coalesced
+     * with later updates of the same match.
+     *
+     * @return future completed with {@code OK}, {@code INVALID_INPUT} or {@code NOT_FOUND}
+     */
+    public CompletableFuture<OperationStatus> updateScore(String homeTeam, int homeTeamScore,
+                                                          String awayTeam, int awayTeamScore) {
+        return write(homeTeam, awayTeam, ScoreEvent.Type.UPDATE, homeTeamScore, awayTeamScore, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link ScoreBoard#tryFinishMatch(String, String)}.
+     *
+     * @return future completed with {@code OK}, {@code INVALID_INPUT} or {@code NOT_FOUND}
+     */
+    public CompletableFuture<OperationStatus> finishMatch(String homeTeam, String awayTeam) {
+        return write(homeTeam, awayTeam, ScoreEvent.Type.FINISH, 0, 0, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link ScoreBoard#matchesInProgress()}.
+     *
+     * @return future completed with ordered list of matches
+     */
+    public CompletableFuture<List<Match>> matchesInProgress() {
+        return CompletableFuture.supplyAsync(board::matchesInProgress, executor);
+    }
+
+    /**
+     * @return number of score updates replaced by later update of the same match, before they were applied
+     */
+    public long coalescedUpdates() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Close executor, waiting for already submitted operations. Writes submitted later complete exceptionally with
+     * {@code RejectedExecutionException}.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private CompletableFuture<OperationStatus> write(String homeTeam, String awayTeam, ScoreEvent.Type type,
+                                                     int homeTeamScore, int awayTeamScore, String competition) {
+        if (isNullOrEmpty(homeTeam) || isNullOrEmpty(awayTeam) || homeTeamScore < 0 || awayTeamScore < 0) {
+            return CompletableFuture.completedFuture(OperationStatus.INVALID_INPUT);
+        }
+
+        TeamPair key = new TeamPair(homeTeam, awayTeam);
+        while (true) {
+            WriteQueue queue = queues.computeIfAbsent(key, k -> new WriteQueue());
+            Write write;
+            boolean schedule;
+            queue.lock.lock();
+            try {
+                if (queue.removed) {
+                    // queue was idle and dropped, take the new one
+                    continue;
+                }
+
+                Write last = queue.writes.peekLast();
+                if (type == ScoreEvent.Type.UPDATE && last != null && last.type == ScoreEvent.Type.UPDATE) {
+                    last.homeTeamScore = homeTeamScore;
+                    last.awayTeamScore = awayTeamScore;
+                    coalesced.increment();
+                    return last.result;
+                }
+
+                write = new Write(type, competition, homeTeamScore, awayTeamScore);
+                queue.writes.addLast(write);
+                schedule = !queue.draining;
+                queue.draining = true;
+            } finally {
+                queue.lock.unlock();
+            }
+
+            if (schedule) {
+                try {
+                    executor.execute(() -> drain(key, queue));
+                } catch (RejectedExecutionException e) {
+                    reject(key, queue, e);
+                }
+            }
+            return write.result;
+        }
+    }
+
+    /**
+     * Fail all queued writes of match whose drain couldn't be scheduled, and drop the queue.
+     */
+    private void reject(TeamPair key, WriteQueue queue, RejectedExecutionException e) {
+        List<Write> rejected;
+        queue.lock.lock();
+        try {
+            rejected = List.copyOf(queue.writes);
+            queue.writes.clear();
+            queue.draining = false;
+            queue.removed = true;
+            queues.remove(key, queue);
+        } finally {
+            queue.lock.unlock();
+        }
+
+        for (Write write : rejected) {
+            write.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Apply queued writes of single match, until the queue is empty, then drop the queue.
+     */
+    private void drain(TeamPair key, WriteQueue queue) {
+        while (true) {
+            Write write;
+            int homeTeamScore;
+            int awayTeamScore;
+            queue.lock.lock();
+            try {
+                write = queue.writes.pollFirst();
+                if (write == null) {
+                    queue.draining = false;
+                    queue.removed = true;
+                    queues.remove(key, queue);
+                    return;
+                }
+                homeTeamScore = write.homeTeamScore;
+                awayTeamScore = write.awayTeamScore;
+            } finally {
+                queue.lock.unlock();
+            }
+
+            try {
+                write.result.complete(switch (write.type) {
+                    case START -> board.tryStartMatch(write.competition, key.homeTeam(), key.awayTeam());
+                    case UPDATE -> board.tryUpdateScore(key.homeTeam(), homeTeamScore, key.awayTeam(), awayTeamScore);
+                    case FINISH -> board.tryFinishMatch(key.homeTeam(), key.awayTeam());
+                });
+            } catch (RuntimeException e) {
+                write.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static boolean isNullOrEmpty(String param) {
+        return param == null || param.isBlank();
+    }
+
+    private record TeamPair(String homeTeam, String awayTeam) {
+    }
+
+    /**
+     * Writes of single match waiting to be applied. All fields are guarded by {@code lock}.
+     */
+    private static final class WriteQueue {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Write> writes = new ArrayDeque<>();
+        private boolean draining;
+        private boolean removed;
+    }
+
+    private static final class Write {
+        private final ScoreEvent.Type type;
+        private final String competition;
+        private final CompletableFuture<OperationStatus> result = new CompletableFuture<>();
+        // replaced by coalesced update, guarded by lock of the queue
+        private int homeTeamScore;
+        private int awayTeamScore;
+
+        private Write(ScoreEvent.Type type, String competition, int homeTeamScore, int awayTeamScore) {
+            this.type = type;
+            this.competition = competition;
+            this.homeTeamScore = homeTeamScore;
+            this.awayTeamScore = awayTeamScore;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.BoardEvent;
+import com.odds.scoreboard.domain.MatchSnapshot;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publisher of {@code BoardEvent}s to any number of subscribers, built on {@code SubmissionPublisher}.
+ * <p>
+ * Every subscriber has its own bounded buffer and gets events by its own demand, on threads of given executor.
+ * Writers never wait for subscribers: if buffer of a subscriber is full, event is dropped for that subscriber only
+ * and counted by {@link #droppedEvents()}. Subscriber detects drop by a gap in {@code sequence} and can resync from
+ * {@code ScoreBoard.matchesInProgress()} or {@code ScoreBoard.snapshot()}.
+ */
+public class BoardEventPublisher implements Flow.Publisher<BoardEvent>, AutoCloseable {
+    private final SubmissionPublisher<BoardEvent> publisher;
+    private final LongAdder dropped = new LongAdder();
+    private final ReentrantLock lock = new ReentrantLock();
+    // guarded by lock
+    private long sequence;
+
+    public BoardEventPublisher() {
+        this(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * @param executor          executor delivering events to subscribers
+     * @param maxBufferCapacity maximum number of buffered events per subscriber, rounded up to power of two
+     */
+    public BoardEventPublisher(Executor executor, int maxBufferCapacity) {
+        this.publisher = new SubmissionPublisher<>(executor, maxBufferCapacity);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super BoardEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * @return true if there is at least one subscriber, events are built only in that case
+     */
+    public boolean hasSubscribers() {
+        return publisher.hasSubscribers();
+    }
+
+    /**
+     * @return number of events dropped because buffer of a subscriber was full, counted once per subscriber
+     */
+    public long droppedEvents() {
+        return dropped.sum();
+    }
+
+    /**
+     * Complete all subscriptions, no events are published after that.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            publisher.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Publish event without blocking. Sequence numbers are assigned in the same order as events are offered.
+     */
+    void publish(BoardEvent.Type type, MatchSnapshot match, int rank, int previousRank) {
+        lock.lock();
+        try {
+            if (publisher.isClosed()) {
+                return;
+            }
+
+            BoardEvent event = new BoardEvent(++sequence, type, match, rank, previousRank);
+            publisher.offer(event, (subscriber, item) -> {
+                dropped.increment();
+                return false;
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.ScoreEvent;
+
+import java.lang.invoke.VarHandle;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded log of board changes: version of the board and identifiers of matches changed by the last
+ * {@code capacity} writes.
+ * <p>
+ * Log is ring buffer written without locking. Every write takes next version from atomic counter, fills slot of that
+ * version and publishes it by release store of the version into the slot. Readers validate versions of slots, so slot
+ * which is not filled yet is waited for and slot already overwritten by newer write is detected.
+ */
+final class ChangeLog {
+    private final AtomicLong version = new AtomicLong();
+    private final int mask;
+    private final AtomicLongArray versions;
+    private final long[] matchIds;
+    private final byte[] types;
+
+    /**
+     * @param capacity number of retained changes, power of two
+     */
+    ChangeLog(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be power of two: " + capacity);
+        }
+
+        this.mask = capacity - 1;
+        this.versions = new AtomicLongArray(capacity);
+        this.matchIds = new long[capacity];
+        this.types = new byte[capacity];
+    }
+
+    /**
+     * @return version of the board, which is number of successful writes
+     */
+    long version() {
+        return version.get();
+    }
+
+    void append(ScoreEvent.Type type, long matchId) {
+        long newVersion = version.incrementAndGet();
+        int slot = (int) newVersion & mask;
+        matchIds[slot] = matchId;
+        types[slot] = (byte) type.ordinal();
+        versions.setRelease(slot, newVersion);
+    }
+
+    /**
+     * Matches changed after version {@code from} up to version {@code to}, in the order of their first change.
+     * Value is true if match was started in that range.
+     *
+     * @return changed matches, or null if range is not retained in the log anymore
+     */
+    Map<Long, Boolean> changes(long from, long to) {
+        if (from < 0 || from > to || to - from > versions.length()) {
+            return null;
+        }
+
+        Map<Long, Boolean> changes = new LinkedHashMap<>();
+        for (long v = from + 1; v <= to; v++) {
+            int slot = (int) v & mask;
+            long slotVersion;
+            while ((slotVersion = versions.getAcquire(slot)) < v) {
+                // version is taken, but slot is not published by its writer yet
+                Thread.onSpinWait();
+            }
+            if (slotVersion != v) {
+                return null;
+            }
+
+            boolean started = types[slot] == ScoreEvent.Type.START.ordinal();
+            changes.merge(matchIds[slot], started, Boolean::logicalOr);
+        }
+
+        // slots read above could be overwritten while reading, only if log wrapped around since 'from'
+        VarHandle.loadLoadFence();
+        if (version.get() - from > versions.length()) {
+            return null;
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,268 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.OperationStatus;
+import com.odds.scoreboard.domain.ScoreEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ingestion pipeline in front of {@code ScoreBoard}, decoupling many producers of score feed events from writes to
+ * the board.
+ * <p>
+ * Producers put events into bounded, preallocated ring buffer of reusable slots, and single applier thread drains it
+ * into the board. Events available at once are applied as one storage batch, the same way as by
+ * {@code ScoreBoard.applyBatch}, so producers never contend on structures of the storage, only on claiming of a slot.
+ * <p>
+ * Submitting doesn't allocate: slot is claimed by atomic increment of sequence, filled in place and published by
+ * release store of its sequence. If ring buffer is full, producer waits for the applier, by given
+ * {@code WaitStrategy}, which is used also by the applier waiting for next event.
+ * <p>
+ * Events are applied asynchronously by non-throwing board operations, in order of claimed slots, so events of one
+ * producer are applied in order it submitted them. Their results are only counted, by {@link #applied()} and
+ * {@link #failed()}.
+ */
+public class IngestionPipeline implements AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 4096;
+    public static final int DEFAULT_MAX_BATCH = 256;
+
+    private static final byte START = 0;
+    private static final byte UPDATE = 1;
+    private static final byte FINISH = 2;
+
+    private final ScoreBoard board;
+    private final WaitStrategy waitStrategy;
+    private final int maxBatch;
+    private final int mask;
+
+    // slots, reused for every lap of the ring buffer
+    private final byte[] types;
+    private final String[] homeTeams;
+    private final int[] homeScores;
+    private final String[] awayTeams;
+    private final int[] awayScores;
+    private final String[] competitions;
+    // sequence of event published in slot, -1 if none yet
+    private final AtomicLongArray published;
+
+    private final AtomicLong claimed = new AtomicLong();
+    // all sequences below are applied and their slots are free
+    private final AtomicLong consumed = new AtomicLong();
+
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Thread applier;
+    // number of events of current batch already applied, used only by applier
+    private int batchDone;
+    private volatile boolean running = true;
+
+    public IngestionPipeline(ScoreBoard board, WaitStrategy waitStrategy) {
+        this(board, DEFAULT_CAPACITY, waitStrategy, DEFAULT_MAX_BATCH);
+    }
+
+    /**
+     * Create pipeline and start its applier thread.
+     *
+     * @param board        board to apply events to
+     * @param capacity     number of slots of ring buffer, power of two
+     * @param waitStrategy wait strategy of producers and applier
+     * @param maxBatch     maximum number of events applied as one batch
+     */
+    public IngestionPipeline(ScoreBoard board, int capacity, WaitStrategy waitStrategy, int maxBatch) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be power of two: " + capacity);
+        }
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("Invalid maximum batch: " + maxBatch);
+        }
+
+        this.board = board;
+        this.waitStrategy = waitStrategy;
+        this.maxBatch = maxBatch;
+        this.mask = capacity - 1;
+
+        types = new byte[capacity];
+        homeTeams = new String[capacity];
+        homeScores = new int[capacity];
+        awayTeams = new String[capacity];
+        awayScores = new int[capacity];
+        competitions = new String[capacity];
+        published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+
+        applier = Thread.ofPlatform().name("scoreboard-applier").daemon().start(this::applyEvents);
+    }
+
+    /**
+     * Submit start of match, see {@link ScoreBoard#tryStartMatch(String, String)}.
+     */
+    public void submitStart(String homeTeam, String awayTeam) {
+        submit(START, homeTeam, 0, awayTeam, 0, null);
+    }
+
+    /**
+     * Submit start of match of {@code competition}, see {@link ScoreBoard#tryStartMatch(String, String, String)}.
+     */
+    public void submitStart(String competition, String homeTeam, String awayTeam) {
+        submit(START, homeTeam, 0, awayTeam, 0, competition);
+    }
+
+    /**
+     * Submit update of score, see {@link ScoreBoard#tryUpdateScore(String, int, String, int)}.
+     */
+    public void submitUpdate(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+        submit(UPDATE, homeTeam, homeTeamScore, awayTeam, awayTeamScore, null);
+    }
+
+    /**
+     * Submit finish of match, see {@link ScoreBoard#tryFinishMatch(String, String)}.
+     */
+    public void submitFinish(String homeTeam, String awayTeam) {
+        submit(FINISH, homeTeam, 0, awayTeam, 0, null);
+    }
+
+    /**
+     * Submit {@code event} of score feed.
+     *
+     * @param event event to apply, not null
+     */
+    public void submit(ScoreEvent event) {
+        byte type = switch (event.type()) {
+            case START -> START;
+            case UPDATE -> UPDATE;
+            case FINISH -> FINISH;
+        };
+        submit(type, event.homeTeam(), event.homeTeamScore(), event.awayTeam(), event.awayTeamScore(),
+                event.competition());
+    }
+
+    /**
+     * @return number of applied events, which changed the board
+     */
+    public long applied() {
+        return applied.sum();
+    }
+
+    /**
+     * @return number of applied events, which were rejected by the board, e.g. update of match not on board
+     */
+    public long failed() {
+        return failed.sum();
+    }
+
+    /**
+     * Stop accepting events, apply all already submitted events and stop applier thread. Events submitted
+     * concurrently with closing are not guaranteed to be applied.
+     * <p>
+     * Waits for the applier even if calling thread is interrupted, then restores its interrupt status.
+     */
+    @Override
+    public void close() {
+        running = false;
+        boolean interrupted = false;
+        while (true) {
+            try {
+                applier.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(byte type, String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore,
+                        String competition) {
+        if (!running) {
+            throw new IllegalStateException("Pipeline is closed");
+        }
+
+        long sequence = claimed.getAndIncrement();
+        while (sequence - consumed.get() > mask) {
+            waitStrategy.idle();
+        }
+
+        int slot = (int) sequence & mask;
+        types[slot] = type;
+        homeTeams[slot] = homeTeam;
+        homeScores[slot] = homeTeamScore;
+        awayTeams[slot] = awayTeam;
+        awayScores[slot] = awayTeamScore;
+        competitions[slot] = competition;
+        published.lazySet(slot, sequence);
+    }
+
+    private void applyEvents() {
+        long next = 0;
+        while (true) {
+            int available = 0;
+            while (available < maxBatch && published.get((int) (next + available) & mask) == next + available) {
+                available++;
+            }
+
+            if (available == 0) {
+                if (!running && claimed.get() == next) {
+                    return;
+                }
+                waitStrategy.idle();
+                continue;
+            }
+
+            long from = next;
+            int count = available;
+            batchDone = 0;
+            try {
+                board.batch(() -> {
+                    for (long sequence = from; sequence < from + count; sequence++) {
+                        apply((int) sequence & mask);
+                        batchDone++;
+                    }
+                });
+            } catch (RuntimeException e) {
+                // thrown by storage batch itself, e.g. failed journal sync, must not stop the applier
+                for (long sequence = from + batchDone; sequence < from + count; sequence++) {
+                    release((int) sequence & mask);
+                    failed.increment();
+                }
+            }
+            next += available;
+            consumed.lazySet(next);
+        }
+    }
+
+    private void apply(int slot) {
+        OperationStatus status;
+        try {
+            status = switch (types[slot]) {
+                case START -> board.tryStartMatch(competitions[slot], homeTeams[slot], awayTeams[slot]);
+                case UPDATE -> board.tryUpdateScore(homeTeams[slot], homeScores[slot],
+                        awayTeams[slot], awayScores[slot]);
+                default -> board.tryFinishMatch(homeTeams[slot], awayTeams[slot]);
+            };
+        } catch (RuntimeException e) {
+            // e.g. failed journal write of storage, must not stop the applier
+            status = null;
+        }
+        release(slot);
+
+        if (status == OperationStatus.OK) {
+            applied.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    /**
+     * Release references of the slot, so it doesn't keep team names reachable.
+     */
+    private void release(int slot) {
+        homeTeams[slot] = null;
+        awayTeams[slot] = null;
+        competitions[slot] = null;
+    }
+}
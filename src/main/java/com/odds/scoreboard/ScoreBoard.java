@@ -1,47 +1,163 @@
 package com.odds.scoreboard;
 
+import com.odds.scoreboard.domain.BoardDelta;
+import com.odds.scoreboard.domain.BoardEvent;
+import com.odds.scoreboard.domain.BoardSnapshot;
 import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchChange;
 import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchSnapshot;
+import com.odds.scoreboard.domain.MatchView;
+import com.odds.scoreboard.domain.OperationStatus;
+import com.odds.scoreboard.domain.ScoreEvent;
+import com.odds.scoreboard.domain.TeamRegistry;
 import com.odds.scoreboard.infrastructure.MatchStorage;
+import com.odds.scoreboard.infrastructure.exception.KeyExistsException;
+import com.odds.scoreboard.infrastructure.exception.KeyNotFoundException;
+import com.odds.scoreboard.metrics.BoardMetrics;
+import com.odds.scoreboard.metrics.BoardOperation;
+import com.odds.scoreboard.metrics.BoardOperationEvent;
+import com.odds.scoreboard.metrics.MatchFinishedEvent;
+import com.odds.scoreboard.metrics.MatchStartedEvent;
+import com.odds.scoreboard.metrics.ScoreUpdatedEvent;
+import com.odds.scoreboard.metrics.SummaryComputedEvent;
+
+import jdk.jfr.EventType;
 
 import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * ScoreBoard for keeping track about all ongoing matches and their scores.
- * All operations are thread safe, but don't entail any locking/synchronization.
+ * All operations are thread safe, but don't entail any locking/synchronization, unless storage requires it.
  * If certain order of operations performed by different threads is expected, external synchronization must be used
+ * <p>
+ * Every write operation has non-throwing {@code try} variant, which reports result by {@code OperationStatus}.
+ * Those are preferred on hot paths, where duplicate or out-of-order events are expected.
+ * <p>
+ * Changes of the board are pushed to subscribers of {@link #events()}. Events are built only while there is at least
+ * one subscriber, then every write is run as storage batch together with lookup of match ranks, so with storage
+ * serializing its writers (snapshot mode or {@code SlabMatchStorage}) events are published in the same order as writes
+ * are done.
+ * <p>
+ * Result and latency of every operation is reported to {@code BoardMetrics}, by default {@link BoardMetrics#NONE},
+ * then operations don't read the clock at all. Every operation is also recorded as Java Flight Recorder event, e.g.
+ * {@code MatchStartedEvent}, which costs nothing while the event is disabled.
  */
 public class ScoreBoard {
+    /**
+     * Number of last writes retained for {@link #changesSince(long)}.
+     */
+    static final int CHANGE_LOG_CAPACITY = 4096;
+
+    /**
+     * Types of recorded events, checked before every operation creates its event, so operations don't allocate while
+     * the event is disabled.
+     */
+    private static final EventType STARTED_EVENT_TYPE = EventType.getEventType(MatchStartedEvent.class);
+    private static final EventType UPDATED_EVENT_TYPE = EventType.getEventType(ScoreUpdatedEvent.class);
+    private static final EventType FINISHED_EVENT_TYPE = EventType.getEventType(MatchFinishedEvent.class);
+    private static final EventType SUMMARY_EVENT_TYPE = EventType.getEventType(SummaryComputedEvent.class);
+
+    private static final Comparator<Match> SUMMARY_ORDER = Comparator.comparing(Match::getTotalScore)
+            .thenComparing(Match::getStartTime)
+            .reversed();
+
     private final MatchStorage storage;
+    private final TeamRegistry teams;
     private final Clock clock;
+    private final BoardEventPublisher events;
+    private final BoardMetrics metrics;
+    private final boolean timed;
+    private final ChangeLog changes = new ChangeLog(CHANGE_LOG_CAPACITY);
 
     public ScoreBoard(MatchStorage storage, Clock clock) {
+        this(storage, new TeamRegistry(), clock);
+    }
+
+    public ScoreBoard(MatchStorage storage, TeamRegistry teams, Clock clock) {
+        this(storage, teams, clock, new BoardEventPublisher());
+    }
+
+    /**
+     * @param storage storage of matches
+     * @param teams   registry used to build {@code MatchId} from team names
+     * @param clock   clock used for start time of matches
+     * @param events  publisher of board changes
+     */
+    public ScoreBoard(MatchStorage storage, TeamRegistry teams, Clock clock, BoardEventPublisher events) {
+        this(storage, teams, clock, events, BoardMetrics.NONE);
+    }
+
+    /**
+     * @param storage storage of matches
+     * @param teams   registry used to build {@code MatchId} from team names
+     * @param clock   clock used for start time of matches
+     * @param events  publisher of board changes
+     * @param metrics metrics receiving result and latency of every operation
+     */
+    public ScoreBoard(MatchStorage storage, TeamRegistry teams, Clock clock, BoardEventPublisher events,
+                      BoardMetrics metrics) {
         this.storage = storage;
+        this.teams = teams;
         this.clock = clock;
+        this.events = events;
+        this.metrics = metrics;
+        this.timed = metrics != BoardMetrics.NONE;
+        metrics.bind(storage::size);
     }
 
     /**
      * Start new match between {@code homeTeam} and {@code awayTeam}, with initial score 0-0
      * and save it to board.
      * <p>
-     * If match is already started, {@code KeyExistsException} is thrown.
+     * If match is already started, or with {@code TeamIndexedMatchStorage} if any of the teams plays other match,
+     * {@code KeyExistsException} is thrown.
      *
      * @param homeTeam home team name, not null, not empty
      * @param awayTeam away team name, not null, not empty
      */
     public void startMatch(String homeTeam, String awayTeam) {
-        validateNotNullOrEmpty(homeTeam, awayTeam);
+        startMatch(null, homeTeam, awayTeam);
+    }
 
-        OffsetDateTime startTime = OffsetDateTime.now(clock);
-        Match match = new Match(homeTeam, 0, awayTeam, 0, startTime);
-        MatchId matchId = new MatchId(homeTeam, awayTeam);
+    /**
+     * Start new match of {@code competition}, see {@link #startMatch(String, String)}.
+     *
+     * @param competition competition name, null for match without competition, not empty
+     * @param homeTeam    home team name, not null, not empty
+     * @param awayTeam    away team name, not null, not empty
+     */
+    public void startMatch(String competition, String homeTeam, String awayTeam) {
+        long started = startTimer();
+        MatchStartedEvent event = STARTED_EVENT_TYPE.isEnabled()
+                ? new MatchStartedEvent(competition, homeTeam, awayTeam) : null;
+        try {
+            validateNotNullOrEmpty(homeTeam, awayTeam);
+            if (competition != null) {
+                validateNotNullOrEmpty(competition);
+            }
 
-        storage.save(matchId, match);
+            OffsetDateTime startTime = OffsetDateTime.now(clock);
+            Match match = new Match(competition, homeTeam, 0, awayTeam, 0, startTime);
+            MatchId matchId = teams.matchId(homeTeam, awayTeam);
+
+            if (!events.hasSubscribers()) {
+                storage.save(matchId, match);
+                changes.append(ScoreEvent.Type.START, matchId.getId());
+            } else if (!save(matchId, match)) {
+                throw KeyExistsException.INSTANCE;
+            }
+        } catch (RuntimeException e) {
+            recordFailure(BoardOperation.START, e, started, event);
+            throw e;
+        }
+        record(BoardOperation.START, OperationStatus.OK, started, event);
     }
 
     /**
@@ -55,13 +171,29 @@ public class ScoreBoard {
      * @param awayTeamScore away team score, greater then 0
      */
     public void updateScore(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
-        validateNotNullOrEmpty(homeTeam, awayTeam);
-        validateNotNegative(homeTeamScore, awayTeamScore);
+        long started = startTimer();
+        ScoreUpdatedEvent event = UPDATED_EVENT_TYPE.isEnabled()
+                ? new ScoreUpdatedEvent(homeTeam, homeTeamScore, awayTeam, awayTeamScore) : null;
+        try {
+            validateNotNullOrEmpty(homeTeam, awayTeam);
+            validateNotNegative(homeTeamScore, awayTeamScore);
 
-        Match match = new Match(homeTeam, homeTeamScore, awayTeam, awayTeamScore);
-        MatchId matchId = new MatchId(homeTeam, awayTeam);
+            MatchId matchId = teams.findMatchId(homeTeam, awayTeam);
+            if (matchId == null) {
+                throw KeyNotFoundException.INSTANCE;
+            }
 
-        storage.update(matchId, match);
+            if (!events.hasSubscribers()) {
+                storage.update(matchId, homeTeamScore, awayTeamScore);
+                changes.append(ScoreEvent.Type.UPDATE, matchId.getId());
+            } else if (!update(matchId, homeTeamScore, awayTeamScore)) {
+                throw KeyNotFoundException.INSTANCE;
+            }
+        } catch (RuntimeException e) {
+            recordFailure(BoardOperation.UPDATE, e, started, event);
+            throw e;
+        }
+        record(BoardOperation.UPDATE, OperationStatus.OK, started, event);
     }
 
     /**
@@ -73,11 +205,148 @@ public class ScoreBoard {
      * @param awayTeam away team name, not null, not empty
      */
     public void finishMatch(String homeTeam, String awayTeam) {
-        validateNotNullOrEmpty(homeTeam, awayTeam);
+        long started = startTimer();
+        MatchFinishedEvent event = FINISHED_EVENT_TYPE.isEnabled()
+                ? new MatchFinishedEvent(homeTeam, awayTeam) : null;
+        try {
+            validateNotNullOrEmpty(homeTeam, awayTeam);
 
-        MatchId matchId = new MatchId(homeTeam, awayTeam);
+            MatchId matchId = teams.findMatchId(homeTeam, awayTeam);
+            if (matchId == null) {
+                throw KeyNotFoundException.INSTANCE;
+            }
 
-        storage.delete(matchId);
+            if (!events.hasSubscribers()) {
+                storage.delete(matchId);
+                changes.append(ScoreEvent.Type.FINISH, matchId.getId());
+            } else if (!delete(matchId)) {
+                throw KeyNotFoundException.INSTANCE;
+            }
+        } catch (RuntimeException e) {
+            recordFailure(BoardOperation.FINISH, e, started, event);
+            throw e;
+        }
+        record(BoardOperation.FINISH, OperationStatus.OK, started, event);
+    }
+
+    /**
+     * Non-throwing variant of {@link #startMatch(String, String)}.
+     *
+     * @param homeTeam home team name
+     * @param awayTeam away team name
+     * @return {@code OK}, {@code INVALID_INPUT} or {@code ALREADY_EXISTS}
+     */
+    public OperationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        return tryStartMatch(null, homeTeam, awayTeam);
+    }
+
+    /**
+     * Non-throwing variant of {@link #startMatch(String, String, String)}.
+     *
+     * @param competition competition name, null for match without competition
+     * @param homeTeam    home team name
+     * @param awayTeam    away team name
+     * @return {@code OK}, {@code INVALID_INPUT} or {@code ALREADY_EXISTS}
+     */
+    public OperationStatus tryStartMatch(String competition, String homeTeam, String awayTeam) {
+        long started = startTimer();
+        MatchStartedEvent event = STARTED_EVENT_TYPE.isEnabled()
+                ? new MatchStartedEvent(competition, homeTeam, awayTeam) : null;
+        if (isNullOrEmpty(homeTeam) || isNullOrEmpty(awayTeam) || (competition != null && competition.isBlank())) {
+            return record(BoardOperation.START, OperationStatus.INVALID_INPUT, started, event);
+        }
+
+        try {
+            OffsetDateTime startTime = OffsetDateTime.now(clock);
+            Match match = new Match(competition, homeTeam, 0, awayTeam, 0, startTime);
+            MatchId matchId = teams.matchId(homeTeam, awayTeam);
+
+            return record(BoardOperation.START,
+                    save(matchId, match) ? OperationStatus.OK : OperationStatus.ALREADY_EXISTS, started, event);
+        } catch (RuntimeException e) {
+            recordFailure(BoardOperation.START, e, started, event);
+            throw e;
+        }
+    }
+
+    /**
+     * Non-throwing variant of {@link #updateScore(String, int, String, int)}.
+     *
+     * @param homeTeam      home team name
+     * @param homeTeamScore home team score
+     * @param awayTeam      away team name
+     * @param awayTeamScore away team score
+     * @return {@code OK}, {@code INVALID_INPUT} or {@code NOT_FOUND}
+     */
+    public OperationStatus tryUpdateScore(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+        long started = startTimer();
+        ScoreUpdatedEvent event = UPDATED_EVENT_TYPE.isEnabled()
+                ? new ScoreUpdatedEvent(homeTeam, homeTeamScore, awayTeam, awayTeamScore) : null;
+        if (isNullOrEmpty(homeTeam) || isNullOrEmpty(awayTeam) || homeTeamScore < 0 || awayTeamScore < 0) {
+            return record(BoardOperation.UPDATE, OperationStatus.INVALID_INPUT, started, event);
+        }
+
+        try {
+            MatchId matchId = teams.findMatchId(homeTeam, awayTeam);
+
+            return record(BoardOperation.UPDATE,
+                    matchId != null && update(matchId, homeTeamScore, awayTeamScore)
+                            ? OperationStatus.OK : OperationStatus.NOT_FOUND,
+                    started, event);
+        } catch (RuntimeException e) {
+            recordFailure(BoardOperation.UPDATE, e, started, event);
+            throw e;
+        }
+    }
+
+    /**
+     * Non-throwing variant of {@link #finishMatch(String, String)}.
+     *
+     * @param homeTeam home team name
+     * @param awayTeam away team name
+     * @return {@code OK}, {@code INVALID_INPUT} or {@code NOT_FOUND}
+     */
+    public OperationStatus tryFinishMatch(String homeTeam, String awayTeam) {
+        long started = startTimer();
+        MatchFinishedEvent event = FINISHED_EVENT_TYPE.isEnabled()
+                ? new MatchFinishedEvent(homeTeam, awayTeam) : null;
+        if (isNullOrEmpty(homeTeam) || isNullOrEmpty(awayTeam)) {
+            return record(BoardOperation.FINISH, OperationStatus.INVALID_INPUT, started, event);
+        }
+
+        try {
+            MatchId matchId = teams.findMatchId(homeTeam, awayTeam);
+
+            return record(BoardOperation.FINISH,
+                    matchId != null && delete(matchId) ? OperationStatus.OK : OperationStatus.NOT_FOUND,
+                    started, event);
+        } catch (RuntimeException e) {
+            recordFailure(BoardOperation.FINISH, e, started, event);
+            throw e;
+        }
+    }
+
+    /**
+     * Apply batch of {@code events} in given order, as if they were applied one by one by
+     * {@link #tryStartMatch(String, String, String)}, {@link #tryUpdateScore(String, int, String, int)} and
+     * {@link #tryFinishMatch(String, String)}.
+     * <p>
+     * Failure of one event doesn't stop the batch, instead every event gets its own result code. Whole batch is run as
+     * one storage batch, see {@link MatchStorage#batch(Runnable)}, so locking and publishing of snapshot are done once
+     * per batch, not once per event.
+     *
+     * @param events events to apply, not null
+     * @return result of every event, in the same order as {@code events}
+     */
+    public List<OperationStatus> applyBatch(List<ScoreEvent> events) {
+        OperationStatus[] results = new OperationStatus[events.size()];
+        storage.batch(() -> {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = apply(events.get(i));
+            }
+        });
+
+        return Arrays.asList(results);
     }
 
     /**
@@ -85,19 +354,368 @@ public class ScoreBoard {
      * Matches are ordered by their total score descending. If they have same total score, ordering will be by the
      * most recently started match.
      * <p>
+     * Ordering is maintained by ranked index of the storage on every write, so read only verifies it by single pass
+     * and sorts only matches of storage which doesn't keep them ordered.
+     * <p>
      * Returned list is mutable, but is copy of matches from the board, so changes on that list cannot affect the board.
      *
      * @return ordered list of matches
      */
     public List<Match> matchesInProgress() {
+        long started = startTimer();
+        SummaryComputedEvent event = SUMMARY_EVENT_TYPE.isEnabled() ? new SummaryComputedEvent(null, 0) : null;
+        List<Match> matches = ordered(storage.getAll());
+        recordSummary(matches.size(), started, event);
+        return matches;
+    }
+
+    /**
+     * Get list of matches in progress of {@code competition}, ordered same way as {@link #matchesInProgress()}.
+     * <p>
+     * With {@code CompetitionMatchStorage} every competition is ordered separately, so cost is proportional to size
+     * of the competition. Other storages filter all matches, see {@link MatchStorage#getByCompetition(String)}.
+     *
+     * @param competition competition name, null for matches without competition
+     * @return ordered list of matches of the competition
+     */
+    public List<Match> matchesInProgress(String competition) {
+        long started = startTimer();
+        SummaryComputedEvent event = SUMMARY_EVENT_TYPE.isEnabled() ? new SummaryComputedEvent(competition, 0) : null;
+        List<Match> matches = storage.getByCompetition(competition);
+        recordSummary(matches.size(), started, event);
+        return matches;
+    }
+
+    /**
+     * Get match in progress, in which {@code team} plays as home or away team.
+     * <p>
+     * With {@code TeamIndexedMatchStorage} the match is looked up in index by team, in O(1), and a team can't be
+     * started in second match while it plays. Other storages scan all matches, see
+     * {@link MatchStorage#getByTeam(String)}.
+     *
+     * @param team team name, not null, not empty
+     * @return copy of match of the team, or null if team doesn't play now
+     */
+    public Match currentMatch(String team) {
+        validateNotNullOrEmpty(team);
+
+        return storage.getByTeam(team);
+    }
+
+    /**
+     * Get top {@code n} matches in progress, ordered same way as {@link #matchesInProgress()}.
+     * <p>
+     * Only returned matches are copied, so cost is proportional to {@code n}, not to the number of matches on board.
+     *
+     * @param n maximum number of matches to return, not negative
+     * @return ordered list of at most {@code n} matches
+     */
+    public List<Match> topMatches(int n) {
+        return matchesInProgress(0, n);
+    }
+
+    /**
+     * Get one page of matches in progress, ordered same way as {@link #matchesInProgress()}.
+     * <p>
+     * Only returned matches are copied, so cost is proportional to {@code offset + limit}, not to the number
+     * of matches on board.
+     *
+     * @param offset number of top matches to skip, not negative
+     * @param limit  maximum number of matches to return, not negative
+     * @return ordered list of at most {@code limit} matches, empty if {@code offset} is beyond the end of board
+     */
+    public List<Match> matchesInProgress(int offset, int limit) {
+        validateNotNegative(offset, limit);
+
+        long started = startTimer();
+        SummaryComputedEvent event = SUMMARY_EVENT_TYPE.isEnabled() ? new SummaryComputedEvent(null, offset) : null;
+        List<Match> matches = storage.getRange(offset, limit);
+        recordSummary(matches.size(), started, event);
+        return matches;
+    }
+
+    /**
+     * Copy one page of matches in progress into caller-owned {@code views}, ordered same way as
+     * {@link #matchesInProgress()}.
+     * <p>
+     * Views are refilled in place and reference team names held by storage, so with {@code ConcurrentMatchStorage},
+     * {@code SlabMatchStorage} or {@code MappedMatchStorage} summary is read without any allocation in steady state,
+     * see {@link MatchStorage#copyRange(int, MatchView[])}. Every reader must keep its own views.
+     *
+     * @param offset number of top matches to skip, not negative
+     * @param views  views to refill, e.g. created by {@link MatchView#newArray(int)}, their number is the page size
+     * @return number of refilled views, less than length of {@code views} at the end of board
+     */
+    public int matchesInProgress(int offset, MatchView[] views) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Invalid input: Params negative");
+        }
+
+        long started = startTimer();
+        SummaryComputedEvent event = SUMMARY_EVENT_TYPE.isEnabled() ? new SummaryComputedEvent(null, offset) : null;
+        int copied = storage.copyRange(offset, views);
+        recordSummary(copied, started, event);
+        return copied;
+    }
+
+    /**
+     * Get consistent snapshot of matches in progress, ordered same way as {@link #matchesInProgress()}.
+     * <p>
+     * Unlike {@link #matchesInProgress()}, no matches are copied and all matches are from the same version of
+     * the board, so there are no stale or torn reads. Snapshot is immutable and can be shared between threads.
+     * <p>
+     * Storage must be created in snapshot mode, otherwise {@code IllegalStateException} is thrown.
+     *
+     * @return latest snapshot of the board
+     */
+    public BoardSnapshot snapshot() {
+        return storage.snapshot();
+    }
+
+    /**
+     * Version of the board, increased by one by every successful start, update or finish of a match.
+     *
+     * @return current version of the board, 0 for board without any writes
+     */
+    public long version() {
+        return changes.version();
+    }
+
+    /**
+     * Get matches added, changed or removed since {@code version} of the board, with their current state and rank.
+     * <p>
+     * Delta is computed from log of last {@value #CHANGE_LOG_CAPACITY} writes. If {@code version} is older than that,
+     * or unknown to this board, or if more matches were changed than there are on board, full state of the board is
+     * returned instead, see {@link BoardDelta}. Ranks are looked up in storage for every changed match, see
+     * {@link MatchStorage#rankOf(MatchId)} for its cost.
+     * <p>
+     * States of matches are read after the version of delta is taken, so they can already contain later changes.
+     * Such changes are returned again in next delta, which is harmless, since states are absolute.
+     *
+     * @param version version of the board known by caller, usually {@code version} of previous delta
+     * @return changes leading from {@code version} to version of returned delta
+     */
+    public BoardDelta changesSince(long version) {
+        long currentVersion = changes.version();
+        Map<Long, Boolean> changed = changes.changes(version, currentVersion);
+        if (changed == null || changed.size() > storage.size()) {
+            return fullDelta(currentVersion);
+        }
+
+        List<MatchChange> matchChanges = new ArrayList<>(changed.size());
+        changed.forEach((id, started) -> {
+            MatchId matchId = MatchId.decode(id);
+            String homeTeam = teams.nameOf(matchId.getHomeTeamId());
+            String awayTeam = teams.nameOf(matchId.getAwayTeamId());
+
+            Match match = storage.get(matchId);
+            if (match == null) {
+                matchChanges.add(new MatchChange(MatchChange.Type.REMOVED, homeTeam, awayTeam, null, -1));
+            } else {
+                MatchChange.Type type = started ? MatchChange.Type.ADDED : MatchChange.Type.CHANGED;
+                matchChanges.add(new MatchChange(type, homeTeam, awayTeam, MatchSnapshot.of(match),
+                        storage.rankOf(matchId)));
+            }
+        });
+
+        return new BoardDelta(currentVersion, false, matchChanges);
+    }
+
+    /**
+     * Publisher of board changes: {@code STARTED}, {@code SCORE_CHANGED}, {@code RANK_CHANGED} and {@code FINISHED}
+     * events. Slow subscriber never stalls writers, events which don't fit into its buffer are dropped for it.
+     *
+     * @return publisher of board changes
+     */
+    public BoardEventPublisher events() {
+        return events;
+    }
+
+    /**
+     * Run {@code writes} performed on this board as one storage batch, see {@link MatchStorage#batch(Runnable)}.
+     */
+    void batch(Runnable writes) {
+        storage.batch(writes);
+    }
+
+    private boolean save(MatchId matchId, Match match) {
+        boolean[] saved = new boolean[1];
+        if (!events.hasSubscribers()) {
+            saved[0] = storage.trySave(matchId, match);
+        } else {
+            storage.batch(() -> {
+                saved[0] = storage.trySave(matchId, match);
+                if (saved[0]) {
+                    publish(BoardEvent.Type.STARTED, storage.get(matchId), storage.rankOf(matchId), -1);
+                }
+            });
+        }
+
+        if (saved[0]) {
+            changes.append(ScoreEvent.Type.START, matchId.getId());
+        }
+        return saved[0];
+    }
+
+    private boolean update(MatchId matchId, int homeTeamScore, int awayTeamScore) {
+        boolean[] updated = new boolean[1];
+        if (!events.hasSubscribers()) {
+            updated[0] = storage.tryUpdate(matchId, homeTeamScore, awayTeamScore);
+        } else {
+            storage.batch(() -> {
+                int previousRank = storage.rankOf(matchId);
+                updated[0] = storage.tryUpdate(matchId, homeTeamScore, awayTeamScore);
+                if (updated[0]) {
+                    Match match = storage.get(matchId);
+                    int rank = storage.rankOf(matchId);
+                    publish(BoardEvent.Type.SCORE_CHANGED, match, rank, previousRank);
+                    if (rank != previousRank) {
+                        publish(BoardEvent.Type.RANK_CHANGED, match, rank, previousRank);
+                    }
+                }
+            });
+        }
+
+        if (updated[0]) {
+            changes.append(ScoreEvent.Type.UPDATE, matchId.getId());
+        }
+        return updated[0];
+    }
+
+    private boolean delete(MatchId matchId) {
+        boolean[] deleted = new boolean[1];
+        if (!events.hasSubscribers()) {
+            deleted[0] = storage.tryDelete(matchId);
+        } else {
+            storage.batch(() -> {
+                Match match = storage.get(matchId);
+                int previousRank = storage.rankOf(matchId);
+                deleted[0] = storage.tryDelete(matchId);
+                if (deleted[0]) {
+                    publish(BoardEvent.Type.FINISHED, match, -1, previousRank);
+                }
+            });
+        }
+
+        if (deleted[0]) {
+            changes.append(ScoreEvent.Type.FINISH, matchId.getId());
+        }
+        return deleted[0];
+    }
+
+    private BoardDelta fullDelta(long version) {
         List<Match> matches = storage.getAll();
-        Comparator<Match> cmp = Comparator.comparing(Match::getTotalScore)
-                .thenComparing(Match::getStartTime)
-                .reversed();
+        List<MatchChange> matchChanges = new ArrayList<>(matches.size());
+        for (int rank = 0; rank < matches.size(); rank++) {
+            Match match = matches.get(rank);
+            matchChanges.add(new MatchChange(MatchChange.Type.ADDED, match.getHomeTeamName(), match.getAwayTeamName(),
+                    MatchSnapshot.of(match), rank));
+        }
+
+        return new BoardDelta(version, true, matchChanges);
+    }
+
+    /**
+     * Without storage serializing its writers, match can be changed concurrently between the write and its lookup,
+     * then event is skipped.
+     */
+    private void publish(BoardEvent.Type type, Match match, int rank, int previousRank) {
+        if (match != null) {
+            events.publish(type, MatchSnapshot.of(match), rank, previousRank);
+        }
+    }
+
+    private OperationStatus apply(ScoreEvent event) {
+        if (event == null || event.type() == null) {
+            return OperationStatus.INVALID_INPUT;
+        }
+
+        return switch (event.type()) {
+            case START -> tryStartMatch(event.competition(), event.homeTeam(), event.awayTeam());
+            case UPDATE -> tryUpdateScore(event.homeTeam(), event.homeTeamScore(),
+                    event.awayTeam(), event.awayTeamScore());
+            case FINISH -> tryFinishMatch(event.homeTeam(), event.awayTeam());
+        };
+    }
+
+    private long startTimer() {
+        return timed ? System.nanoTime() : 0;
+    }
+
+    private OperationStatus record(BoardOperation operation, OperationStatus status, long started,
+                                   BoardOperationEvent event) {
+        if (event != null) {
+            event.complete(status);
+        }
+        if (timed) {
+            metrics.recorded(operation, status, System.nanoTime() - started);
+        }
+        return status;
+    }
+
+    /**
+     * Record exception thrown by operation, as result it reports or as failure, if it's unexpected.
+     */
+    private void recordFailure(BoardOperation operation, RuntimeException e, long started, BoardOperationEvent event) {
+        OperationStatus status = statusOf(e);
+        if (event != null) {
+            event.complete(status);
+        }
+        if (!timed) {
+            return;
+        }
 
-        return matches.stream()
-                .sorted(cmp)
-                .collect(Collectors.toCollection(ArrayList::new));
+        long duration = System.nanoTime() - started;
+        if (status != null) {
+            metrics.recorded(operation, status, duration);
+        } else {
+            metrics.failed(operation, duration);
+        }
+    }
+
+    /**
+     * @return result reported by exception, or null if it's unexpected
+     */
+    private static OperationStatus statusOf(RuntimeException e) {
+        if (e instanceof KeyExistsException) {
+            return OperationStatus.ALREADY_EXISTS;
+        } else if (e instanceof KeyNotFoundException) {
+            return OperationStatus.NOT_FOUND;
+        } else if (e instanceof IllegalArgumentException) {
+            return OperationStatus.INVALID_INPUT;
+        }
+        return null;
+    }
+
+    /**
+     * Record read summary. Event is ended before size of board is looked up, so lookup isn't part of its duration.
+     *
+     * @param event event of the summary, null if it wasn't created because it's disabled
+     */
+    private void recordSummary(int matches, long started, SummaryComputedEvent event) {
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.complete(matches, storage.size());
+            }
+        }
+        if (timed) {
+            metrics.recorded(BoardOperation.SUMMARY, OperationStatus.OK, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * @return {@code matches} if they are already in summary order, otherwise their sorted copy
+     */
+    private static List<Match> ordered(List<Match> matches) {
+        for (int i = 1; i < matches.size(); i++) {
+            if (SUMMARY_ORDER.compare(matches.get(i - 1), matches.get(i)) > 0) {
+                List<Match> sorted = new ArrayList<>(matches);
+                sorted.sort(SUMMARY_ORDER);
+                return sorted;
+            }
+        }
+        return matches;
     }
 
     private void validateNotNullOrEmpty(String... params) {
@@ -115,4 +733,8 @@ public class ScoreBoard {
             }
         }
     }
+
+    private static boolean isNullOrEmpty(String param) {
+        return param == null || param.isBlank();
+    }
 }
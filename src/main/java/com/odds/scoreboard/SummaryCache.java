@@ -0,0 +1,113 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.MatchSnapshot;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-through cache of summary of matches in progress, for boards read much more often than written.
+ * <p>
+ * Cached summary is tagged by version of the board, see {@link ScoreBoard#version()}, so every write invalidates it
+ * and reader checks it by single volatile read. Stale summary is recomputed only once: first reader computes it while
+ * holding the lock, other readers wait for it and take its result, as long as it's not older than the version they
+ * asked for (single-flight).
+ * <p>
+ * Optionally, summary is kept also serialized, so it can be written to many clients without serializing it for each.
+ */
+public class SummaryCache {
+    private final ScoreBoard board;
+    private final SummarySerializer serializer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Entry entry = new Entry(-1, List.of(), null);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SummaryCache(ScoreBoard board) {
+        this(board, null);
+    }
+
+    /**
+     * @param board      cached board
+     * @param serializer serializer of summary, or null if serialized form is not needed
+     */
+    public SummaryCache(ScoreBoard board, SummarySerializer serializer) {
+        this.board = board;
+        this.serializer = serializer;
+    }
+
+    /**
+     * Summary of matches in progress, ordered same way as {@link ScoreBoard#matchesInProgress()}.
+     *
+     * @return unmodifiable list of matches, shared by all readers until next write
+     */
+    public List<MatchSnapshot> summary() {
+        return get().summary;
+    }
+
+    /**
+     * Serialized summary of matches in progress. If cache is created without serializer, {@code IllegalStateException}
+     * is thrown.
+     *
+     * @return read-only buffer with serialized summary, shared by all readers until next write
+     */
+    public ByteBuffer serializedSummary() {
+        if (serializer == null) {
+            throw new IllegalStateException("Serializer is not configured");
+        }
+        return ByteBuffer.wrap(get().serialized).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return number of reads served from cache, including readers served by recomputation of other reader
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of recomputations of summary
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    private Entry get() {
+        long version = board.version();
+        Entry current = entry;
+        if (current.version >= version) {
+            hits.increment();
+            return current;
+        }
+
+        lock.lock();
+        try {
+            current = entry;
+            if (current.version >= version) {
+                hits.increment();
+                return current;
+            }
+
+            misses.increment();
+            // version is taken before reading, so summary is at least as new as its tag
+            long newVersion = board.version();
+            List<MatchSnapshot> summary = board.matchesInProgress().stream()
+                    .map(MatchSnapshot::of)
+                    .toList();
+            byte[] serialized = serializer == null ? null : serializer.serialize(summary);
+
+            current = new Entry(newVersion, summary, serialized);
+            entry = current;
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(long version, List<MatchSnapshot> summary, byte[] serialized) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.MatchSnapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Serializer of summary of matches in progress, used by {@code SummaryCache} to keep pre-serialized summary.
+ */
+@FunctionalInterface
+public interface SummarySerializer {
+
+    /**
+     * @param summary ordered matches in progress
+     * @return serialized summary
+     */
+    byte[] serialize(List<MatchSnapshot> summary);
+
+    /**
+     * Serializer to UTF-8 JSON array of objects with fields {@code homeTeam}, {@code homeScore}, {@code awayTeam},
+     * {@code awayScore}, {@code startTime} (ISO-8601) and {@code competition}, which is left out for matches without
+     * competition.
+     *
+     * @return JSON serializer
+     */
+    static SummarySerializer json() {
+        return summary -> {
+            StringBuilder json = new StringBuilder(summary.size() * 128 + 2).append('[');
+            for (int i = 0; i < summary.size(); i++) {
+                MatchSnapshot match = summary.get(i);
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append("{\"homeTeam\":");
+                appendString(json, match.homeTeamName());
+                json.append(",\"homeScore\":").append(match.homeTeamScore());
+                json.append(",\"awayTeam\":");
+                appendString(json, match.awayTeamName());
+                json.append(",\"awayScore\":").append(match.awayTeamScore());
+                json.append(",\"startTime\":\"").append(match.startTime()).append('"');
+                if (match.competition() != null) {
+                    json.append(",\"competition\":");
+                    appendString(json, match.competition());
+                }
+                json.append('}');
+            }
+            return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        };
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,44 @@
+package com.odds.scoreboard;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How threads of {@code IngestionPipeline} wait: producer for free slot of full ring buffer, applier for next event.
+ * Strategies trade CPU for latency, from burning whole core to sleeping between checks.
+ */
+public enum WaitStrategy {
+    /**
+     * Spin on the core, lowest latency, but waiting thread keeps its core fully busy.
+     */
+    BUSY_SPIN {
+        @Override
+        void idle() {
+            Thread.onSpinWait();
+        }
+    },
+    /**
+     * Give up the core to other runnable threads, low latency while there are free cores.
+     */
+    YIELD {
+        @Override
+        void idle() {
+            Thread.yield();
+        }
+    },
+    /**
+     * Park for {@value #PARK_NANOS} nanoseconds, lowest CPU usage, but event can wait that long.
+     */
+    PARK {
+        @Override
+        void idle() {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    };
+
+    static final long PARK_NANOS = 50_000;
+
+    /**
+     * Wait once before next check of the awaited condition.
+     */
+    abstract void idle();
+}
@@ -0,0 +1,17 @@
+package com.odds.scoreboard.domain;
+
+import java.util.List;
+
+/**
+ * Matches changed since given version of the board.
+ * <p>
+ * If board couldn't compute delta, because requested version is too old, it returns full state instead: every match
+ * in progress as {@code ADDED} change, in ranked order, and {@code full} flag set. Receiver must then drop all matches
+ * it knows and not present in the delta.
+ *
+ * @param version version of the board the delta leads to, to be used in next request
+ * @param full    true if delta contains all matches in progress, instead of changed ones only
+ * @param changes changed matches, every match at most once
+ */
+public record BoardDelta(long version, boolean full, List<MatchChange> changes) {
+}
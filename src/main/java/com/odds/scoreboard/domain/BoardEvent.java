@@ -0,0 +1,26 @@
+package com.odds.scoreboard.domain;
+
+/**
+ * Change of the board, pushed to subscribers of {@code ScoreBoard}.
+ * <p>
+ * Ranks are zero-based positions in the ordering of matches in progress. Only rank of the changed match is reported,
+ * matches between {@code previousRank} and {@code rank} implicitly move by one position.
+ *
+ * @param sequence     sequence number of event, increased by one for every event, so gap means dropped events
+ * @param type         type of change
+ * @param match        state of match after change, or the final state for {@code FINISHED} event
+ * @param rank         position of match after change, -1 for {@code FINISHED} event
+ * @param previousRank position of match before change, -1 for {@code STARTED} event
+ */
+public record BoardEvent(long sequence, Type type, MatchSnapshot match, int rank, int previousRank) {
+
+    public enum Type {
+        STARTED,
+        SCORE_CHANGED,
+        FINISHED,
+        /**
+         * Sent after {@code SCORE_CHANGED}, if score change moved match to other position.
+         */
+        RANK_CHANGED
+    }
+}
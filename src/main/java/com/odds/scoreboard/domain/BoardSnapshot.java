@@ -0,0 +1,17 @@
+package com.odds.scoreboard.domain;
+
+import java.util.List;
+
+/**
+ * Immutable, versioned and consistent view of all matches on board.
+ * Every write to the board publishes new snapshot with higher version, already published snapshots never change.
+ *
+ * @param version monotonically increasing version of the board, starting with 0 for empty board
+ * @param matches unmodifiable list of matches, ordered by total score descending and start time descending
+ */
+public record BoardSnapshot(long version, List<MatchSnapshot> matches) {
+
+    public int size() {
+        return matches.size();
+    }
+}
@@ -0,0 +1,27 @@
+package com.odds.scoreboard.domain;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Final state of a match removed from board, kept in match archive.
+ *
+ * @param homeTeamName  home team name
+ * @param homeTeamScore final home team score
+ * @param awayTeamName  away team name
+ * @param awayTeamScore final away team score
+ * @param startTime     time when match was started, may be null if match was stored without it
+ * @param endTime       time when match was finished
+ * @param competition   competition or tournament the match belonged to, null if none
+ */
+public record FinishedMatch(String homeTeamName, int homeTeamScore, String awayTeamName, int awayTeamScore,
+                            OffsetDateTime startTime, OffsetDateTime endTime, String competition) {
+
+    public FinishedMatch(String homeTeamName, int homeTeamScore, String awayTeamName, int awayTeamScore,
+                         OffsetDateTime startTime, OffsetDateTime endTime) {
+        this(homeTeamName, homeTeamScore, awayTeamName, awayTeamScore, startTime, endTime, null);
+    }
+
+    public int totalScore() {
+        return homeTeamScore + awayTeamScore;
+    }
+}
@@ -15,6 +15,8 @@ public class Match {
 
     private OffsetDateTime startTime;
 
+    private String competition;
+
     public Match(String homeTeamName, int homeTeamScore, String awayTeamName, int awayTeamScore) {
         this.homeTeamName = homeTeamName;
         this.homeTeamScore = homeTeamScore;
@@ -27,9 +29,19 @@ public class Match {
         this.startTime = startTime;
     }
 
+    /**
+     * @param competition competition or tournament the match belongs to, null if none
+     */
+    public Match(String competition, String homeTeamName, int homeTeamScore, String awayTeamName, int awayTeamScore,
+                 OffsetDateTime startTime) {
+        this(homeTeamName, homeTeamScore, awayTeamName, awayTeamScore, startTime);
+        this.competition = competition;
+    }
+
     public Match(Match other) {
         this(other.homeTeamName, other.homeTeamScore, other.awayTeamName, other.awayTeamScore);
         this.startTime = other.startTime;
+        this.competition = other.competition;
     }
 
     public int getTotalScore() {
@@ -40,6 +52,30 @@ public class Match {
         return startTime;
     }
 
+    /**
+     * Start time without allocating, for readers like {@code MatchView}.
+     *
+     * @return start time of match, as nanoseconds since epoch
+     */
+    public long getStartEpochNanos() {
+        return startTime.toEpochSecond() * 1_000_000_000L + startTime.getNano();
+    }
+
+    /**
+     * @return competition or tournament the match belongs to, null if none
+     */
+    public String getCompetition() {
+        return competition;
+    }
+
+    public String getHomeTeamName() {
+        return homeTeamName;
+    }
+
+    public String getAwayTeamName() {
+        return awayTeamName;
+    }
+
     public int getHomeTeamScore() {
         return homeTeamScore;
     }
@@ -57,7 +93,7 @@ public class Match {
     }
 
     public int hashCode() {
-        return Objects.hash(homeTeamName, homeTeamScore, awayTeamName, awayTeamScore, startTime);
+        return Objects.hash(homeTeamName, homeTeamScore, awayTeamName, awayTeamScore, startTime, competition);
     }
 
     public boolean equals(Object obj) {
@@ -78,7 +114,8 @@ public class Match {
                 Objects.equals(homeTeamScore, other.homeTeamScore) &&
                 Objects.equals(awayTeamName, other.awayTeamName) &&
                 Objects.equals(awayTeamScore, other.awayTeamScore) &&
-                Objects.equals(startTime, other.startTime);
+                Objects.equals(startTime, other.startTime) &&
+                Objects.equals(competition, other.competition);
     }
 
     @Override
@@ -89,6 +126,7 @@ public class Match {
                 ", awayTeamName='" + awayTeamName + '\'' +
                 ", awayTeamScore=" + awayTeamScore +
                 ", startTime=" + startTime +
+                ", competition='" + competition + '\'' +
                 '}';
     }
 }
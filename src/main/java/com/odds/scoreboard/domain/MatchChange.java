@@ -0,0 +1,19 @@
+package com.odds.scoreboard.domain;
+
+/**
+ * Change of single match, part of {@code BoardDelta}.
+ *
+ * @param type     type of change
+ * @param homeTeam home team name
+ * @param awayTeam away team name
+ * @param match    current state of match, null for {@code REMOVED} change
+ * @param rank     current zero-based position of match in ordering of matches in progress, -1 for {@code REMOVED}
+ */
+public record MatchChange(Type type, String homeTeam, String awayTeam, MatchSnapshot match, int rank) {
+
+    public enum Type {
+        ADDED,
+        CHANGED,
+        REMOVED
+    }
+}
@@ -1,22 +1,55 @@
 package com.odds.scoreboard.domain;
 
-import java.util.Objects;
-
 /**
  * Identifier for matches between two teams.
- * It's constructed as homeTeamName + "_" + awayTeamName
+ * It's constructed from identifiers of home and away team, see {@code TeamRegistry}, packed into single {@code long}:
+ * home team identifier in upper 32 bits and away team identifier in lower 32 bits.
+ * Unlike concatenation of team names, this encoding is unambiguous and cheap to hash and compare.
  */
 public class MatchId {
-    private final String id;
+    private final long id;
+
+    public MatchId(int homeTeamId, int awayTeamId) {
+        this.id = encode(homeTeamId, awayTeamId);
+    }
 
-    public MatchId(String homeTeam, String awayTeam) {
-        this.id = homeTeam + "_" + awayTeam;
+    private MatchId(long id) {
+        this.id = id;
     }
 
-    public String getId() {
+    /**
+     * Encode match identifier as primitive {@code long}, without creating {@code MatchId}.
+     *
+     * @param homeTeamId home team identifier
+     * @param awayTeamId away team identifier
+     * @return encoded match identifier
+     */
+    public static long encode(int homeTeamId, int awayTeamId) {
+        return ((long) homeTeamId << 32) | (awayTeamId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Create match identifier from primitive {@code long}, as encoded by {@link #encode(int, int)}.
+     *
+     * @param id encoded match identifier
+     * @return match identifier
+     */
+    public static MatchId decode(long id) {
+        return new MatchId(id);
+    }
+
+    public long getId() {
         return this.id;
     }
 
+    public int getHomeTeamId() {
+        return (int) (id >>> 32);
+    }
+
+    public int getAwayTeamId() {
+        return (int) id;
+    }
+
     public boolean equals(Object obj) {
         if (this == obj) {
             return true;
@@ -31,18 +64,21 @@ public class MatchId {
         }
 
         MatchId other = (MatchId) obj;
-        return Objects.equals(id, other.id);
+        return id == other.id;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(id);
+        // spread home team bits, so matches of same home team don't collide
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
     }
 
     @Override
     public String toString() {
         return "MatchId{" +
-                "id='" + id + '\'' +
+                "homeTeamId=" + getHomeTeamId() +
+                ", awayTeamId=" + getAwayTeamId() +
                 '}';
     }
 }
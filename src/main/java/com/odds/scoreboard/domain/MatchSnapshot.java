@@ -0,0 +1,42 @@
+package com.odds.scoreboard.domain;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Immutable state of a match at certain point in time.
+ * Unlike {@code Match}, it can be safely shared between threads and readers without copying.
+ *
+ * @param homeTeamName  home team name
+ * @param homeTeamScore home team score
+ * @param awayTeamName  away team name
+ * @param awayTeamScore away team score
+ * @param startTime     time when match was started
+ * @param competition   competition or tournament the match belongs to, null if none
+ */
+public record MatchSnapshot(String homeTeamName, int homeTeamScore,
+                            String awayTeamName, int awayTeamScore,
+                            OffsetDateTime startTime, String competition) {
+
+    public MatchSnapshot(String homeTeamName, int homeTeamScore, String awayTeamName, int awayTeamScore,
+                         OffsetDateTime startTime) {
+        this(homeTeamName, homeTeamScore, awayTeamName, awayTeamScore, startTime, null);
+    }
+
+    public static MatchSnapshot of(Match match) {
+        return new MatchSnapshot(match.getHomeTeamName(), match.getHomeTeamScore(),
+                match.getAwayTeamName(), match.getAwayTeamScore(), match.getStartTime(), match.getCompetition());
+    }
+
+    public int totalScore() {
+        return homeTeamScore + awayTeamScore;
+    }
+
+    /**
+     * Mutable copy of this snapshot.
+     *
+     * @return new {@code Match} with same data
+     */
+    public Match toMatch() {
+        return new Match(competition, homeTeamName, homeTeamScore, awayTeamName, awayTeamScore, startTime);
+    }
+}
@@ -0,0 +1,101 @@
+package com.odds.scoreboard.domain;
+
+/**
+ * Reusable, mutable view of a match, refilled in place by {@code MatchStorage#copyRange(int, MatchView[])}.
+ * <p>
+ * Unlike {@code Match}, view holds start time as primitive epoch nanos and references team and competition names
+ * already held by storage, so refilling it doesn't allocate. View is valid only until it's refilled and isn't
+ * thread-safe, every reader keeps its own views.
+ */
+public class MatchView {
+    private String competition;
+    private String homeTeamName;
+    private int homeTeamScore;
+    private String awayTeamName;
+    private int awayTeamScore;
+    private long startEpochNanos;
+
+    /**
+     * @param size number of views
+     * @return array of {@code size} empty views
+     */
+    public static MatchView[] newArray(int size) {
+        MatchView[] views = new MatchView[size];
+        for (int i = 0; i < size; i++) {
+            views[i] = new MatchView();
+        }
+        return views;
+    }
+
+    /**
+     * Refill this view with state of {@code match}.
+     *
+     * @return this view
+     */
+    public MatchView set(Match match) {
+        return set(match.getCompetition(), match.getHomeTeamName(), match.getHomeTeamScore(),
+                match.getAwayTeamName(), match.getAwayTeamScore(), match.getStartEpochNanos());
+    }
+
+    /**
+     * Refill this view.
+     *
+     * @return this view
+     */
+    public MatchView set(String competition, String homeTeamName, int homeTeamScore, String awayTeamName,
+                         int awayTeamScore, long startEpochNanos) {
+        this.competition = competition;
+        this.homeTeamName = homeTeamName;
+        this.homeTeamScore = homeTeamScore;
+        this.awayTeamName = awayTeamName;
+        this.awayTeamScore = awayTeamScore;
+        this.startEpochNanos = startEpochNanos;
+        return this;
+    }
+
+    /**
+     * @return competition or tournament the match belongs to, null if none
+     */
+    public String getCompetition() {
+        return competition;
+    }
+
+    public String getHomeTeamName() {
+        return homeTeamName;
+    }
+
+    public int getHomeTeamScore() {
+        return homeTeamScore;
+    }
+
+    public String getAwayTeamName() {
+        return awayTeamName;
+    }
+
+    public int getAwayTeamScore() {
+        return awayTeamScore;
+    }
+
+    public int getTotalScore() {
+        return homeTeamScore + awayTeamScore;
+    }
+
+    /**
+     * @return start time of match, as nanoseconds since epoch
+     */
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchView{" +
+                "homeTeamName='" + homeTeamName + '\'' +
+                ", homeTeamScore=" + homeTeamScore +
+                ", awayTeamName='" + awayTeamName + '\'' +
+                ", awayTeamScore=" + awayTeamScore +
+                ", startEpochNanos=" + startEpochNanos +
+                ", competition='" + competition + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,23 @@
+package com.odds.scoreboard.domain;
+
+/**
+ * Result of single operation on the board, reported instead of exception.
+ */
+public enum OperationStatus {
+    /**
+     * Operation was applied.
+     */
+    OK,
+    /**
+     * Operation was rejected because of invalid input, e.g. empty team name or negative score.
+     */
+    INVALID_INPUT,
+    /**
+     * Match cannot be started, because it's already in progress.
+     */
+    ALREADY_EXISTS,
+    /**
+     * Match cannot be updated or finished, because it's not in progress.
+     */
+    NOT_FOUND
+}
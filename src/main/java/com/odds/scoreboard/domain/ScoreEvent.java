@@ -0,0 +1,41 @@
+package com.odds.scoreboard.domain;
+
+/**
+ * Single event of a score feed, which can be applied to the board as part of a batch.
+ *
+ * @param type          type of event
+ * @param homeTeam      home team name
+ * @param homeTeamScore home team score, used only by {@code UPDATE} event
+ * @param awayTeam      away team name
+ * @param awayTeamScore away team score, used only by {@code UPDATE} event
+ * @param competition   competition of started match, null if none, used only by {@code START} event
+ */
+public record ScoreEvent(Type type, String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore,
+                         String competition) {
+
+    public enum Type {
+        START,
+        UPDATE,
+        FINISH
+    }
+
+    public ScoreEvent(Type type, String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+        this(type, homeTeam, homeTeamScore, awayTeam, awayTeamScore, null);
+    }
+
+    public static ScoreEvent start(String homeTeam, String awayTeam) {
+        return new ScoreEvent(Type.START, homeTeam, 0, awayTeam, 0);
+    }
+
+    public static ScoreEvent start(String competition, String homeTeam, String awayTeam) {
+        return new ScoreEvent(Type.START, homeTeam, 0, awayTeam, 0, competition);
+    }
+
+    public static ScoreEvent update(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+        return new ScoreEvent(Type.UPDATE, homeTeam, homeTeamScore, awayTeam, awayTeamScore);
+    }
+
+    public static ScoreEvent finish(String homeTeam, String awayTeam) {
+        return new ScoreEvent(Type.FINISH, homeTeam, 0, awayTeam, 0);
+    }
+}
@@ -0,0 +1,17 @@
+package com.odds.scoreboard.domain;
+
+import java.time.Instant;
+
+/**
+ * Score of a match from certain point in time, part of its score history.
+ *
+ * @param time          time when score was set, or when match was started for initial score
+ * @param homeTeamScore home team score
+ * @param awayTeamScore away team score
+ */
+public record ScoreSample(Instant time, int homeTeamScore, int awayTeamScore) {
+
+    public int totalScore() {
+        return homeTeamScore + awayTeamScore;
+    }
+}
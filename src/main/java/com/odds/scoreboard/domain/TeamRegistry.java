@@ -0,0 +1,124 @@
+package com.odds.scoreboard.domain;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe registry of team names, mapping every name to dense int identifier, starting with 0.
+ * Team is registered on first use and is never removed, so identifier of a team never changes.
+ * <p>
+ * Lookup of already registered team is single {@code ConcurrentHashMap} read and doesn't allocate,
+ * since hash code of {@code String} is cached. Match identifiers found by {@link #findMatchId(String, String)} are
+ * cached too, so updates and finishes of matches in progress don't allocate them, without relying on escape analysis.
+ */
+public class TeamRegistry {
+    static final int MATCH_ID_CACHE_SIZE = 4096;
+
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // written only while holding lock, read without locking
+    private volatile String[] names = new String[16];
+    private int size;
+
+    // direct-mapped by hash of match identifier, written without locking, entries are immutable
+    private final MatchId[] matchIds = new MatchId[MATCH_ID_CACHE_SIZE];
+
+    /**
+     * Get identifier of {@code team}, registering it if it's not registered yet.
+     *
+     * @param team team name, not null
+     * @return team identifier
+     */
+    public int register(String team) {
+        Integer id = ids.get(team);
+        if (id != null) {
+            return id;
+        }
+        return ids.computeIfAbsent(team, this::assign);
+    }
+
+    /**
+     * Get identifier of {@code team}, without registering it.
+     *
+     * @param team team name, not null
+     * @return team identifier, or -1 if team is not registered
+     */
+    public int idOf(String team) {
+        Integer id = ids.get(team);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Get name of team with identifier {@code id}.
+     *
+     * @param id team identifier, must be registered
+     * @return team name
+     */
+    public String nameOf(int id) {
+        return names[id];
+    }
+
+    /**
+     * Get identifier of match between {@code homeTeam} and {@code awayTeam}, registering both teams if needed.
+     *
+     * @param homeTeam home team name, not null
+     * @param awayTeam away team name, not null
+     * @return match identifier
+     */
+    public MatchId matchId(String homeTeam, String awayTeam) {
+        return new MatchId(register(homeTeam), register(awayTeam));
+    }
+
+    /**
+     * Get identifier of match between {@code homeTeam} and {@code awayTeam}, without registering the teams.
+     *
+     * @param homeTeam home team name, not null
+     * @param awayTeam away team name, not null
+     * @return match identifier, or null if any of the teams is not registered, so the match can't exist
+     */
+    public MatchId findMatchId(String homeTeam, String awayTeam) {
+        int homeTeamId = idOf(homeTeam);
+        int awayTeamId = idOf(awayTeam);
+        if (homeTeamId < 0 || awayTeamId < 0) {
+            return null;
+        }
+
+        long id = MatchId.encode(homeTeamId, awayTeamId);
+        long h = id * 0x9E3779B97F4A7C15L;
+        int slot = (int) (h >>> 32) & (MATCH_ID_CACHE_SIZE - 1);
+        MatchId matchId = matchIds[slot];
+        if (matchId == null || matchId.getId() != id) {
+            // miss or collision, final field of MatchId makes racy publication of new entry safe
+            matchId = MatchId.decode(id);
+            matchIds[slot] = matchId;
+        }
+        return matchId;
+    }
+
+    /**
+     * @return number of registered teams
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    private int assign(String team) {
+        lock.lock();
+        try {
+            int id = size;
+            String[] current = names;
+            if (id == current.length) {
+                current = Arrays.copyOf(current, id * 2);
+            }
+            current[id] = team;
+            size = id + 1;
+            names = current;
+            return id;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
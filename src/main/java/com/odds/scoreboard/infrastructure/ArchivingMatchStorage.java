@@ -0,0 +1,110 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.BoardSnapshot;
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchView;
+
+import java.util.List;
+
+/**
+ * {@code MatchStorage} archiving final state of every match deleted from delegate storage.
+ * <p>
+ * Match is removed by {@link MatchStorage#tryRemove(MatchId)} of delegate, so archived score is exactly the one
+ * removed, and then handed to {@code MatchArchive}, which only queues it. Other operations go straight to the
+ * delegate.
+ */
+public class ArchivingMatchStorage implements MatchStorage {
+    private final MatchStorage delegate;
+    private final MatchArchive archive;
+
+    /**
+     * @param delegate storage keeping matches in progress
+     * @param archive  archive receiving finished matches
+     */
+    public ArchivingMatchStorage(MatchStorage delegate, MatchArchive archive) {
+        this.delegate = delegate;
+        this.archive = archive;
+    }
+
+    @Override
+    public boolean trySave(MatchId key, Match value) {
+        return delegate.trySave(key, value);
+    }
+
+    @Override
+    public boolean tryUpdate(MatchId key, int homeTeamScore, int awayTeamScore) {
+        return delegate.tryUpdate(key, homeTeamScore, awayTeamScore);
+    }
+
+    @Override
+    public boolean tryDelete(MatchId key) {
+        return tryRemove(key) != null;
+    }
+
+    @Override
+    public Match tryRemove(MatchId key) {
+        Match removed = delegate.tryRemove(key);
+        if (removed != null) {
+            archive.add(removed);
+        }
+        return removed;
+    }
+
+    @Override
+    public void batch(Runnable writes) {
+        delegate.batch(writes);
+    }
+
+    @Override
+    public Match get(MatchId key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public Match getByTeam(String team) {
+        return delegate.getByTeam(team);
+    }
+
+    @Override
+    public List<Match> getByCompetition(String competition) {
+        return delegate.getByCompetition(competition);
+    }
+
+    @Override
+    public int rankOf(MatchId key) {
+        return delegate.rankOf(key);
+    }
+
+    @Override
+    public List<Match> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public List<Match> getRange(int offset, int limit) {
+        return delegate.getRange(offset, limit);
+    }
+
+    @Override
+    public int copyRange(int offset, MatchView[] views) {
+        return delegate.copyRange(offset, views);
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        return delegate.snapshot();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * @return archive receiving finished matches
+     */
+    public MatchArchive archive() {
+        return archive;
+    }
+}
@@ -0,0 +1,297 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.BoardSnapshot;
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe storage partitioning matches by their competition, every competition kept ordered in its own storage,
+ * by default {@code ConcurrentMatchStorage} with ranked index.
+ * <p>
+ * Summary of one competition is read from its own storage, so its cost is proportional to size of the competition,
+ * not to the size of whole board. Global ordering is k-way merge of per-competition orderings, taking only as many
+ * matches from head of every competition as the read needs. Ties of total score and start time between matches of
+ * different competitions are ordered by competition name, matches without competition first.
+ * <p>
+ * Competition of a match is given on save, updates and deletes are routed to its storage by {@code MatchId}, which
+ * identifies match regardless of competition, since team plays one match at a time. Storage of competition is created
+ * on first match of the competition and kept afterwards. Ordered reads over all competitions aren't consistent view
+ * across them, unless snapshot mode is enabled, see {@code ShardedMatchStorage} for the same trade-off.
+ * <p>
+ * In snapshot mode, writers of all competitions are serialized by a lock. Snapshot is merged on first read after
+ * write and is shared by all readers until next write.
+ */
+public class CompetitionMatchStorage implements MatchStorage {
+    // key of matches without competition, sorted before every competition name
+    private static final String NO_COMPETITION = "";
+
+    private final Supplier<MatchStorage> factory;
+    private final ConcurrentMap<String, MatchStorage> competitions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MatchId, MatchStorage> routes = new ConcurrentHashMap<>();
+
+    private final boolean snapshotsEnabled;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // written only while holding writeLock
+    private volatile long version;
+    private volatile BoardSnapshot snapshot = new BoardSnapshot(0, List.of());
+
+    public CompetitionMatchStorage() {
+        this(ConcurrentMatchStorage::new, false);
+    }
+
+    /**
+     * @param factory          factory of storage of every competition
+     * @param snapshotsEnabled if true, {@link #snapshot()} is supported
+     */
+    public CompetitionMatchStorage(Supplier<MatchStorage> factory, boolean snapshotsEnabled) {
+        this.factory = factory;
+        this.snapshotsEnabled = snapshotsEnabled;
+    }
+
+    @Override
+    public boolean trySave(MatchId key, Match value) {
+        lockWrites();
+        try {
+            MatchStorage competition = competitions.computeIfAbsent(keyOf(value.getCompetition()),
+                    c -> factory.get());
+            if (routes.putIfAbsent(key, competition) != null) {
+                return false;
+            }
+            if (!competition.trySave(key, value)) {
+                routes.remove(key, competition);
+                return false;
+            }
+            return written(true);
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    @Override
+    public boolean tryUpdate(MatchId key, int homeTeamScore, int awayTeamScore) {
+        lockWrites();
+        try {
+            MatchStorage competition = routes.get(key);
+            return competition != null && written(competition.tryUpdate(key, homeTeamScore, awayTeamScore));
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    @Override
+    public boolean tryDelete(MatchId key) {
+        return tryRemove(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Route of the match is released after it's removed from storage of its competition, so for a moment the match
+     * can't be saved again yet.
+     */
+    @Override
+    public Match tryRemove(MatchId key) {
+        lockWrites();
+        try {
+            MatchStorage competition = routes.get(key);
+            if (competition == null) {
+                return null;
+            }
+
+            Match removed = competition.tryRemove(key);
+            if (removed != null) {
+                routes.remove(key, competition);
+                written(true);
+            }
+            return removed;
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In snapshot mode, write lock is held for the whole batch, so snapshot sees either none or all writes of it.
+     */
+    @Override
+    public void batch(Runnable writes) {
+        lockWrites();
+        try {
+            writes.run();
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    @Override
+    public Match get(MatchId key) {
+        MatchStorage competition = routes.get(key);
+        return competition == null ? null : competition.get(key);
+    }
+
+    @Override
+    public Match getByTeam(String team) {
+        for (MatchStorage competition : competitions.values()) {
+            Match match = competition.getByTeam(team);
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Matches are read from storage of the competition only.
+     */
+    @Override
+    public List<Match> getByCompetition(String competition) {
+        MatchStorage storage = competitions.get(keyOf(competition));
+        return storage == null ? new ArrayList<>() : storage.getAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Position in own competition is added to number of matches ranked before the match in every other competition,
+     * which are read whole, so it's O(n).
+     */
+    @Override
+    public int rankOf(MatchId key) {
+        MatchStorage own = routes.get(key);
+        Match match = own == null ? null : own.get(key);
+        if (match == null) {
+            return -1;
+        }
+
+        int rank = Math.max(own.rankOf(key), 0);
+        boolean tiesBefore = true;
+        for (MatchStorage competition : ordered().values()) {
+            if (competition == own) {
+                tiesBefore = false;
+            } else {
+                rank += RankedMerge.countBefore(competition.getAll(), match, tiesBefore);
+            }
+        }
+        return rank;
+    }
+
+    @Override
+    public List<Match> getAll() {
+        List<List<Match>> ordered = new ArrayList<>();
+        for (MatchStorage competition : ordered().values()) {
+            ordered.add(competition.getAll());
+        }
+        return RankedMerge.merge(ordered, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every competition returns at most {@code offset + limit} top matches, which are merged, so cost is proportional
+     * to {@code (offset + limit) * competitions}, not to the size of storage.
+     */
+    @Override
+    public List<Match> getRange(int offset, int limit) {
+        int top = (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+        List<List<Match>> ordered = new ArrayList<>();
+        for (MatchStorage competition : ordered().values()) {
+            ordered.add(competition.getRange(0, top));
+        }
+        return RankedMerge.merge(ordered, offset, limit);
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        if (!snapshotsEnabled) {
+            throw new IllegalStateException("Snapshots are not enabled");
+        }
+
+        BoardSnapshot current = snapshot;
+        if (current.version() == version) {
+            return current;
+        }
+
+        writeLock.lock();
+        try {
+            current = snapshot;
+            if (current.version() == version) {
+                return current;
+            }
+
+            List<MatchSnapshot> matches = new ArrayList<>();
+            for (Match match : getAll()) {
+                matches.add(MatchSnapshot.of(match));
+            }
+            current = new BoardSnapshot(version, Collections.unmodifiableList(matches));
+            snapshot = current;
+            return current;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (MatchStorage competition : competitions.values()) {
+            size += competition.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return names of competitions which had at least one match, without matches lacking competition
+     */
+    public List<String> competitions() {
+        List<String> names = new ArrayList<>(ordered().keySet());
+        names.remove(NO_COMPETITION);
+        return names;
+    }
+
+    /**
+     * Storages of competitions, ordered by competition name, which is order of ties in merged reads.
+     */
+    private Map<String, MatchStorage> ordered() {
+        return new TreeMap<>(competitions);
+    }
+
+    /**
+     * Count successful write for versioning of snapshots. Must be called while holding write lock.
+     */
+    private boolean written(boolean success) {
+        if (success && snapshotsEnabled) {
+            version++;
+        }
+        return success;
+    }
+
+    private void lockWrites() {
+        if (snapshotsEnabled) {
+            writeLock.lock();
+        }
+    }
+
+    private void unlockWrites() {
+        if (snapshotsEnabled) {
+            writeLock.unlock();
+        }
+    }
+
+    private static String keyOf(String competition) {
+        return competition == null ? NO_COMPETITION : competition;
+    }
+}
@@ -0,0 +1,312 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.BoardSnapshot;
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchSnapshot;
+import com.odds.scoreboard.domain.MatchView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Default {@code MatchStorage} implementation.
+ * It's a key-value based, using {@code ConcurrentHashMap} as internal storage.
+ * Key is based on playing teams, meaning it can store only one match between same teams at the same time.
+ * <p>
+ * Besides key-value storage, matches are kept in ranked index ordered by total score descending and start time
+ * descending. Index is maintained on every write, while holding the lock of the written key, so reading of ordered
+ * matches doesn't require any sorting.
+ * <p>
+ * Since {@code ConcurrentHashMap} is used, this storage obeys the same concurrency specification and if any additional
+ * locking or synchronization is expected, it must be done externally.
+ * <p>
+ * Optionally, storage can run in snapshot mode. In that mode, every write publishes new immutable and versioned
+ * {@code BoardSnapshot}, which is built by copy-on-write with structural sharing, see {@code RankedTree}. Readers get
+ * consistent view of whole board by single volatile read, without any locking or copying. Price for that is that
+ * writers are serialized by a lock, so they publish snapshots in the same order as they change the storage.
+ */
+public class ConcurrentMatchStorage implements MatchStorage {
+
+    private final ConcurrentMap<MatchId, Match> storage = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<MatchRank, Match> ranking = new ConcurrentSkipListMap<>();
+
+    private final boolean snapshotsEnabled;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // guarded by writeLock
+    private RankedTree tree = RankedTree.EMPTY;
+    private RankedTree publishedTree = tree;
+    private boolean batching;
+    private volatile BoardSnapshot snapshot = new BoardSnapshot(0, tree.asList());
+
+    public ConcurrentMatchStorage() {
+        this(false);
+    }
+
+    /**
+     * @param snapshotsEnabled if true, every write publishes new {@code BoardSnapshot}
+     */
+    public ConcurrentMatchStorage(boolean snapshotsEnabled) {
+        this.snapshotsEnabled = snapshotsEnabled;
+    }
+
+    @Override
+    public boolean trySave(MatchId key, Match value) {
+        lockWrites();
+        try {
+            Match storedValue = storage.computeIfAbsent(key, id -> {
+                reindex(null, MatchRank.of(id, value), value);
+                return value;
+            });
+            if (storedValue != value) {
+                return false;
+            }
+            publish();
+            return true;
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    @Override
+    public boolean tryUpdate(MatchId key, int homeTeamScore, int awayTeamScore) {
+        lockWrites();
+        try {
+            // single atomic lookup, absent match is reported by null and never re-inserted
+            Match updated = storage.computeIfPresent(key,
+                    (id, match) -> {
+                        MatchRank oldRank = MatchRank.of(id, match);
+                        match.setHomeTeamScore(homeTeamScore);
+                        match.setAwayTeamScore(awayTeamScore);
+                        reindex(oldRank, MatchRank.of(id, match), match);
+                        return match;
+                    }
+            );
+            if (updated == null) {
+                return false;
+            }
+            publish();
+            return true;
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    @Override
+    public boolean tryDelete(MatchId key) {
+        return tryRemove(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Match is removed by single atomic lookup, so returned state is exactly the deleted one.
+     */
+    @Override
+    public Match tryRemove(MatchId key) {
+        lockWrites();
+        try {
+            Match[] deleted = new Match[1];
+            storage.computeIfPresent(key,
+                    (id, match) -> {
+                        reindex(MatchRank.of(id, match), null, match);
+                        deleted[0] = match;
+                        return null;
+                    }
+            );
+            if (deleted[0] == null) {
+                return null;
+            }
+            publish();
+            return new Match(deleted[0]);
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In snapshot mode, write lock is held for the whole batch and single snapshot is published at its end.
+     */
+    @Override
+    public void batch(Runnable writes) {
+        lockWrites();
+        boolean outermost = !batching;
+        try {
+            batching = true;
+            writes.run();
+        } finally {
+            if (outermost) {
+                batching = false;
+                publish();
+            }
+            unlockWrites();
+        }
+    }
+
+    @Override
+    public Match get(MatchId key) {
+        Match[] copy = new Match[1];
+        // copied while holding lock of the key, so concurrent update is never seen half done
+        storage.computeIfPresent(key, (id, match) -> {
+            copy[0] = new Match(match);
+            return match;
+        });
+        return copy[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In snapshot mode, position is looked up in snapshot tree, which is O(log n). Otherwise, ranked index is counted
+     * up to the match, which is O(n).
+     */
+    @Override
+    public int rankOf(MatchId key) {
+        if (snapshotsEnabled) {
+            writeLock.lock();
+            try {
+                Match match = storage.get(key);
+                return match == null ? -1 : tree.indexOf(MatchRank.of(key, match));
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        int[] rank = {-1};
+        storage.computeIfPresent(key, (id, match) -> {
+            rank[0] = ranking.headMap(MatchRank.of(id, match)).size();
+            return match;
+        });
+        return rank[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Ranked index is counted up to the match, which is O(n) without copying.
+     */
+    @Override
+    public int countBefore(Match match, boolean tiesBefore) {
+        // no match has extreme id, so all ties are on the same side of the bound
+        MatchRank bound = new MatchRank(match.getTotalScore(), match.getStartTime(),
+                tiesBefore ? Long.MAX_VALUE : Long.MIN_VALUE);
+        return ranking.headMap(bound).size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Ordering is taken from ranked index, so this is linear walk without any sorting.
+     */
+    @Override
+    public List<Match> getAll() {
+        return ranking.values()
+                .stream()
+                .map(Match::new)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Ranked index is walked only up to the last returned match, so cost is proportional to {@code offset + limit},
+     * not to the size of storage.
+     */
+    @Override
+    public List<Match> getRange(int offset, int limit) {
+        return ranking.values()
+                .stream()
+                .skip(offset)
+                .limit(limit)
+                .map(Match::new)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Ranked index is walked key by key, which costs O(log n) per match but, unlike iterators or entries of the index,
+     * allocates nothing. Matches aren't copied, so view can see concurrent update half done, like {@link #getAll()}.
+     */
+    @Override
+    public int copyRange(int offset, MatchView[] views) {
+        int skipped = 0;
+        int copied = 0;
+        MatchRank rank = MatchRank.FIRST;
+        while (copied < views.length && (rank = ranking.higherKey(rank)) != null) {
+            Match match = ranking.get(rank);
+            // deleted or re-ranked concurrently
+            if (match == null) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                views[copied++].set(match);
+            }
+        }
+        return copied;
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        if (!snapshotsEnabled) {
+            throw new IllegalStateException("Snapshots are not enabled");
+        }
+        return snapshot;
+    }
+
+    @Override
+    public int size() {
+        return storage.size();
+    }
+
+    /**
+     * Replace {@code oldRank} by {@code newRank} in ranked index, and in snapshot tree if snapshots are enabled.
+     * Must be called while holding lock of the match key.
+     */
+    private void reindex(MatchRank oldRank, MatchRank newRank, Match match) {
+        if (oldRank != null) {
+            ranking.remove(oldRank);
+        }
+        if (newRank != null) {
+            ranking.put(newRank, match);
+        }
+
+        if (snapshotsEnabled) {
+            if (oldRank != null) {
+                tree = tree.remove(oldRank);
+            }
+            if (newRank != null) {
+                tree = tree.put(newRank, MatchSnapshot.of(match));
+            }
+        }
+    }
+
+    private void publish() {
+        if (snapshotsEnabled && !batching && tree != publishedTree) {
+            publishedTree = tree;
+            snapshot = new BoardSnapshot(snapshot.version() + 1, tree.asList());
+        }
+    }
+
+    private void lockWrites() {
+        if (snapshotsEnabled) {
+            writeLock.lock();
+        }
+    }
+
+    private void unlockWrites() {
+        if (snapshotsEnabled) {
+            writeLock.unlock();
+        }
+    }
+}
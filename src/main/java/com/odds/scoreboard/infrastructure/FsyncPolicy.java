@@ -0,0 +1,21 @@
+package com.odds.scoreboard.infrastructure;
+
+/**
+ * Durability of writes of {@code JournalingMatchStorage}.
+ */
+public enum FsyncPolicy {
+    /**
+     * Write returns after its journal record is forced to disk. Concurrent writers share single fsync (group commit).
+     */
+    ALWAYS,
+    /**
+     * Journal is written and forced to disk periodically by background thread, so crash can lose writes of the last
+     * interval.
+     */
+    PERIODIC,
+    /**
+     * Journal is written periodically by background thread, but forcing to disk is left to operating system, so
+     * only crash of the process, not of the machine, is survived.
+     */
+    NEVER
+}
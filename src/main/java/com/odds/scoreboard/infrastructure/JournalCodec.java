@@ -0,0 +1,138 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary format of journal records.
+ * <p>
+ * Every record is {@code [int length][int crc32c][payload]}, where payload starts with record type and match id.
+ * Start record carries whole match including team names and competition, update record carries scores and finish
+ * record only match id.
+ * Match ids are ids of the process which wrote the record, so team names are needed to map them to ids of the
+ * process reading it.
+ * <p>
+ * Instance encodes records into reusable buffer and is not thread-safe.
+ */
+final class JournalCodec {
+    static final byte START = 1;
+    static final byte UPDATE = 2;
+    static final byte FINISH = 3;
+
+    static final int HEADER_SIZE = 8;
+    private static final int MAX_NAME_SIZE = 0xFFFF;
+    /**
+     * Maximum size of match written by {@link #putMatch(ByteBuffer, Match)}.
+     */
+    static final int MAX_MATCH_SIZE = 25 + 3 * (2 + MAX_NAME_SIZE);
+    private static final int MAX_RECORD_SIZE = HEADER_SIZE + 9 + MAX_MATCH_SIZE;
+
+    private final ByteBuffer record = ByteBuffer.allocate(MAX_RECORD_SIZE);
+    private final CRC32C crc = new CRC32C();
+
+    /**
+     * @return encoded record, valid until next call
+     */
+    ByteBuffer start(MatchId key, Match match) {
+        record.clear().position(HEADER_SIZE);
+        record.put(START).putLong(key.getId());
+        putMatch(record, match);
+        return seal();
+    }
+
+    ByteBuffer update(MatchId key, int homeTeamScore, int awayTeamScore) {
+        record.clear().position(HEADER_SIZE);
+        record.put(UPDATE).putLong(key.getId()).putInt(homeTeamScore).putInt(awayTeamScore);
+        return seal();
+    }
+
+    ByteBuffer finish(MatchId key) {
+        record.clear().position(HEADER_SIZE);
+        record.put(FINISH).putLong(key.getId());
+        return seal();
+    }
+
+    private ByteBuffer seal() {
+        int length = record.position() - HEADER_SIZE;
+        crc.reset();
+        crc.update(record.array(), HEADER_SIZE, length);
+        record.putInt(0, length).putInt(4, (int) crc.getValue());
+        return record.flip();
+    }
+
+    /**
+     * Write scores, start time, team names and competition of {@code match}, shared by start records and checkpoints.
+     */
+    static void putMatch(ByteBuffer out, Match match) {
+        OffsetDateTime startTime = match.getStartTime();
+        out.putInt(match.getHomeTeamScore()).putInt(match.getAwayTeamScore())
+                .putLong(startTime.toEpochSecond()).putInt(startTime.getNano())
+                .putInt(startTime.getOffset().getTotalSeconds());
+        putName(out, match.getHomeTeamName());
+        putName(out, match.getAwayTeamName());
+        if (match.getCompetition() == null) {
+            out.put((byte) 0);
+        } else {
+            putName(out.put((byte) 1), match.getCompetition());
+        }
+    }
+
+    static Match getMatch(ByteBuffer in) {
+        int homeTeamScore = in.getInt();
+        int awayTeamScore = in.getInt();
+        OffsetDateTime startTime = OffsetDateTime.ofInstant(
+                Instant.ofEpochSecond(in.getLong(), in.getInt()), ZoneOffset.ofTotalSeconds(in.getInt()));
+        String homeTeam = getName(in);
+        String awayTeam = getName(in);
+        String competition = in.get() == 0 ? null : getName(in);
+        return new Match(competition, homeTeam, homeTeamScore, awayTeam, awayTeamScore, startTime);
+    }
+
+    /**
+     * Validate record at current position of {@code in} and return its payload, advancing {@code in} past the record.
+     *
+     * @return payload, or null if record is truncated or corrupted, then position of {@code in} is not changed
+     */
+    static ByteBuffer nextPayload(ByteBuffer in, CRC32C crc) {
+        if (in.remaining() < HEADER_SIZE) {
+            return null;
+        }
+
+        int start = in.position();
+        int length = in.getInt(start);
+        if (length <= 0 || length > MAX_RECORD_SIZE || in.remaining() - HEADER_SIZE < length) {
+            return null;
+        }
+
+        ByteBuffer payload = in.slice(start + HEADER_SIZE, length);
+        crc.reset();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != in.getInt(start + 4)) {
+            return null;
+        }
+
+        in.position(start + HEADER_SIZE + length);
+        return payload;
+    }
+
+    private static void putName(ByteBuffer out, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_SIZE) {
+            throw new IllegalArgumentException("Name too long: " + bytes.length + " bytes");
+        }
+        out.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getName(ByteBuffer in) {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
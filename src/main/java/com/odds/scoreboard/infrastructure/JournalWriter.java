@@ -0,0 +1,255 @@
+package com.odds.scoreboard.infrastructure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only writer of journal segment with group commit.
+ * <p>
+ * Records are appended to in-memory buffer and numbered. Flush swaps the buffer with a spare one, so appending
+ * continues while flushed buffer is written to the channel. Writer waiting for its record to be durable either finds
+ * it already flushed by other writer, or flushes all records appended so far, so concurrent writers share single
+ * write and fsync.
+ * <p>
+ * Failed write is fatal: records which were not written stay in the buffer and are never reported as flushed, and
+ * every later append or sync fails with the original error. Appending to closed writer fails too.
+ */
+final class JournalWriter implements AutoCloseable {
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final FsyncPolicy policy;
+    private final ScheduledExecutorService flusher;
+
+    private final ReentrantLock bufferLock = new ReentrantLock();
+    // guarded by bufferLock
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private long appended;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // guarded by flushLock
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private FileChannel channel;
+    private volatile boolean closed;
+    private volatile long flushed;
+    private volatile IOException failure;
+
+    /**
+     * @param channel       channel of journal segment, positioned at its end
+     * @param policy        fsync policy
+     * @param flushInterval interval of background flush, used by {@code PERIODIC} and {@code NEVER} policies
+     */
+    JournalWriter(FileChannel channel, FsyncPolicy policy, Duration flushInterval) {
+        this.channel = channel;
+        this.policy = policy;
+
+        if (policy == FsyncPolicy.ALWAYS) {
+            flusher = null;
+        } else {
+            flusher = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().daemon().name("journal-flusher").factory());
+            long nanos = flushInterval.toNanos();
+            flusher.scheduleWithFixedDelay(this::flushInBackground, nanos, nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Check that record can be appended now, so caller can reject write before applying it.
+     *
+     * @throws UncheckedIOException  if earlier write failed
+     * @throws IllegalStateException if writer is closed
+     */
+    void checkWritable() {
+        checkFailure();
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+    }
+
+    /**
+     * Append encoded record.
+     *
+     * @return sequence number of the record
+     * @throws UncheckedIOException  if earlier write failed
+     * @throws IllegalStateException if writer is closed
+     */
+    long append(ByteBuffer record) {
+        checkFailure();
+        bufferLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Journal is closed");
+            }
+            buffer = ensureCapacity(buffer, record.remaining());
+            buffer.put(record);
+            return ++appended;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * @return sequence number of the last appended record
+     */
+    long appended() {
+        bufferLock.lock();
+        try {
+            return appended;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * Wait until record {@code sequence} is durable according to fsync policy. With {@code ALWAYS} policy, record is
+     * written and forced to disk, otherwise it's left to background flush.
+     *
+     * @throws UncheckedIOException if earlier write failed
+     */
+    void sync(long sequence) {
+        checkFailure();
+        if (policy != FsyncPolicy.ALWAYS || flushed >= sequence) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            if (!closed && flushed < sequence) {
+                flush(true);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Flush all appended records and continue in {@code next} segment. Caller must make sure that no records are
+     * appended concurrently.
+     */
+    void rotate(FileChannel next) throws IOException {
+        flushLock.lock();
+        try {
+            flush(true);
+            channel.close();
+            channel = next;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Flush all appended records and close the channel. Calling it again has no effect.
+     *
+     * @throws IOException if this or earlier write failed
+     */
+    @Override
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+
+        flushLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                if (failure == null) {
+                    flush(true);
+                }
+            } catch (UncheckedIOException e) {
+                // latched in failure
+            } finally {
+                channel.close();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Must be called while holding {@code flushLock}.
+     */
+    private void flush(boolean force) {
+        checkFailure();
+        ByteBuffer toWrite;
+        long sequence;
+        bufferLock.lock();
+        try {
+            toWrite = buffer;
+            buffer = spare;
+            sequence = appended;
+        } finally {
+            bufferLock.unlock();
+        }
+
+        try {
+            toWrite.flip();
+            while (toWrite.hasRemaining()) {
+                channel.write(toWrite);
+            }
+            if (force) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            keepUnwritten(toWrite);
+            failure = e;
+            throw new UncheckedIOException("Journal write failed", e);
+        }
+        spare = toWrite.clear();
+        flushed = sequence;
+    }
+
+    /**
+     * Put records which were not written back in front of the records appended meanwhile.
+     */
+    private void keepUnwritten(ByteBuffer toWrite) {
+        bufferLock.lock();
+        try {
+            ByteBuffer unwritten = ensureCapacity(toWrite.compact(), buffer.position());
+            unwritten.put(buffer.flip());
+            spare = buffer.clear();
+            buffer = unwritten;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new UncheckedIOException("Journal write failed", failure);
+        }
+    }
+
+    private void flushInBackground() {
+        flushLock.lock();
+        try {
+            if (!closed && failure == null) {
+                flush(policy == FsyncPolicy.PERIODIC);
+            }
+        } catch (UncheckedIOException e) {
+            // latched in failure, reported by the next append, sync or close
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int length) {
+        if (buffer.remaining() >= length) {
+            return buffer;
+        }
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + length);
+        return ByteBuffer.allocate(capacity).put(buffer.flip());
+    }
+}
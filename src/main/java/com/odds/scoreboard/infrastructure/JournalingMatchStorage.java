@@ -0,0 +1,488 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.BoardSnapshot;
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchView;
+import com.odds.scoreboard.domain.TeamRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable {@code MatchStorage}, which journals every successful write of delegate storage to append-only log on disk
+ * and rebuilds the delegate from it on startup.
+ * <p>
+ * Journal is split into segments. Checkpoint is full copy of the board at the start of a segment, so on startup only
+ * the latest checkpoint is loaded and segments written after it are replayed. Checkpoint is written on startup and
+ * then every {@code checkpointInterval} journaled writes, older checkpoints and segments are deleted once the new one
+ * is on disk.
+ * <p>
+ * Journal records carry match ids of the writing process, see {@code JournalCodec}, so they are mapped to ids of given
+ * {@code TeamRegistry} on replay. The same registry must be used by {@code ScoreBoard} writing to this storage.
+ * <p>
+ * Writes to delegate and their records are serialized by a lock, so journal has the same order of writes as the
+ * delegate. When policy is {@code ALWAYS}, writer waits for fsync after releasing the lock, so concurrent writers
+ * share it (group commit), and batch waits for it once at its end.
+ * <p>
+ * Record of a write is encoded before the write is applied to the delegate, so write which can't be journaled, like
+ * start of match with name too long to encode, or any write after {@link #close()}, is rejected and not applied. If
+ * journal can't be written to disk, {@code UncheckedIOException} is thrown, while the write is already applied to the
+ * delegate.
+ */
+public class JournalingMatchStorage implements MatchStorage, AutoCloseable {
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1_000_000;
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(10);
+
+    private static final Pattern SEGMENT = Pattern.compile("journal-(\\d+)\\.log");
+    private static final Pattern CHECKPOINT = Pattern.compile("checkpoint-(\\d+)\\.bin");
+    private static final int CHECKPOINT_MAGIC = 0x5343424A;
+    private static final int CHECKPOINT_BUFFER_SIZE = 1024 * 1024;
+
+    private final MatchStorage delegate;
+    private final TeamRegistry teams;
+    private final Path directory;
+    private final long checkpointInterval;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+    // guarded by lock
+    private final JournalCodec codec = new JournalCodec();
+    private long segment;
+    private volatile long checkpointSequence;
+    private final JournalWriter writer;
+    // used only by recovery: team ids of the process which wrote the journal, mapped to ids of teams
+    private int[] recoveredTeamIds = new int[0];
+
+    public JournalingMatchStorage(MatchStorage delegate, TeamRegistry teams, Path directory, FsyncPolicy policy) {
+        this(delegate, teams, directory, policy, DEFAULT_FLUSH_INTERVAL, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Open journal in {@code directory} and replay it into {@code delegate}, which must be empty.
+     *
+     * @param delegate           storage keeping matches in memory
+     * @param teams              registry of teams, shared with {@code ScoreBoard}
+     * @param directory          directory of journal, created if it doesn't exist
+     * @param policy             fsync policy
+     * @param flushInterval      interval of background flush, used by {@code PERIODIC} and {@code NEVER} policies
+     * @param checkpointInterval number of journaled writes between checkpoints
+     */
+    public JournalingMatchStorage(MatchStorage delegate, TeamRegistry teams, Path directory, FsyncPolicy policy,
+                                  Duration flushInterval, long checkpointInterval) {
+        this.delegate = delegate;
+        this.teams = teams;
+        this.directory = directory;
+        this.checkpointInterval = checkpointInterval;
+
+        try {
+            Files.createDirectories(directory);
+            segment = recover() + 1;
+            writeCheckpoint(segment, delegate.getAll());
+            deleteBefore(segment);
+            writer = new JournalWriter(openSegment(segment), policy, flushInterval);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Journal recovery failed", e);
+        }
+    }
+
+    @Override
+    public boolean trySave(MatchId key, Match value) {
+        long sequence;
+        lock.lock();
+        try {
+            ByteBuffer record = codec.start(key, value);
+            writer.checkWritable();
+            if (!delegate.trySave(key, value)) {
+                return false;
+            }
+            sequence = writer.append(record);
+        } finally {
+            lock.unlock();
+        }
+        afterWrite(sequence);
+        return true;
+    }
+
+    @Override
+    public boolean tryUpdate(MatchId key, int homeTeamScore, int awayTeamScore) {
+        long sequence;
+        lock.lock();
+        try {
+            ByteBuffer record = codec.update(key, homeTeamScore, awayTeamScore);
+            writer.checkWritable();
+            if (!delegate.tryUpdate(key, homeTeamScore, awayTeamScore)) {
+                return false;
+            }
+            sequence = writer.append(record);
+        } finally {
+            lock.unlock();
+        }
+        afterWrite(sequence);
+        return true;
+    }
+
+    @Override
+    public boolean tryDelete(MatchId key) {
+        return tryRemove(key) != null;
+    }
+
+    @Override
+    public Match tryRemove(MatchId key) {
+        Match removed;
+        long sequence;
+        lock.lock();
+        try {
+            ByteBuffer record = codec.finish(key);
+            writer.checkWritable();
+            removed = delegate.tryRemove(key);
+            if (removed == null) {
+                return null;
+            }
+            sequence = writer.append(record);
+        } finally {
+            lock.unlock();
+        }
+        afterWrite(sequence);
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Lock is held for the whole batch, which is run as batch of delegate. With {@code ALWAYS} policy, fsync is done
+     * once at the end of the batch.
+     */
+    @Override
+    public void batch(Runnable writes) {
+        long sequence;
+        lock.lock();
+        try {
+            delegate.batch(writes);
+            sequence = writer.appended();
+        } finally {
+            lock.unlock();
+        }
+        afterWrite(sequence);
+    }
+
+    @Override
+    public Match get(MatchId key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public Match getByTeam(String team) {
+        return delegate.getByTeam(team);
+    }
+
+    @Override
+    public List<Match> getByCompetition(String competition) {
+        return delegate.getByCompetition(competition);
+    }
+
+    @Override
+    public int rankOf(MatchId key) {
+        return delegate.rankOf(key);
+    }
+
+    @Override
+    public List<Match> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public List<Match> getRange(int offset, int limit) {
+        return delegate.getRange(offset, limit);
+    }
+
+    @Override
+    public int copyRange(int offset, MatchView[] views) {
+        return delegate.copyRange(offset, views);
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        return delegate.snapshot();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Write checkpoint of current state and start new journal segment, then delete older checkpoints and segments.
+     * Writes are blocked only while the segment is switched and the state is copied from delegate.
+     */
+    public void checkpoint() {
+        checkpointLock.lock();
+        try {
+            long newSegment;
+            List<Match> matches;
+            lock.lock();
+            try {
+                newSegment = segment + 1;
+                writer.rotate(openSegment(newSegment));
+                segment = newSegment;
+                checkpointSequence = writer.appended();
+                matches = delegate.getAll();
+            } finally {
+                lock.unlock();
+            }
+
+            writeCheckpoint(newSegment, matches);
+            deleteBefore(newSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Checkpoint failed", e);
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    /**
+     * Flush journal and close it. Delegate stays readable, but every later write throws {@code IllegalStateException}
+     * and is not applied.
+     */
+    @Override
+    public void close() throws IOException {
+        // writers check the journal while holding the lock, so no write is applied without its record
+        lock.lock();
+        try {
+            writer.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void afterWrite(long sequence) {
+        if (lock.isHeldByCurrentThread()) {
+            // inside batch, done once at its end
+            return;
+        }
+
+        writer.sync(sequence);
+        if (sequence - checkpointSequence >= checkpointInterval && checkpointLock.tryLock()) {
+            try {
+                if (sequence - checkpointSequence >= checkpointInterval) {
+                    checkpoint();
+                }
+            } finally {
+                checkpointLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Load the latest checkpoint and replay segments written after it.
+     *
+     * @return number of the last replayed segment, or of the checkpoint if there are no segments after it
+     */
+    private long recover() throws IOException {
+        long[] checkpoints = numbered(CHECKPOINT);
+        long[] segments = numbered(SEGMENT);
+        long last = checkpoints.length == 0 ? 0 : checkpoints[checkpoints.length - 1];
+
+        try {
+            delegate.batch(() -> {
+                try {
+                    if (checkpoints.length > 0) {
+                        loadCheckpoint(checkpointPath(last));
+                    }
+                    for (int i = 0; i < segments.length; i++) {
+                        if (segments[i] >= last) {
+                            replay(segmentPath(segments[i]), i == segments.length - 1);
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            recoveredTeamIds = null;
+        }
+
+        return segments.length == 0 ? last : Math.max(last, segments[segments.length - 1]);
+    }
+
+    private void replay(Path path, boolean lastSegment) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CRC32C crc = new CRC32C();
+
+            ByteBuffer payload;
+            while ((payload = JournalCodec.nextPayload(in, crc)) != null) {
+                byte type = payload.get();
+                long id = payload.getLong();
+                if (type == JournalCodec.START) {
+                    Match match = JournalCodec.getMatch(payload);
+                    delegate.trySave(recoveredId(id, match), match);
+                } else if (type == JournalCodec.UPDATE) {
+                    delegate.tryUpdate(recoveredId(id), payload.getInt(), payload.getInt());
+                } else if (type == JournalCodec.FINISH) {
+                    delegate.tryDelete(recoveredId(id));
+                }
+            }
+
+            if (in.hasRemaining()) {
+                if (!lastSegment) {
+                    throw new IOException("Corrupted journal segment " + path + " at " + in.position());
+                }
+                // torn tail of the last write before crash
+                channel.truncate(in.position());
+            }
+        }
+    }
+
+    private void loadCheckpoint(Path path) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (in.limit() < 12) {
+            throw new IOException("Corrupted checkpoint " + path);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(in.array(), 0, in.limit() - 4);
+        if (in.getInt() != CHECKPOINT_MAGIC || (int) crc.getValue() != in.getInt(in.limit() - 4)) {
+            throw new IOException("Corrupted checkpoint " + path);
+        }
+
+        int count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            long id = in.getLong();
+            Match match = JournalCodec.getMatch(in);
+            delegate.trySave(recoveredId(id, match), match);
+        }
+    }
+
+    /**
+     * Write checkpoint to temporary file and atomically rename it, so checkpoint is either complete or missing.
+     */
+    private void writeCheckpoint(long number, List<Match> matches) throws IOException {
+        Path temporary = directory.resolve("checkpoint.tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32C crc = new CRC32C();
+            ByteBuffer out = ByteBuffer.allocate(CHECKPOINT_BUFFER_SIZE);
+            out.putInt(CHECKPOINT_MAGIC).putInt(matches.size());
+            for (Match match : matches) {
+                if (out.remaining() < 8 + JournalCodec.MAX_MATCH_SIZE) {
+                    write(channel, out, crc);
+                }
+                out.putLong(teams.matchId(match.getHomeTeamName(), match.getAwayTeamName()).getId());
+                JournalCodec.putMatch(out, match);
+            }
+            write(channel, out, crc);
+
+            out.putInt((int) crc.getValue());
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+
+        Files.move(temporary, checkpointPath(number), StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+    }
+
+    private void write(FileChannel channel, ByteBuffer out, CRC32C crc) throws IOException {
+        out.flip();
+        crc.update(out.duplicate());
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    private void deleteBefore(long number) throws IOException {
+        for (long checkpoint : numbered(CHECKPOINT)) {
+            if (checkpoint < number) {
+                Files.deleteIfExists(checkpointPath(checkpoint));
+            }
+        }
+        for (long oldSegment : numbered(SEGMENT)) {
+            if (oldSegment < number) {
+                Files.deleteIfExists(segmentPath(oldSegment));
+            }
+        }
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(number), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        syncDirectory();
+        return channel;
+    }
+
+    private long[] numbered(Pattern pattern) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> pattern.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .mapToLong(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toArray();
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve("journal-" + number + ".log");
+    }
+
+    private Path checkpointPath(long number) {
+        return directory.resolve("checkpoint-" + number + ".bin");
+    }
+
+    /**
+     * Make creation and rename of files in journal directory durable. Not supported on every platform, then it's
+     * left to the file system.
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directory can't be opened or forced on this platform
+        }
+    }
+
+    /**
+     * Register teams of {@code match} and map team ids encoded in journaled {@code id} to their ids in {@code teams}.
+     */
+    private MatchId recoveredId(long id, Match match) {
+        MatchId journaledId = MatchId.decode(id);
+        int maxId = Math.max(journaledId.getHomeTeamId(), journaledId.getAwayTeamId());
+        if (maxId >= recoveredTeamIds.length) {
+            int length = recoveredTeamIds.length;
+            recoveredTeamIds = Arrays.copyOf(recoveredTeamIds, Math.max(length * 2, maxId + 1));
+            Arrays.fill(recoveredTeamIds, length, recoveredTeamIds.length, -1);
+        }
+
+        recoveredTeamIds[journaledId.getHomeTeamId()] = teams.register(match.getHomeTeamName());
+        recoveredTeamIds[journaledId.getAwayTeamId()] = teams.register(match.getAwayTeamName());
+        return recoveredId(id);
+    }
+
+    /**
+     * Map journaled {@code id} of already started match.
+     */
+    private MatchId recoveredId(long id) {
+        MatchId journaledId = MatchId.decode(id);
+        return new MatchId(recoveredTeamIds[journaledId.getHomeTeamId()],
+                recoveredTeamIds[journaledId.getAwayTeamId()]);
+    }
+}
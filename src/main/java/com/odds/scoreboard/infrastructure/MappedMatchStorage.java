@@ -0,0 +1,392 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.BoardSnapshot;
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchView;
+import com.odds.scoreboard.domain.TeamRegistry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only {@code MatchStorage} sitting directly on memory-mapped binary snapshot of the board, written by
+ * {@link #write(MatchStorage, TeamRegistry, Path)}.
+ * <p>
+ * Snapshot is fixed-width, so opening it only maps the file and checks its header, no match is deserialized.
+ * {@code Match} is decoded only when it's returned, and primitive accessors, like {@link #homeTeamScore(int)}, read
+ * the mapped file without any allocation. File can be shared with other processes, which map it the same way.
+ * <p>
+ * Layout of the file, all numbers big-endian:
+ * <pre>
+ * header               int magic, int format version, int number of teams, int number of matches,
+ *                      int number of competitions
+ * rows                 32 bytes per match, ordered by rank: long match id, int home score, int away score,
+ *                      long start time as epoch nanos, int start time zone offset in seconds,
+ *                      int competition index, -1 if none
+ * id index             int row per match, ordered by match id
+ * team offsets         int offset of every team name in team names, plus end of the last name
+ * team names           UTF-8 team names, indexed by team identifier
+ * competition offsets  int offset of every competition name in competition names, plus end of the last name
+ * competition names    UTF-8 competition names, indexed by competition index
+ * </pre>
+ * Match ids and team identifiers are those of {@code TeamRegistry} passed to writer, and {@link #teams()} rebuilds
+ * registry with the same identifiers, so board reading this storage must use it.
+ * <p>
+ * Every write method throws {@code UnsupportedOperationException}. Storage is immutable, so it's thread-safe.
+ */
+public class MappedMatchStorage implements MatchStorage {
+    private static final int MAGIC = 0x5343424D;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 20;
+    private static final int ROW_SIZE = 32;
+
+    private final ByteBuffer buffer;
+    private final int teamCount;
+    private final int matchCount;
+    private final int indexOffset;
+    private final int teamOffsetsOffset;
+    private final int namesOffset;
+    private final int competitionOffsetsOffset;
+    private final int competitionNamesOffset;
+    // decoded on first use, racy but names are immutable
+    private final String[] teamNames;
+    private final String[] competitionNames;
+
+    private MappedMatchStorage(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a board snapshot");
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported board snapshot version " + buffer.getInt(4));
+        }
+
+        teamCount = buffer.getInt(8);
+        matchCount = buffer.getInt(12);
+        int competitionCount = buffer.getInt(16);
+        long index = HEADER_SIZE + (long) ROW_SIZE * matchCount;
+        long teamOffsets = index + 4L * matchCount;
+        long names = teamOffsets + 4L * (teamCount + 1);
+        if (teamCount < 0 || matchCount < 0 || competitionCount < 0 || names > buffer.limit()) {
+            throw new IOException("Truncated board snapshot");
+        }
+        long competitionOffsets = names + buffer.getInt((int) names - 4);
+        long competitionNames = competitionOffsets + 4L * (competitionCount + 1);
+        if (competitionOffsets < names || competitionNames > buffer.limit()
+                || competitionNames + buffer.getInt((int) competitionNames - 4) != buffer.limit()) {
+            throw new IOException("Truncated board snapshot");
+        }
+        indexOffset = (int) index;
+        teamOffsetsOffset = (int) teamOffsets;
+        namesOffset = (int) names;
+        competitionOffsetsOffset = (int) competitionOffsets;
+        competitionNamesOffset = (int) competitionNames;
+        teamNames = new String[teamCount];
+        this.competitionNames = new String[competitionCount];
+    }
+
+    /**
+     * Map snapshot written by {@link #write(MatchStorage, TeamRegistry, Path)}.
+     *
+     * @param file snapshot file
+     * @return read-only storage backed by mapped file
+     * @throws IOException if file can't be mapped or isn't valid snapshot
+     */
+    public static MappedMatchStorage open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Board snapshot too large: " + channel.size() + " bytes");
+            }
+            return new MappedMatchStorage(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Write snapshot of all matches in {@code storage} to {@code file}. Snapshot is written to temporary file, which
+     * is atomically renamed, so readers never see partially written snapshot.
+     *
+     * @param storage storage to write
+     * @param teams   registry of teams used by board writing to {@code storage}
+     * @param file    snapshot file, replaced if it exists
+     * @throws IOException if file can't be written
+     */
+    public static void write(MatchStorage storage, TeamRegistry teams, Path file) throws IOException {
+        List<Match> matches = storage.getAll();
+        long[] ids = new long[matches.size()];
+        int[] competitions = new int[matches.size()];
+        Map<String, Integer> competitionIndexes = new LinkedHashMap<>();
+        for (int row = 0; row < ids.length; row++) {
+            Match match = matches.get(row);
+            ids[row] = teams.matchId(match.getHomeTeamName(), match.getAwayTeamName()).getId();
+            competitions[row] = match.getCompetition() == null ? -1
+                    : competitionIndexes.computeIfAbsent(match.getCompetition(), c -> competitionIndexes.size());
+        }
+        // every team on board is already registered, so it's included
+        byte[][] names = new byte[teams.size()][];
+        for (int team = 0; team < names.length; team++) {
+            names[team] = teams.nameOf(team).getBytes(StandardCharsets.UTF_8);
+        }
+        byte[][] competitionNames = competitionIndexes.keySet().stream()
+                .map(competition -> competition.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+
+        long size = HEADER_SIZE + (long) (ROW_SIZE + 4) * ids.length + dictionarySize(names)
+                + dictionarySize(competitionNames);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Board snapshot too large: " + size + " bytes");
+        }
+
+        ByteBuffer out = ByteBuffer.allocate((int) size);
+        out.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(names.length).putInt(ids.length)
+                .putInt(competitionNames.length);
+        for (int row = 0; row < ids.length; row++) {
+            Match match = matches.get(row);
+            out.putLong(ids[row]).putInt(match.getHomeTeamScore()).putInt(match.getAwayTeamScore())
+                    .putLong(match.getStartEpochNanos())
+                    .putInt(match.getStartTime().getOffset().getTotalSeconds()).putInt(competitions[row]);
+        }
+        IntStream.range(0, ids.length)
+                .boxed()
+                .sorted(Comparator.comparingLong(row -> ids[row]))
+                .forEach(out::putInt);
+        putDictionary(out, names);
+        putDictionary(out, competitionNames);
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * New registry with all teams of the snapshot, with the same identifiers as in snapshot.
+     *
+     * @return registry of teams
+     */
+    public TeamRegistry teams() {
+        TeamRegistry teams = new TeamRegistry();
+        for (int team = 0; team < teamCount; team++) {
+            teams.register(teamName(team));
+        }
+        return teams;
+    }
+
+    /**
+     * Name is decoded on first call and cached, so repeated calls don't allocate.
+     *
+     * @param teamId team identifier, less than number of teams in snapshot
+     * @return name of team
+     */
+    public String teamName(int teamId) {
+        return name(teamNames, teamOffsetsOffset, namesOffset, teamId);
+    }
+
+    /**
+     * Name is decoded on first call and cached, so repeated calls don't allocate.
+     *
+     * @param rank position of match, less than {@link #size()}
+     * @return competition of match, null if none
+     */
+    public String competition(int rank) {
+        int competition = buffer.getInt(rowOffset(rank) + 28);
+        return competition < 0 ? null
+                : name(competitionNames, competitionOffsetsOffset, competitionNamesOffset, competition);
+    }
+
+    /**
+     * @param rank position of match, less than {@link #size()}
+     * @return id of match, see {@link MatchId#getId()}
+     */
+    public long matchId(int rank) {
+        return buffer.getLong(rowOffset(rank));
+    }
+
+    /**
+     * @param rank position of match, less than {@link #size()}
+     * @return home team score of match
+     */
+    public int homeTeamScore(int rank) {
+        return buffer.getInt(rowOffset(rank) + 8);
+    }
+
+    /**
+     * @param rank position of match, less than {@link #size()}
+     * @return away team score of match
+     */
+    public int awayTeamScore(int rank) {
+        return buffer.getInt(rowOffset(rank) + 12);
+    }
+
+    /**
+     * @param rank position of match, less than {@link #size()}
+     * @return start time of match, as nanoseconds since epoch
+     */
+    public long startEpochNanos(int rank) {
+        return buffer.getLong(rowOffset(rank) + 16);
+    }
+
+    @Override
+    public boolean trySave(MatchId key, Match value) {
+        throw new UnsupportedOperationException("Mapped storage is read-only");
+    }
+
+    @Override
+    public boolean tryUpdate(MatchId key, int homeTeamScore, int awayTeamScore) {
+        throw new UnsupportedOperationException("Mapped storage is read-only");
+    }
+
+    @Override
+    public boolean tryDelete(MatchId key) {
+        throw new UnsupportedOperationException("Mapped storage is read-only");
+    }
+
+    @Override
+    public Match get(MatchId key) {
+        int rank = rankOf(key);
+        return rank < 0 ? null : toMatch(rank);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Rows are ordered by rank, so it's binary search of id index, which is O(log n).
+     */
+    @Override
+    public int rankOf(MatchId key) {
+        long id = key.getId();
+        int low = 0;
+        int high = matchCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int row = buffer.getInt(indexOffset + 4 * middle);
+            int cmp = Long.compare(matchId(row), id);
+            if (cmp < 0) {
+                low = middle + 1;
+            } else if (cmp > 0) {
+                high = middle - 1;
+            } else {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public List<Match> getAll() {
+        return getRange(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Rows are ordered by rank, so only returned rows are read.
+     */
+    @Override
+    public List<Match> getRange(int offset, int limit) {
+        int to = (int) Math.min(matchCount, (long) offset + limit);
+        List<Match> matches = new ArrayList<>(Math.max(to - offset, 0));
+        for (int rank = offset; rank < to; rank++) {
+            matches.add(toMatch(rank));
+        }
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Rows are read directly from mapped file, so nothing is allocated once names of the teams are decoded.
+     */
+    @Override
+    public int copyRange(int offset, MatchView[] views) {
+        int copied = 0;
+        for (int rank = offset; rank < matchCount && copied < views.length; rank++) {
+            long id = matchId(rank);
+            views[copied++].set(competition(rank), teamName((int) (id >>> 32)), homeTeamScore(rank),
+                    teamName((int) id), awayTeamScore(rank), startEpochNanos(rank));
+        }
+        return copied;
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        throw new IllegalStateException("Snapshots are not enabled");
+    }
+
+    @Override
+    public int size() {
+        return matchCount;
+    }
+
+    private Match toMatch(int rank) {
+        int offset = rowOffset(rank);
+        long id = buffer.getLong(offset);
+        long epochNanos = buffer.getLong(offset + 16);
+        OffsetDateTime startTime = OffsetDateTime.ofInstant(Instant.ofEpochSecond(0, epochNanos),
+                ZoneOffset.ofTotalSeconds(buffer.getInt(offset + 24)));
+
+        return new Match(competition(rank), teamName((int) (id >>> 32)), buffer.getInt(offset + 8),
+                teamName((int) id), buffer.getInt(offset + 12), startTime);
+    }
+
+    private String name(String[] cache, int offsetsOffset, int namesOffset, int index) {
+        String name = cache[index];
+        if (name == null) {
+            int start = buffer.getInt(offsetsOffset + 4 * index);
+            int end = buffer.getInt(offsetsOffset + 4 * (index + 1));
+            byte[] bytes = new byte[end - start];
+            buffer.get(namesOffset + start, bytes);
+            name = new String(bytes, StandardCharsets.UTF_8);
+            cache[index] = name;
+        }
+        return name;
+    }
+
+    private static long dictionarySize(byte[][] names) {
+        long size = 4L * (names.length + 1);
+        for (byte[] name : names) {
+            size += name.length;
+        }
+        return size;
+    }
+
+    /**
+     * Put offsets of all {@code names}, plus end of the last name, followed by the names.
+     */
+    private static void putDictionary(ByteBuffer out, byte[][] names) {
+        int offset = 0;
+        for (byte[] name : names) {
+            out.putInt(offset);
+            offset += name.length;
+        }
+        out.putInt(offset);
+        for (byte[] name : names) {
+            out.put(name);
+        }
+    }
+
+    private static int rowOffset(int rank) {
+        return HEADER_SIZE + ROW_SIZE * rank;
+    }
+}
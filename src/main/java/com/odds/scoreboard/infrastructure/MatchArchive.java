@@ -0,0 +1,209 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.FinishedMatch;
+import com.odds.scoreboard.domain.Match;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bounded archive of finished matches, queryable by team, by competition and by day the match started.
+ * <p>
+ * Archiving a match only appends it to lock-free pending queue, so the finishing thread never waits for archive
+ * lookups. Pending matches are indexed by the next lookup. Once {@code capacity} of them is pending, finishing thread
+ * also indexes a small chunk of them, if no lookup holds the archive at the moment, so pending queue stays bounded
+ * while every finish does only O(1) work. Archive has its own lock and never touches the live board, so its lookups
+ * don't contend with reads of the board.
+ * <p>
+ * Matches are kept in order they were archived, in one queue of all matches and in queue per team, per competition
+ * and per day.
+ * Match is evicted when archive holds more than {@code capacity} matches, or when it was finished longer than
+ * {@code retention} ago. Evicted match is always the oldest one, so it's the head of each of its queues as well and
+ * eviction is O(1).
+ */
+public class MatchArchive {
+    public static final int DEFAULT_CAPACITY = 100_000;
+    public static final Duration DEFAULT_RETENTION = Duration.ofDays(7);
+
+    /**
+     * Maximum number of matches indexed, and of expired matches evicted, by single finishing thread.
+     */
+    private static final int INDEX_CHUNK = 16;
+
+    private final int capacity;
+    private final Duration retention;
+    private final Clock clock;
+
+    private final ConcurrentLinkedQueue<FinishedMatch> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // guarded by lock, oldest first
+    private final ArrayDeque<FinishedMatch> matches = new ArrayDeque<>();
+    private final Map<String, ArrayDeque<FinishedMatch>> byTeam = new HashMap<>();
+    // null key for matches without competition
+    private final Map<String, ArrayDeque<FinishedMatch>> byCompetition = new HashMap<>();
+    private final Map<LocalDate, ArrayDeque<FinishedMatch>> byDay = new HashMap<>();
+
+    public MatchArchive(Clock clock) {
+        this(DEFAULT_CAPACITY, DEFAULT_RETENTION, clock);
+    }
+
+    /**
+     * @param capacity  maximum number of archived matches
+     * @param retention how long finished match is kept
+     * @param clock     clock used for finish time of matches and for their eviction, its zone defines days
+     */
+    public MatchArchive(int capacity, Duration retention, Clock clock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        if (retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("Invalid retention: " + retention);
+        }
+
+        this.capacity = capacity;
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    /**
+     * Archive match finished now.
+     *
+     * @param match final state of the match, not null
+     */
+    public void add(Match match) {
+        pending.add(new FinishedMatch(match.getHomeTeamName(), match.getHomeTeamScore(), match.getAwayTeamName(),
+                match.getAwayTeamScore(), match.getStartTime(), OffsetDateTime.now(clock), match.getCompetition()));
+
+        if (pendingCount.incrementAndGet() >= capacity && lock.writeLock().tryLock()) {
+            try {
+                index(INDEX_CHUNK);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * @param team team name, not null
+     * @return archived matches of the team, most recently finished first
+     */
+    public List<FinishedMatch> byTeam(String team) {
+        return lookup(byTeam, team);
+    }
+
+    /**
+     * @param competition competition name, null for matches without competition
+     * @return archived matches of the competition, most recently finished first
+     */
+    public List<FinishedMatch> byCompetition(String competition) {
+        return lookup(byCompetition, competition);
+    }
+
+    /**
+     * @param day day in zone of the clock, not null
+     * @return archived matches started on that day, most recently finished first
+     */
+    public List<FinishedMatch> byDay(LocalDate day) {
+        return lookup(byDay, day);
+    }
+
+    /**
+     * @return number of archived matches
+     */
+    public int size() {
+        lock.writeLock().lock();
+        try {
+            index(Integer.MAX_VALUE);
+            return matches.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private <K> List<FinishedMatch> lookup(Map<K, ArrayDeque<FinishedMatch>> index, K key) {
+        lock.writeLock().lock();
+        try {
+            index(Integer.MAX_VALUE);
+            // downgrade, so concurrent lookups copy their results in parallel
+            lock.readLock().lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            ArrayDeque<FinishedMatch> found = index.get(key);
+            if (found == null) {
+                return List.of();
+            }
+
+            List<FinishedMatch> result = new ArrayList<>(found.size());
+            for (Iterator<FinishedMatch> it = found.descendingIterator(); it.hasNext(); ) {
+                result.add(it.next());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Index pending matches and evict expired ones. Must be called while holding write lock.
+     *
+     * @param limit maximum number of indexed matches, and of evicted expired matches
+     */
+    private void index(int limit) {
+        FinishedMatch match;
+        for (int i = 0; i < limit && (match = pending.poll()) != null; i++) {
+            pendingCount.decrementAndGet();
+            matches.addLast(match);
+            byTeam.computeIfAbsent(match.homeTeamName(), k -> new ArrayDeque<>()).addLast(match);
+            byTeam.computeIfAbsent(match.awayTeamName(), k -> new ArrayDeque<>()).addLast(match);
+            byCompetition.computeIfAbsent(match.competition(), k -> new ArrayDeque<>()).addLast(match);
+            byDay.computeIfAbsent(day(match), k -> new ArrayDeque<>()).addLast(match);
+            if (matches.size() > capacity) {
+                evict();
+            }
+        }
+
+        Instant expiry = clock.instant().minus(retention);
+        for (int i = 0; i < limit && !matches.isEmpty()
+                && matches.peekFirst().endTime().toInstant().isBefore(expiry); i++) {
+            evict();
+        }
+    }
+
+    private void evict() {
+        FinishedMatch match = matches.pollFirst();
+        removeHead(byTeam, match.homeTeamName());
+        removeHead(byTeam, match.awayTeamName());
+        removeHead(byCompetition, match.competition());
+        removeHead(byDay, day(match));
+    }
+
+    private LocalDate day(FinishedMatch match) {
+        OffsetDateTime time = match.startTime() == null ? match.endTime() : match.startTime();
+        return time.atZoneSameInstant(clock.getZone()).toLocalDate();
+    }
+
+    private static <K> void removeHead(Map<K, ArrayDeque<FinishedMatch>> index, K key) {
+        ArrayDeque<FinishedMatch> queue = index.get(key);
+        queue.pollFirst();
+        if (queue.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
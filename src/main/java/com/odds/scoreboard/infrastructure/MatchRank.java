@@ -0,0 +1,43 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Sort key of a match in the ranked index of {@code MatchStorage}.
+ * Ranks are ordered by total score descending, then by start time descending (most recently started first).
+ * Match identifier is used only as a last tie-breaker, so two different matches never have equal rank.
+ * <p>
+ * Rank is immutable, so it must be recomputed every time score of a match changes.
+ *
+ * @param totalScore sum of home and away team score
+ * @param startTime  time when match was started
+ * @param id         match identifier
+ */
+record MatchRank(int totalScore, OffsetDateTime startTime, long id) implements Comparable<MatchRank> {
+    /**
+     * Rank ordered before rank of any match, to start walk of ranked index without allocating.
+     */
+    static final MatchRank FIRST = new MatchRank(Integer.MAX_VALUE, OffsetDateTime.MAX, Long.MIN_VALUE);
+
+    static MatchRank of(MatchId id, Match match) {
+        return new MatchRank(match.getTotalScore(), match.getStartTime(), id.getId());
+    }
+
+    @Override
+    public int compareTo(MatchRank other) {
+        int cmp = Integer.compare(other.totalScore, this.totalScore);
+        if (cmp != 0) {
+            return cmp;
+        }
+
+        cmp = other.startTime.compareTo(this.startTime);
+        if (cmp != 0) {
+            return cmp;
+        }
+
+        return Long.compare(this.id, other.id);
+    }
+}
@@ -1,27 +1,41 @@
 package com.odds.scoreboard.infrastructure;
 
+import com.odds.scoreboard.domain.BoardSnapshot;
 import com.odds.scoreboard.domain.Match;
 import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchView;
 import com.odds.scoreboard.infrastructure.exception.KeyExistsException;
 import com.odds.scoreboard.infrastructure.exception.KeyNotFoundException;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 /**
- * Thread-safe storage for {@code Match} objects.
- * It's a key-value based, using {@code ConcurrentHashMap} as internal storage.
- * Key is based on playing team names, meaning it can store only one match between same teams at the same time.
+ * Thread-safe storage for matches in progress, keyed by {@code MatchId}.
+ * It can store only one match between same teams at the same time.
  * <p>
- * Since {@code ConcurrentHashMap} is used, this storage obeys the same concurrency specification and if any additional
- * locking or synchronization is expected, it must be done externally.
+ * All read methods return matches ordered by total score descending. If they have same total score, ordering will
+ * be by the most recently started match.
+ * <p>
+ * Every write has non-throwing variant ({@code trySave}, {@code tryUpdate}, {@code tryDelete}), which reports
+ * duplicate or missing match by return value. Throwing variants are built on top of them and throw preallocated,
+ * stackless exceptions, so even they are cheap under duplicate-heavy load.
+ * <p>
+ * Available implementations:
+ * <ul>
+ *     <li>{@code ConcurrentMatchStorage} - default, {@code ConcurrentHashMap} with ranked index</li>
+ *     <li>{@code SlabMatchStorage} - compact, primitive arrays without objects per match</li>
+ *     <li>{@code ShardedMatchStorage} - partitioned across independent shards, for update-heavy load</li>
+ *     <li>{@code CompetitionMatchStorage} - partitioned by competition, with ranking per competition</li>
+ *     <li>{@code JournalingMatchStorage} - durable wrapper of other storage, journaling writes to disk</li>
+ *     <li>{@code ScoreHistoryMatchStorage} - wrapper of other storage, keeping score history of every match</li>
+ *     <li>{@code ArchivingMatchStorage} - wrapper of other storage, archiving finished matches</li>
+ *     <li>{@code TeamIndexedMatchStorage} - wrapper of other storage, indexing matches by team</li>
+ *     <li>{@code MappedMatchStorage} - read-only, memory-mapped binary snapshot</li>
+ * </ul>
  */
-public class MatchStorage {
-
-    private final ConcurrentMap<String, Match> storage = new ConcurrentHashMap<>();
+public interface MatchStorage {
 
     /**
      * Save {@code Match} for certain {@code MatchId}.
@@ -31,35 +45,47 @@ public class MatchStorage {
      * @param key   match identifier, not null
      * @param value match to save, not null
      */
-    public void save(MatchId key, Match value) {
-        Match existingValue = storage.putIfAbsent(key.getId(), value);
-        if (existingValue != null) {
-            throw new KeyExistsException();
+    default void save(MatchId key, Match value) {
+        if (!trySave(key, value)) {
+            throw KeyExistsException.INSTANCE;
         }
     }
 
     /**
-     * Update {@code Match} for certain {@code MatchId}.
+     * Save {@code Match} for certain {@code MatchId}, if {@code key} doesn't exist in storage yet.
+     *
+     * @param key   match identifier, not null
+     * @param value match to save, not null
+     * @return true if match was saved, false if {@code key} already exists
+     */
+    boolean trySave(MatchId key, Match value);
+
+    /**
+     * Update score of {@code Match} for certain {@code MatchId}.
      * <p>
+     * Lookup and update is single atomic operation, so if match is deleted concurrently, it's never re-inserted.
      * If {@code key} doesn't exist in storage, {@code KeyNotFoundException} is thrown.
      *
-     * @param key   match identifier, not null
-     * @param value match to update, not null
+     * @param key           match identifier, not null
+     * @param homeTeamScore new home team score
+     * @param awayTeamScore new away team score
      */
-    public void update(MatchId key, Match value) {
-        if (!storage.containsKey(key.getId())) {
-            throw new KeyNotFoundException();
+    default void update(MatchId key, int homeTeamScore, int awayTeamScore) {
+        if (!tryUpdate(key, homeTeamScore, awayTeamScore)) {
+            throw KeyNotFoundException.INSTANCE;
         }
-
-        storage.merge(key.getId(), value,
-                (oldMatch, newMatch) -> {
-                    oldMatch.setHomeTeamScore(newMatch.getHomeTeamScore());
-                    oldMatch.setAwayTeamScore(newMatch.getAwayTeamScore());
-                    return oldMatch;
-                }
-        );
     }
 
+    /**
+     * Update score of {@code Match} for certain {@code MatchId}, if {@code key} exists in storage.
+     *
+     * @param key           match identifier, not null
+     * @param homeTeamScore new home team score
+     * @param awayTeamScore new away team score
+     * @return true if match was updated, false if {@code key} doesn't exist
+     */
+    boolean tryUpdate(MatchId key, int homeTeamScore, int awayTeamScore);
+
     /**
      * Delete {@code Match} under specific {@code key}.
      * <p>
@@ -67,23 +93,174 @@ public class MatchStorage {
      *
      * @param key match identifier to delete, not null
      */
-    public void delete(MatchId key) {
-        Match deleted = storage.remove(key.getId());
-        if (deleted == null) {
-            throw new KeyNotFoundException();
+    default void delete(MatchId key) {
+        if (!tryDelete(key)) {
+            throw KeyNotFoundException.INSTANCE;
+        }
+    }
+
+    /**
+     * Delete {@code Match} under specific {@code key}, if it exists in storage.
+     *
+     * @param key match identifier to delete, not null
+     * @return true if match was deleted, false if {@code key} doesn't exist
+     */
+    boolean tryDelete(MatchId key);
+
+    /**
+     * Delete {@code Match} under specific {@code key}, if it exists in storage, and return its last state.
+     * <p>
+     * Default implementation runs lookup and delete as one batch, so it's atomic only for storage serializing its
+     * writers.
+     *
+     * @param key match identifier to delete, not null
+     * @return copy of deleted match, or null if {@code key} doesn't exist
+     */
+    default Match tryRemove(MatchId key) {
+        Match[] removed = new Match[1];
+        batch(() -> {
+            Match match = get(key);
+            if (match != null && tryDelete(key)) {
+                removed[0] = match;
+            }
+        });
+        return removed[0];
+    }
+
+    /**
+     * Run {@code writes} performed on this storage as one batch.
+     * Implementations can use it to amortize per-write costs, like locking or publishing of snapshots, so readers of
+     * snapshot see either none or all writes of the batch. Failed writes don't stop the batch.
+     * Batches can be nested, then inner batch is just part of the outer one.
+     * <p>
+     * Default implementation just runs {@code writes}.
+     *
+     * @param writes writes to perform, calling methods of this storage
+     */
+    default void batch(Runnable writes) {
+        writes.run();
+    }
+
+    /**
+     * Returns deep copy of {@code Match} saved under {@code key}.
+     *
+     * @param key match identifier, not null
+     * @return copy of match, or null if {@code key} doesn't exist
+     */
+    Match get(MatchId key);
+
+    /**
+     * Returns deep copy of {@code Match} in progress, in which {@code team} plays as home or away team.
+     * <p>
+     * Default implementation scans all matches, {@code TeamIndexedMatchStorage} looks the team up in O(1).
+     *
+     * @param team team name, not null
+     * @return copy of match of the team, or null if team has no match in storage
+     */
+    default Match getByTeam(String team) {
+        for (Match match : getAll()) {
+            if (team.equals(match.getHomeTeamName()) || team.equals(match.getAwayTeamName())) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns deep copy of matches of {@code competition}, ordered same way as {@link #getAll()}.
+     * <p>
+     * Default implementation filters all matches, {@code CompetitionMatchStorage} keeps every competition ordered
+     * separately, so cost is proportional to size of the competition.
+     *
+     * @param competition competition name, null for matches without competition
+     * @return ordered list of matches of the competition
+     */
+    default List<Match> getByCompetition(String competition) {
+        List<Match> matches = new ArrayList<>();
+        for (Match match : getAll()) {
+            if (Objects.equals(competition, match.getCompetition())) {
+                matches.add(match);
+            }
         }
+        return matches;
+    }
+
+    /**
+     * Returns zero-based position of {@code Match} saved under {@code key}, in the ordering used by {@link #getAll()}.
+     * <p>
+     * Cost depends on implementation, it can be linear in the size of storage.
+     *
+     * @param key match identifier, not null
+     * @return position of match, or -1 if {@code key} doesn't exist
+     */
+    int rankOf(MatchId key);
+
+    /**
+     * Returns number of matches ordered before {@code match} by total score and start time, in the ordering used by
+     * {@link #getAll()}. Match doesn't need to be saved in this storage, so storages partitioning matches use it to
+     * rank match of one partition in the others.
+     * <p>
+     * Default implementation searches copy of all matches, {@code ConcurrentMatchStorage} and {@code SlabMatchStorage}
+     * count their own matches without copying them.
+     *
+     * @param match      match to count the matches before, not null
+     * @param tiesBefore true if matches with same total score and start time are counted as ordered before
+     * @return number of matches ordered before {@code match}
+     */
+    default int countBefore(Match match, boolean tiesBefore) {
+        return RankedMerge.countBefore(getAll(), match, tiesBefore);
     }
 
     /**
-     * Returns deep copy of all matches saved in storage.
+     * Returns deep copy of all matches saved in storage, ordered by total score descending. If they have same
+     * total score, ordering will be by the most recently started match.
      * Any changes performed on result don't affect storage itself.
      *
-     * @return List of all matches in storage
+     * @return ordered List of all matches in storage
+     */
+    List<Match> getAll();
+
+    /**
+     * Returns deep copy of {@code limit} matches, starting at {@code offset} position of the ordering used by
+     * {@link #getAll()}. Only returned matches are copied.
+     *
+     * @param offset number of top matches to skip, not negative
+     * @param limit  maximum number of matches to return, not negative
+     * @return ordered List of matches, empty if {@code offset} is beyond the size of storage
+     */
+    List<Match> getRange(int offset, int limit);
+
+    /**
+     * Copy matches starting at {@code offset} position of the ordering used by {@link #getAll()} into caller-owned
+     * {@code views}, which are refilled in place, so repeated reads don't produce garbage.
+     * <p>
+     * Default implementation copies result of {@link #getRange(int, int)}, so it still allocates.
+     * {@code ConcurrentMatchStorage}, {@code SlabMatchStorage} and {@code MappedMatchStorage} allocate nothing in
+     * steady state.
+     *
+     * @param offset number of top matches to skip, not negative
+     * @param views  views to refill, not null, their number is the maximum number of matches to copy
+     * @return number of refilled views, less than length of {@code views} at the end of storage
      */
-    public List<Match> getAll() {
-        return storage.values()
-                .stream()
-                .map(Match::new)
-                .collect(Collectors.toCollection(ArrayList::new));
+    default int copyRange(int offset, MatchView[] views) {
+        List<Match> matches = getRange(offset, views.length);
+        for (int i = 0; i < matches.size(); i++) {
+            views[i].set(matches.get(i));
+        }
+        return matches.size();
     }
+
+    /**
+     * Returns consistent, immutable snapshot of all matches in storage.
+     * <p>
+     * If storage is not in snapshot mode, {@code IllegalStateException} is thrown.
+     *
+     * @return immutable snapshot of all matches in storage
+     */
+    BoardSnapshot snapshot();
+
+    /**
+     * @return number of matches in storage
+     */
+    int size();
 }
@@ -0,0 +1,99 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.Match;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Ordered reads over several storages, each keeping its own matches ordered, shared by storages partitioning
+ * matches, see {@code ShardedMatchStorage} and {@code CompetitionMatchStorage}.
+ * <p>
+ * Ties of total score and start time between matches of different partitions are ordered by partition index.
+ */
+final class RankedMerge {
+    static final Comparator<Match> ORDER = Comparator.comparingInt(Match::getTotalScore).reversed()
+            .thenComparing(Match::getStartTime, Comparator.reverseOrder());
+
+    private RankedMerge() {
+    }
+
+    /**
+     * Merge ordered lists of partitions, skipping {@code offset} first matches. Matches are taken only until
+     * {@code limit} of them are merged, so partitions are read lazily from their heads.
+     */
+    static List<Match> merge(List<List<Match>> ordered, int offset, int limit) {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(ordered.size(), 1));
+        int total = 0;
+        for (int partition = 0; partition < ordered.size(); partition++) {
+            List<Match> matches = ordered.get(partition);
+            total += matches.size();
+            if (!matches.isEmpty()) {
+                heads.add(new Cursor(matches, partition));
+            }
+        }
+
+        List<Match> merged = new ArrayList<>(Math.max(Math.min(total - offset, limit), 0));
+        int position = 0;
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Cursor head = heads.poll();
+            if (position++ >= offset) {
+                merged.add(head.current());
+            }
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Number of {@code matches} ordered before {@code match}, by binary search, since {@code matches} are ordered.
+     *
+     * @param tiesBefore true if {@code matches} are from partition ordered before partition of {@code match}
+     */
+    static int countBefore(List<Match> matches, Match match, boolean tiesBefore) {
+        int low = 0;
+        int high = matches.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int cmp = ORDER.compare(matches.get(middle), match);
+            if (cmp < 0 || (cmp == 0 && tiesBefore)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Position in ordered matches of one partition.
+     */
+    private static final class Cursor implements Comparable<Cursor> {
+        private final List<Match> matches;
+        private final int partition;
+        private int index;
+
+        private Cursor(List<Match> matches, int partition) {
+            this.matches = matches;
+            this.partition = partition;
+        }
+
+        private Match current() {
+            return matches.get(index);
+        }
+
+        private boolean advance() {
+            return ++index < matches.size();
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int cmp = ORDER.compare(current(), other.current());
+            return cmp != 0 ? cmp : Integer.compare(partition, other.partition);
+        }
+    }
+}
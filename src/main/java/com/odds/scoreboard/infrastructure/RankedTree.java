@@ -0,0 +1,246 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.MatchSnapshot;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Persistent (immutable) ranked tree of {@code MatchSnapshot}s, ordered by {@code MatchRank}.
+ * <p>
+ * It's a treap with path copying: every {@code put} or {@code remove} returns new tree, which shares all untouched
+ * nodes with the original one. Write is O(log n) expected, both in time and allocated nodes, and old versions
+ * stay valid forever, so they can be published to readers without any copying.
+ * <p>
+ * Every node knows size of its subtree, which makes positional access and rank lookup O(log n).
+ */
+final class RankedTree {
+    static final RankedTree EMPTY = new RankedTree(null);
+
+    private final Node root;
+
+    private RankedTree(Node root) {
+        this.root = root;
+    }
+
+    int size() {
+        return Node.size(root);
+    }
+
+    /**
+     * Insert {@code value} under {@code rank}. Rank must not be present in the tree.
+     */
+    RankedTree put(MatchRank rank, MatchSnapshot value) {
+        return new RankedTree(insert(root, new Node(rank, value, priority(rank), null, null)));
+    }
+
+    /**
+     * Remove {@code rank} from the tree. If rank is not present, same tree is returned.
+     */
+    RankedTree remove(MatchRank rank) {
+        Node newRoot = delete(root, rank);
+        return newRoot == root ? this : new RankedTree(newRoot);
+    }
+
+    MatchSnapshot get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        Node node = root;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Zero-based position of {@code rank} in the tree, or -1 if it's not present.
+     */
+    int indexOf(MatchRank rank) {
+        int index = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = rank.compareTo(node.rank);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                index += Node.size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + Node.size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Unmodifiable list view of the tree. Since tree is immutable, view never changes.
+     */
+    List<MatchSnapshot> asList() {
+        return new ListView(this);
+    }
+
+    private static Node insert(Node node, Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+
+        if (newNode.priority > node.priority) {
+            Node[] split = split(node, newNode.rank);
+            return newNode.with(split[0], split[1]);
+        }
+
+        if (newNode.rank.compareTo(node.rank) < 0) {
+            return node.with(insert(node.left, newNode), node.right);
+        }
+        return node.with(node.left, insert(node.right, newNode));
+    }
+
+    private static Node delete(Node node, MatchRank rank) {
+        if (node == null) {
+            return null;
+        }
+
+        int cmp = rank.compareTo(node.rank);
+        if (cmp < 0) {
+            Node left = delete(node.left, rank);
+            return left == node.left ? node : node.with(left, node.right);
+        }
+        if (cmp > 0) {
+            Node right = delete(node.right, rank);
+            return right == node.right ? node : node.with(node.left, right);
+        }
+        return merge(node.left, node.right);
+    }
+
+    /**
+     * Split tree into nodes lower and greater than {@code rank}.
+     */
+    private static Node[] split(Node node, MatchRank rank) {
+        if (node == null) {
+            return new Node[2];
+        }
+
+        if (rank.compareTo(node.rank) < 0) {
+            Node[] split = split(node.left, rank);
+            split[1] = node.with(split[1], node.right);
+            return split;
+        }
+
+        Node[] split = split(node.right, rank);
+        split[0] = node.with(node.left, split[0]);
+        return split;
+    }
+
+    /**
+     * Merge two trees, where all nodes of {@code lower} are lower than nodes of {@code greater}.
+     */
+    private static Node merge(Node lower, Node greater) {
+        if (lower == null) {
+            return greater;
+        }
+        if (greater == null) {
+            return lower;
+        }
+
+        if (lower.priority > greater.priority) {
+            return lower.with(lower.left, merge(lower.right, greater));
+        }
+        return greater.with(merge(lower, greater.left), greater.right);
+    }
+
+    /**
+     * Priority is derived from match identifier, so it's deterministic and stays same when score changes.
+     */
+    private static int priority(MatchRank rank) {
+        long h = rank.id() * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static final class Node {
+        private final MatchRank rank;
+        private final MatchSnapshot value;
+        private final int priority;
+        private final Node left;
+        private final Node right;
+        private final int size;
+
+        private Node(MatchRank rank, MatchSnapshot value, int priority, Node left, Node right) {
+            this.rank = rank;
+            this.value = value;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        private Node with(Node left, Node right) {
+            return new Node(rank, value, priority, left, right);
+        }
+
+        private static int size(Node node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+
+    private static final class ListView extends AbstractList<MatchSnapshot> {
+        private final RankedTree tree;
+
+        private ListView(RankedTree tree) {
+            this.tree = tree;
+        }
+
+        @Override
+        public MatchSnapshot get(int index) {
+            return tree.get(index);
+        }
+
+        @Override
+        public int size() {
+            return tree.size();
+        }
+
+        /**
+         * In-order walk, which is O(n) for whole tree, compared to O(n log n) for positional access.
+         */
+        @Override
+        public Iterator<MatchSnapshot> iterator() {
+            return new Iterator<>() {
+                private final Deque<Node> stack = new ArrayDeque<>();
+                private Node next = tree.root;
+
+                @Override
+                public boolean hasNext() {
+                    return next != null || !stack.isEmpty();
+                }
+
+                @Override
+                public MatchSnapshot next() {
+                    while (next != null) {
+                        stack.push(next);
+                        next = next.left;
+                    }
+                    if (stack.isEmpty()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    Node node = stack.pop();
+                    next = node.right;
+                    return node.value;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.BoardSnapshot;
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchView;
+import com.odds.scoreboard.domain.ScoreSample;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@code MatchStorage} keeping bounded score history of every match of delegate storage, so the goal timeline of
+ * a match can be queried, e.g. score at certain time or goals in last minutes.
+ * <p>
+ * History of a match is created when match is saved and dropped when it's deleted. Every successful update appends
+ * sample with time from given clock, see {@code ScoreTimeline} for its compact format. Writes of a match are done
+ * while holding lock of its history, so history has the same order of scores as the delegate. Recording adds only
+ * clock read and a few array writes under uncontended lock to the write.
+ * <p>
+ * Delegate should be empty, since matches already stored in it have no history. If this storage is wrapped by
+ * {@code JournalingMatchStorage}, recovered matches get history starting at their recovered score.
+ */
+public class ScoreHistoryMatchStorage implements MatchStorage {
+    public static final int DEFAULT_RETENTION = 256;
+
+    private final MatchStorage delegate;
+    private final Clock clock;
+    private final int retention;
+    private final ConcurrentMap<MatchId, ScoreTimeline> timelines = new ConcurrentHashMap<>();
+    // writes share read lock, batch takes write lock, see batch()
+    private final ReentrantReadWriteLock batchLock = new ReentrantReadWriteLock();
+
+    public ScoreHistoryMatchStorage(MatchStorage delegate, Clock clock) {
+        this(delegate, clock, DEFAULT_RETENTION);
+    }
+
+    /**
+     * @param delegate  storage keeping matches
+     * @param clock     clock used for time of score changes
+     * @param retention maximum number of score changes retained per match
+     */
+    public ScoreHistoryMatchStorage(MatchStorage delegate, Clock clock, int retention) {
+        if (retention <= 0) {
+            throw new IllegalArgumentException("Invalid retention: " + retention);
+        }
+
+        this.delegate = delegate;
+        this.clock = clock;
+        this.retention = retention;
+    }
+
+    @Override
+    public boolean trySave(MatchId key, Match value) {
+        batchLock.readLock().lock();
+        try {
+            return saveWithHistory(key, value);
+        } finally {
+            batchLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean tryUpdate(MatchId key, int homeTeamScore, int awayTeamScore) {
+        batchLock.readLock().lock();
+        try {
+            return updateWithHistory(key, homeTeamScore, awayTeamScore);
+        } finally {
+            batchLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean tryDelete(MatchId key) {
+        return tryRemove(key) != null;
+    }
+
+    @Override
+    public Match tryRemove(MatchId key) {
+        batchLock.readLock().lock();
+        try {
+            return removeWithHistory(key);
+        } finally {
+            batchLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Batch excludes concurrent writes outside of it, since they lock history of a match before the delegate, while
+     * batch of delegate can lock the delegate first.
+     */
+    @Override
+    public void batch(Runnable writes) {
+        batchLock.writeLock().lock();
+        try {
+            delegate.batch(writes);
+        } finally {
+            batchLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Match get(MatchId key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public Match getByTeam(String team) {
+        return delegate.getByTeam(team);
+    }
+
+    @Override
+    public List<Match> getByCompetition(String competition) {
+        return delegate.getByCompetition(competition);
+    }
+
+    @Override
+    public int rankOf(MatchId key) {
+        return delegate.rankOf(key);
+    }
+
+    @Override
+    public List<Match> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public List<Match> getRange(int offset, int limit) {
+        return delegate.getRange(offset, limit);
+    }
+
+    @Override
+    public int copyRange(int offset, MatchView[] views) {
+        return delegate.copyRange(offset, views);
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        return delegate.snapshot();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Score of match in effect at {@code time}.
+     *
+     * @param key  match identifier, not null
+     * @param time point in time, not null
+     * @return score with time when it was set, or null if match is not on board or {@code time} is before its
+     * retained history
+     */
+    public ScoreSample scoreAt(MatchId key, Instant time) {
+        ScoreTimeline timeline = timelines.get(key);
+        if (timeline == null) {
+            return null;
+        }
+
+        timeline.lock.lock();
+        try {
+            return timeline.scoreAt(time.toEpochMilli());
+        } finally {
+            timeline.lock.unlock();
+        }
+    }
+
+    /**
+     * Number of goals scored in match during last {@code period}, as change of its total score, so corrected score
+     * is counted as well. If {@code period} reaches before retained history, goals are counted from its start.
+     *
+     * @param key    match identifier, not null
+     * @param period period ending now, not null
+     * @return number of goals, or -1 if match is not on board
+     */
+    public int goalsInLast(MatchId key, Duration period) {
+        ScoreTimeline timeline = timelines.get(key);
+        if (timeline == null) {
+            return -1;
+        }
+
+        timeline.lock.lock();
+        try {
+            return timeline.goalsSince(clock.millis() - period.toMillis());
+        } finally {
+            timeline.lock.unlock();
+        }
+    }
+
+    /**
+     * Retained score history of match.
+     *
+     * @param key match identifier, not null
+     * @return oldest retained score followed by every later change, oldest first, empty if match is not on board
+     */
+    public List<ScoreSample> history(MatchId key) {
+        ScoreTimeline timeline = timelines.get(key);
+        if (timeline == null) {
+            return List.of();
+        }
+
+        timeline.lock.lock();
+        try {
+            return timeline.samples();
+        } finally {
+            timeline.lock.unlock();
+        }
+    }
+
+    private boolean saveWithHistory(MatchId key, Match value) {
+        long startMillis = value.getStartTime() == null
+                ? clock.millis() : value.getStartTime().toInstant().toEpochMilli();
+        ScoreTimeline created = new ScoreTimeline(retention, startMillis, value.getHomeTeamScore(),
+                value.getAwayTeamScore());
+        created.lock.lock();
+        try {
+            ScoreTimeline existing;
+            while ((existing = timelines.putIfAbsent(key, created)) != null) {
+                // match is on board, unless it's being deleted concurrently
+                existing.lock.lock();
+                try {
+                    if (timelines.get(key) == existing) {
+                        return false;
+                    }
+                } finally {
+                    existing.lock.unlock();
+                }
+            }
+
+            if (!delegate.trySave(key, value)) {
+                timelines.remove(key, created);
+                return false;
+            }
+            return true;
+        } finally {
+            created.lock.unlock();
+        }
+    }
+
+    private boolean updateWithHistory(MatchId key, int homeTeamScore, int awayTeamScore) {
+        while (true) {
+            ScoreTimeline timeline = timelines.get(key);
+            if (timeline == null) {
+                return delegate.tryUpdate(key, homeTeamScore, awayTeamScore);
+            }
+
+            timeline.lock.lock();
+            try {
+                if (timelines.get(key) == timeline) {
+                    boolean updated = delegate.tryUpdate(key, homeTeamScore, awayTeamScore);
+                    if (updated) {
+                        timeline.record(clock.millis(), homeTeamScore, awayTeamScore);
+                    }
+                    return updated;
+                }
+            } finally {
+                timeline.lock.unlock();
+            }
+        }
+    }
+
+    private Match removeWithHistory(MatchId key) {
+        while (true) {
+            ScoreTimeline timeline = timelines.get(key);
+            if (timeline == null) {
+                return delegate.tryRemove(key);
+            }
+
+            timeline.lock.lock();
+            try {
+                if (timelines.get(key) == timeline) {
+                    Match removed = delegate.tryRemove(key);
+                    if (removed != null) {
+                        timelines.remove(key, timeline);
+                    }
+                    return removed;
+                }
+            } finally {
+                timeline.lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.ScoreSample;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded score history of single match, kept as delta-encoded samples in primitive arrays.
+ * <p>
+ * Every sample is 8 bytes: milliseconds since previous sample as {@code int}, and changes of home and away score as
+ * {@code short}. Change which doesn't fit is split into more samples. Samples form ring buffer, when it's full, the
+ * oldest sample is folded into base state, which is score in effect before the oldest retained sample.
+ * <p>
+ * Not thread-safe, all methods must be called while holding {@link #lock}.
+ */
+final class ScoreTimeline {
+    final ReentrantLock lock = new ReentrantLock();
+
+    private final int[] timeDeltas;
+    private final short[] homeDeltas;
+    private final short[] awayDeltas;
+    private int head;
+    private int size;
+
+    // state before the oldest retained sample
+    private long baseMillis;
+    private int baseHome;
+    private int baseAway;
+
+    // state after the newest sample
+    private long lastMillis;
+    private int lastHome;
+    private int lastAway;
+
+    /**
+     * @param retention   maximum number of retained samples
+     * @param startMillis start time of match, as epoch milliseconds
+     * @param homeScore   initial home team score
+     * @param awayScore   initial away team score
+     */
+    ScoreTimeline(int retention, long startMillis, int homeScore, int awayScore) {
+        timeDeltas = new int[retention];
+        homeDeltas = new short[retention];
+        awayDeltas = new short[retention];
+        baseMillis = lastMillis = startMillis;
+        baseHome = lastHome = homeScore;
+        baseAway = lastAway = awayScore;
+    }
+
+    /**
+     * Record score set at {@code millis}, if it differs from the last one. Time going backwards is recorded as time
+     * of the last sample.
+     */
+    void record(long millis, int homeScore, int awayScore) {
+        if (homeScore == lastHome && awayScore == lastAway) {
+            return;
+        }
+
+        long time = Math.max(millis, lastMillis);
+        while (homeScore != lastHome || awayScore != lastAway) {
+            append((int) Math.min(time - lastMillis, Integer.MAX_VALUE),
+                    clamp(homeScore - lastHome), clamp(awayScore - lastAway));
+        }
+    }
+
+    /**
+     * @return score in effect at {@code millis}, or null if it's before the oldest retained state
+     */
+    ScoreSample scoreAt(long millis) {
+        if (millis < baseMillis) {
+            return null;
+        }
+
+        long time = baseMillis;
+        int home = baseHome;
+        int away = baseAway;
+        for (int i = 0; i < size; i++) {
+            int slot = slot(i);
+            if (time + timeDeltas[slot] > millis) {
+                break;
+            }
+            time += timeDeltas[slot];
+            home += homeDeltas[slot];
+            away += awayDeltas[slot];
+        }
+        return new ScoreSample(Instant.ofEpochMilli(time), home, away);
+    }
+
+    /**
+     * @return change of total score since {@code millis}, or since the oldest retained state if it's later
+     */
+    int goalsSince(long millis) {
+        ScoreSample from = scoreAt(Math.max(millis, baseMillis));
+        return lastHome + lastAway - from.totalScore();
+    }
+
+    /**
+     * @return oldest retained state followed by all retained samples, oldest first
+     */
+    List<ScoreSample> samples() {
+        List<ScoreSample> samples = new ArrayList<>(size + 1);
+        long time = baseMillis;
+        int home = baseHome;
+        int away = baseAway;
+        samples.add(new ScoreSample(Instant.ofEpochMilli(time), home, away));
+        for (int i = 0; i < size; i++) {
+            int slot = slot(i);
+            time += timeDeltas[slot];
+            home += homeDeltas[slot];
+            away += awayDeltas[slot];
+            samples.add(new ScoreSample(Instant.ofEpochMilli(time), home, away));
+        }
+        return samples;
+    }
+
+    private void append(int timeDelta, short homeDelta, short awayDelta) {
+        if (size == timeDeltas.length) {
+            baseMillis += timeDeltas[head];
+            baseHome += homeDeltas[head];
+            baseAway += awayDeltas[head];
+            head = (head + 1) % timeDeltas.length;
+            size--;
+        }
+
+        int slot = slot(size++);
+        timeDeltas[slot] = timeDelta;
+        homeDeltas[slot] = homeDelta;
+        awayDeltas[slot] = awayDelta;
+        lastMillis += timeDelta;
+        lastHome += homeDelta;
+        lastAway += awayDelta;
+    }
+
+    private int slot(int index) {
+        return (head + index) % timeDeltas.length;
+    }
+
+    private static short clamp(int delta) {
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, delta));
+    }
+}
@@ -0,0 +1,265 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.BoardSnapshot;
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe storage for update-heavy boards, partitioning matches by hash of {@code MatchId} across fixed number of
+ * independent shards.
+ * <p>
+ * Every shard is separate {@code MatchStorage}, by default {@code SlabMatchStorage}, which serializes its own writers
+ * and doesn't allocate on update. Writes to matches of different shards never contend, so update throughput scales
+ * with number of shards, instead of every writer and reader sharing single structure.
+ * <p>
+ * Every shard keeps its matches ordered, so ordered reads are k-way merge of per-shard orderings. Ties of total score
+ * and start time between matches of different shards are ordered by shard. Shards are read one after another, so
+ * ordered read isn't consistent view across shards, see {@code ConcurrentMatchStorage} for the same eventual
+ * consistency.
+ * <p>
+ * In snapshot mode, writers of all shards are serialized by a lock, which gives up scaling of writes for consistent
+ * snapshots. Snapshot is merged on first read after write and is shared by all readers until next write.
+ */
+public class ShardedMatchStorage implements MatchStorage {
+    public static final int DEFAULT_SHARDS = 16;
+
+    private final MatchStorage[] shards;
+
+    private final boolean snapshotsEnabled;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // written only while holding writeLock
+    private volatile long version;
+    private volatile BoardSnapshot snapshot = new BoardSnapshot(0, List.of());
+
+    public ShardedMatchStorage() {
+        this(DEFAULT_SHARDS);
+    }
+
+    /**
+     * @param shards number of shards, power of two
+     */
+    public ShardedMatchStorage(int shards) {
+        this(shards, SlabMatchStorage::new, false);
+    }
+
+    /**
+     * @param shards           number of shards, power of two
+     * @param factory          factory of storage of every shard
+     * @param snapshotsEnabled if true, {@link #snapshot()} is supported
+     */
+    public ShardedMatchStorage(int shards, Supplier<MatchStorage> factory, boolean snapshotsEnabled) {
+        if (shards <= 0 || Integer.bitCount(shards) != 1) {
+            throw new IllegalArgumentException("Number of shards must be power of two: " + shards);
+        }
+
+        this.shards = new MatchStorage[shards];
+        for (int i = 0; i < shards; i++) {
+            this.shards[i] = factory.get();
+        }
+        this.snapshotsEnabled = snapshotsEnabled;
+    }
+
+    @Override
+    public boolean trySave(MatchId key, Match value) {
+        lockWrites();
+        try {
+            return written(shard(key).trySave(key, value));
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    @Override
+    public boolean tryUpdate(MatchId key, int homeTeamScore, int awayTeamScore) {
+        lockWrites();
+        try {
+            return written(shard(key).tryUpdate(key, homeTeamScore, awayTeamScore));
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    @Override
+    public boolean tryDelete(MatchId key) {
+        lockWrites();
+        try {
+            return written(shard(key).tryDelete(key));
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    @Override
+    public Match tryRemove(MatchId key) {
+        lockWrites();
+        try {
+            Match removed = shard(key).tryRemove(key);
+            written(removed != null);
+            return removed;
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In snapshot mode, write lock is held for the whole batch, so snapshot sees either none or all writes of it.
+     */
+    @Override
+    public void batch(Runnable writes) {
+        lockWrites();
+        try {
+            writes.run();
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    @Override
+    public Match get(MatchId key) {
+        return shard(key).get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every shard is asked. Matches of one team are in different shards, so index across shards is kept by wrapping
+     * this storage in {@code TeamIndexedMatchStorage}, not its shards.
+     */
+    @Override
+    public Match getByTeam(String team) {
+        for (MatchStorage shard : shards) {
+            Match match = shard.getByTeam(team);
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Position in own shard is added to number of matches ranked before the match in every other shard, counted by
+     * the shard itself without copying its matches, so it's O(n) with the default slab shards.
+     */
+    @Override
+    public int rankOf(MatchId key) {
+        int own = shardIndex(key);
+        Match match = shards[own].get(key);
+        if (match == null) {
+            return -1;
+        }
+
+        int rank = Math.max(shards[own].rankOf(key), 0);
+        for (int i = 0; i < shards.length; i++) {
+            if (i != own) {
+                rank += shards[i].countBefore(match, i < own);
+            }
+        }
+        return rank;
+    }
+
+    @Override
+    public List<Match> getAll() {
+        List<List<Match>> ordered = new ArrayList<>(shards.length);
+        for (MatchStorage shard : shards) {
+            ordered.add(shard.getAll());
+        }
+        return RankedMerge.merge(ordered, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every shard returns at most {@code offset + limit} top matches, which are merged, so cost is proportional to
+     * {@code (offset + limit) * shards}, not to the size of storage.
+     */
+    @Override
+    public List<Match> getRange(int offset, int limit) {
+        int top = (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+        List<List<Match>> ordered = new ArrayList<>(shards.length);
+        for (MatchStorage shard : shards) {
+            ordered.add(shard.getRange(0, top));
+        }
+        return RankedMerge.merge(ordered, offset, limit);
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        if (!snapshotsEnabled) {
+            throw new IllegalStateException("Snapshots are not enabled");
+        }
+
+        BoardSnapshot current = snapshot;
+        if (current.version() == version) {
+            return current;
+        }
+
+        writeLock.lock();
+        try {
+            current = snapshot;
+            if (current.version() == version) {
+                return current;
+            }
+
+            List<MatchSnapshot> matches = new ArrayList<>();
+            for (Match match : getAll()) {
+                matches.add(MatchSnapshot.of(match));
+            }
+            current = new BoardSnapshot(version, Collections.unmodifiableList(matches));
+            snapshot = current;
+            return current;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (MatchStorage shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    /**
+     * Count successful write for versioning of snapshots. Must be called while holding write lock.
+     */
+    private boolean written(boolean success) {
+        if (success && snapshotsEnabled) {
+            version++;
+        }
+        return success;
+    }
+
+    private void lockWrites() {
+        if (snapshotsEnabled) {
+            writeLock.lock();
+        }
+    }
+
+    private void unlockWrites() {
+        if (snapshotsEnabled) {
+            writeLock.unlock();
+        }
+    }
+
+    private MatchStorage shard(MatchId key) {
+        return shards[shardIndex(key)];
+    }
+
+    private int shardIndex(MatchId key) {
+        long h = key.getId() * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & (shards.length - 1);
+    }
+}
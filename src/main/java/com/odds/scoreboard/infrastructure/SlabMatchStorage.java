@@ -0,0 +1,509 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.BoardSnapshot;
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchSnapshot;
+import com.odds.scoreboard.domain.MatchView;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Thread-safe storage for matches, keeping all match data in primitive arrays instead of {@code Match} objects.
+ * <p>
+ * Every match is one row of parallel arrays (match id, scores, start time as epoch nanos and zone offset, competition),
+ * rows are kept dense, so deleted row is replaced by the last one. Rows are found by open addressing hash index keyed
+ * directly by primitive match id. Team names are stored once per team, in array indexed by team identifier, and
+ * competition names once per competition, in array indexed by competition number kept in row.
+ * That makes footprint of a match a few dozens of bytes, without any objects per match, see README for comparison
+ * with {@code ConcurrentMatchStorage}.
+ * <p>
+ * Writes are done under write lock, and don't allocate unless arrays must grow. Reads are done under read lock and
+ * don't keep ranked index, so ordering is computed on first read after write and shared by readers until next write,
+ * which makes this storage good fit for update-heavy boards with large number of matches, read less often.
+ * <p>
+ * In snapshot mode, snapshot is built on first read after write and is shared by all readers until next write.
+ */
+public class SlabMatchStorage implements MatchStorage {
+    private static final long EMPTY = -1L;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final boolean snapshotsEnabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // index: open addressing with linear probing, at most half full
+    private long[] indexKeys;
+    private int[] indexRows;
+
+    // rows: 0 until size
+    private long[] ids;
+    private int[] homeScores;
+    private int[] awayScores;
+    private long[] startEpochNanos;
+    private int[] startOffsets;
+    // index to competitionNames, or -1 without competition
+    private int[] competitions;
+    private int size;
+
+    private String[] teamNames = new String[INITIAL_CAPACITY];
+    private final List<String> competitionNames = new ArrayList<>();
+    private final Map<String, Integer> competitionIds = new HashMap<>();
+    private long version;
+
+    private volatile BoardSnapshot snapshot = new BoardSnapshot(0, List.of());
+    private volatile Ranking ranking = new Ranking(0, new int[0]);
+
+    public SlabMatchStorage() {
+        this(false);
+    }
+
+    /**
+     * @param snapshotsEnabled if true, {@link #snapshot()} is supported
+     */
+    public SlabMatchStorage(boolean snapshotsEnabled) {
+        this.snapshotsEnabled = snapshotsEnabled;
+
+        indexKeys = new long[INITIAL_CAPACITY * 2];
+        Arrays.fill(indexKeys, EMPTY);
+        indexRows = new int[INITIAL_CAPACITY * 2];
+
+        ids = new long[INITIAL_CAPACITY];
+        homeScores = new int[INITIAL_CAPACITY];
+        awayScores = new int[INITIAL_CAPACITY];
+        startEpochNanos = new long[INITIAL_CAPACITY];
+        startOffsets = new int[INITIAL_CAPACITY];
+        competitions = new int[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public boolean trySave(MatchId key, Match value) {
+        lock.writeLock().lock();
+        try {
+            long id = key.getId();
+            int slot = slot(id);
+            if (indexKeys[slot] != EMPTY) {
+                return false;
+            }
+
+            if (size == ids.length) {
+                growRows();
+                slot = slot(id);
+            }
+
+            int row = size++;
+            ids[row] = id;
+            homeScores[row] = value.getHomeTeamScore();
+            awayScores[row] = value.getAwayTeamScore();
+            startEpochNanos[row] = value.getStartEpochNanos();
+            startOffsets[row] = value.getStartTime().getOffset().getTotalSeconds();
+            competitions[row] = competitionId(value.getCompetition());
+
+            indexKeys[slot] = id;
+            indexRows[slot] = row;
+
+            registerTeam(key.getHomeTeamId(), value.getHomeTeamName());
+            registerTeam(key.getAwayTeamId(), value.getAwayTeamName());
+            version++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean tryUpdate(MatchId key, int homeTeamScore, int awayTeamScore) {
+        lock.writeLock().lock();
+        try {
+            int slot = slot(key.getId());
+            if (indexKeys[slot] == EMPTY) {
+                return false;
+            }
+
+            int row = indexRows[slot];
+            homeScores[row] = homeTeamScore;
+            awayScores[row] = awayTeamScore;
+            version++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean tryDelete(MatchId key) {
+        return tryRemove(key) != null;
+    }
+
+    @Override
+    public Match tryRemove(MatchId key) {
+        lock.writeLock().lock();
+        try {
+            int slot = slot(key.getId());
+            if (indexKeys[slot] == EMPTY) {
+                return null;
+            }
+
+            int row = indexRows[slot];
+            Match removed = toMatch(row);
+            removeSlot(slot);
+
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                homeScores[row] = homeScores[last];
+                awayScores[row] = awayScores[last];
+                startEpochNanos[row] = startEpochNanos[last];
+                startOffsets[row] = startOffsets[last];
+                competitions[row] = competitions[last];
+                indexRows[slot(ids[row])] = row;
+            }
+            version++;
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Write lock is held for the whole batch, so it's acquired once instead of once per write.
+     */
+    @Override
+    public void batch(Runnable writes) {
+        lock.writeLock().lock();
+        try {
+            writes.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Match get(MatchId key) {
+        lock.readLock().lock();
+        try {
+            int slot = slot(key.getId());
+            return indexKeys[slot] == EMPTY ? null : toMatch(indexRows[slot]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Rows ranked before the match are counted without sorting, which is O(n).
+     */
+    @Override
+    public int rankOf(MatchId key) {
+        lock.readLock().lock();
+        try {
+            int slot = slot(key.getId());
+            if (indexKeys[slot] == EMPTY) {
+                return -1;
+            }
+
+            int row = indexRows[slot];
+            int rank = 0;
+            for (int other = 0; other < size; other++) {
+                if (compareRows(other, row) < 0) {
+                    rank++;
+                }
+            }
+            return rank;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Rows ranked before the match are counted without sorting or copying, which is O(n).
+     */
+    @Override
+    public int countBefore(Match match, boolean tiesBefore) {
+        int totalScore = match.getTotalScore();
+        long startNanos = match.getStartEpochNanos();
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                int cmp = Integer.compare(totalScore, homeScores[row] + awayScores[row]);
+                if (cmp == 0) {
+                    cmp = Long.compare(startNanos, startEpochNanos[row]);
+                }
+                if (cmp < 0 || (cmp == 0 && tiesBefore)) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This storage doesn't keep ranked index, so rows are sorted on every call.
+     */
+    @Override
+    public List<Match> getAll() {
+        return getRange(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This storage doesn't keep ranked index, so rows are sorted on first read after write.
+     */
+    @Override
+    public List<Match> getRange(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] rows = rankedRows();
+            int to = (int) Math.min(rows.length, (long) offset + limit);
+
+            List<Match> matches = new ArrayList<>(Math.max(to - offset, 0));
+            for (int i = offset; i < to; i++) {
+                matches.add(toMatch(rows[i]));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Views reference team and competition names kept by this storage, so nothing is allocated, unless rows must be
+     * sorted after write.
+     */
+    @Override
+    public int copyRange(int offset, MatchView[] views) {
+        lock.readLock().lock();
+        try {
+            int[] rows = rankedRows();
+            int copied = 0;
+            for (int i = offset; i < rows.length && copied < views.length; i++) {
+                int row = rows[i];
+                long id = ids[row];
+                views[copied++].set(competitions[row] < 0 ? null : competitionNames.get(competitions[row]),
+                        teamNames[(int) (id >>> 32)], homeScores[row],
+                        teamNames[(int) id], awayScores[row], startEpochNanos[row]);
+            }
+            return copied;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        if (!snapshotsEnabled) {
+            throw new IllegalStateException("Snapshots are not enabled");
+        }
+
+        lock.readLock().lock();
+        try {
+            BoardSnapshot current = snapshot;
+            if (current.version() == version) {
+                return current;
+            }
+
+            int[] rows = rankedRows();
+            List<MatchSnapshot> matches = new ArrayList<>(rows.length);
+            for (int row : rows) {
+                matches.add(MatchSnapshot.of(toMatch(row)));
+            }
+
+            current = new BoardSnapshot(version, Collections.unmodifiableList(matches));
+            snapshot = current;
+            return current;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Slot of {@code id} in index, or first empty slot where it would be inserted.
+     */
+    private int slot(long id) {
+        int mask = indexKeys.length - 1;
+        int slot = hash(id) & mask;
+        while (indexKeys[slot] != EMPTY && indexKeys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Remove {@code slot} from index by shifting following entries back, so no tombstones are needed.
+     */
+    private void removeSlot(int slot) {
+        int mask = indexKeys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (indexKeys[next] != EMPTY) {
+            int ideal = hash(indexKeys[next]) & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                indexKeys[hole] = indexKeys[next];
+                indexRows[hole] = indexRows[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        indexKeys[hole] = EMPTY;
+    }
+
+    private void growRows() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        homeScores = Arrays.copyOf(homeScores, capacity);
+        awayScores = Arrays.copyOf(awayScores, capacity);
+        startEpochNanos = Arrays.copyOf(startEpochNanos, capacity);
+        startOffsets = Arrays.copyOf(startOffsets, capacity);
+        competitions = Arrays.copyOf(competitions, capacity);
+
+        indexKeys = new long[capacity * 2];
+        Arrays.fill(indexKeys, EMPTY);
+        indexRows = new int[capacity * 2];
+        for (int row = 0; row < size; row++) {
+            int slot = slot(ids[row]);
+            indexKeys[slot] = ids[row];
+            indexRows[slot] = row;
+        }
+    }
+
+    private void registerTeam(int teamId, String name) {
+        if (teamId >= teamNames.length) {
+            teamNames = Arrays.copyOf(teamNames, Math.max(teamNames.length * 2, teamId + 1));
+        }
+        teamNames[teamId] = name;
+    }
+
+    private int competitionId(String competition) {
+        if (competition == null) {
+            return -1;
+        }
+        return competitionIds.computeIfAbsent(competition, c -> {
+            competitionNames.add(c);
+            return competitionNames.size() - 1;
+        });
+    }
+
+    /**
+     * Rows ordered by rank, sorted once per version and shared by readers, so it must not be modified. Must be called
+     * while holding read lock.
+     */
+    private int[] rankedRows() {
+        Ranking current = ranking;
+        if (current.version() != version) {
+            // concurrent readers may sort the same version, last of them publishes it
+            current = new Ranking(version, sortRows());
+            ranking = current;
+        }
+        return current.rows();
+    }
+
+    /**
+     * Merge sort of row indexes, so rows are compared as primitives, without boxing every index.
+     */
+    private int[] sortRows() {
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            rows[row] = row;
+        }
+        sortRows(rows, new int[size], 0, size);
+        return rows;
+    }
+
+    private void sortRows(int[] rows, int[] buffer, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int row = rows[i];
+                int j = i - 1;
+                while (j >= from && compareRows(rows[j], row) > 0) {
+                    rows[j + 1] = rows[j];
+                    j--;
+                }
+                rows[j + 1] = row;
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        sortRows(rows, buffer, from, middle);
+        sortRows(rows, buffer, middle, to);
+        if (compareRows(rows[middle - 1], rows[middle]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(rows, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && compareRows(buffer[left], buffer[right]) <= 0)) {
+                rows[i] = buffer[left++];
+            } else {
+                rows[i] = buffer[right++];
+            }
+        }
+    }
+
+    private int compareRows(int a, int b) {
+        int cmp = Integer.compare(homeScores[b] + awayScores[b], homeScores[a] + awayScores[a]);
+        if (cmp != 0) {
+            return cmp;
+        }
+
+        cmp = Long.compare(startEpochNanos[b], startEpochNanos[a]);
+        if (cmp != 0) {
+            return cmp;
+        }
+
+        return Long.compare(ids[a], ids[b]);
+    }
+
+    private Match toMatch(int row) {
+        long id = ids[row];
+        OffsetDateTime startTime = OffsetDateTime.ofInstant(
+                Instant.ofEpochSecond(0, startEpochNanos[row]),
+                ZoneOffset.ofTotalSeconds(startOffsets[row]));
+
+        String competition = competitions[row] < 0 ? null : competitionNames.get(competitions[row]);
+        return new Match(competition, teamNames[(int) (id >>> 32)], homeScores[row],
+                teamNames[(int) id], awayScores[row], startTime);
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private record Ranking(long version, int[] rows) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.BoardSnapshot;
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchView;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@code MatchStorage} keeping index from team name to its match in progress, so match of a team is found in O(1)
+ * and no team can play in two matches at the same time.
+ * <p>
+ * Save first reserves both teams in the index by {@code putIfAbsent}, in order of their names, so from two
+ * concurrent matches of the same team exactly one wins. If any team is already reserved, or delegate rejects the
+ * match, reservations are released and save fails like for duplicate match. Delete releases both teams after the
+ * match is removed from delegate. Update doesn't change teams, so it goes straight to the delegate.
+ * <p>
+ * Team is in the index while its match is being saved, stored or deleted, so for a moment after delete the team
+ * can't start new match yet, but it's never in two matches. Lookup returns null if match of indexed team isn't in
+ * delegate yet or anymore.
+ * <p>
+ * Delegate should be empty, since matches already stored in it are not indexed. If this storage is wrapped by
+ * {@code JournalingMatchStorage}, recovered matches are indexed as well.
+ */
+public class TeamIndexedMatchStorage implements MatchStorage {
+    private final MatchStorage delegate;
+    private final ConcurrentMap<String, MatchId> teams = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate storage keeping matches
+     */
+    public TeamIndexedMatchStorage(MatchStorage delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean trySave(MatchId key, Match value) {
+        String first = value.getHomeTeamName();
+        String second = value.getAwayTeamName();
+        if (first.compareTo(second) > 0) {
+            first = value.getAwayTeamName();
+            second = value.getHomeTeamName();
+        }
+
+        if (teams.putIfAbsent(first, key) != null) {
+            return false;
+        }
+        if (teams.putIfAbsent(second, key) != null) {
+            teams.remove(first, key);
+            return false;
+        }
+
+        if (!delegate.trySave(key, value)) {
+            teams.remove(second, key);
+            teams.remove(first, key);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean tryUpdate(MatchId key, int homeTeamScore, int awayTeamScore) {
+        return delegate.tryUpdate(key, homeTeamScore, awayTeamScore);
+    }
+
+    @Override
+    public boolean tryDelete(MatchId key) {
+        return tryRemove(key) != null;
+    }
+
+    @Override
+    public Match tryRemove(MatchId key) {
+        Match removed = delegate.tryRemove(key);
+        if (removed != null) {
+            teams.remove(removed.getHomeTeamName(), key);
+            teams.remove(removed.getAwayTeamName(), key);
+        }
+        return removed;
+    }
+
+    @Override
+    public void batch(Runnable writes) {
+        delegate.batch(writes);
+    }
+
+    @Override
+    public Match get(MatchId key) {
+        return delegate.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Team is looked up in index, then its match in delegate, both in O(1) for hash-based delegates.
+     */
+    @Override
+    public Match getByTeam(String team) {
+        MatchId key = teams.get(team);
+        return key == null ? null : delegate.get(key);
+    }
+
+    @Override
+    public List<Match> getByCompetition(String competition) {
+        return delegate.getByCompetition(competition);
+    }
+
+    @Override
+    public int rankOf(MatchId key) {
+        return delegate.rankOf(key);
+    }
+
+    @Override
+    public List<Match> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public List<Match> getRange(int offset, int limit) {
+        return delegate.getRange(offset, limit);
+    }
+
+    @Override
+    public int copyRange(int offset, MatchView[] views) {
+        return delegate.copyRange(offset, views);
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        return delegate.snapshot();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+}
@@ -1,7 +1,13 @@
 package com.odds.scoreboard.infrastructure.exception;
 
+/**
+ * Thrown when key already exists in storage.
+ * It doesn't capture stack trace, so it's cheap to create, and preallocated {@link #INSTANCE} can be thrown instead.
+ */
 public class KeyExistsException extends RuntimeException {
+    public static final KeyExistsException INSTANCE = new KeyExistsException();
+
     public KeyExistsException() {
-        super("Key already exists");
+        super("Key already exists", null, false, false);
     }
 }
@@ -1,7 +1,13 @@
 package com.odds.scoreboard.infrastructure.exception;
 
+/**
+ * Thrown when key doesn't exist in storage.
+ * It doesn't capture stack trace, so it's cheap to create, and preallocated {@link #INSTANCE} can be thrown instead.
+ */
 public class KeyNotFoundException extends RuntimeException {
+    public static final KeyNotFoundException INSTANCE = new KeyNotFoundException();
+
     public KeyNotFoundException() {
-        super("Key not found");
+        super("Key not found", null, false, false);
     }
 }
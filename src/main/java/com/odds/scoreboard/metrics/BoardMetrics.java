@@ -0,0 +1,49 @@
+package com.odds.scoreboard.metrics;
+
+import com.odds.scoreboard.domain.OperationStatus;
+
+import java.util.function.IntSupplier;
+
+/**
+ * SPI receiving result and latency of every {@code ScoreBoard} operation, to be bridged to any metrics library.
+ * <p>
+ * Methods are called on the hot path of the operation, by thread performing it, so implementation must be thread-safe,
+ * shouldn't block and should avoid allocation. With {@link #NONE}, board doesn't even read the clock.
+ * {@code RecordingBoardMetrics} is built-in implementation, exposed through JMX.
+ */
+public interface BoardMetrics {
+    /**
+     * Metrics which record nothing, default of every board.
+     */
+    BoardMetrics NONE = new BoardMetrics() {
+    };
+
+    /**
+     * Called when board is created with these metrics.
+     *
+     * @param boardSize source of current number of matches on board, cheap to call
+     */
+    default void bind(IntSupplier boardSize) {
+    }
+
+    /**
+     * Record completed operation. Throwing operations report {@code ALREADY_EXISTS} for thrown
+     * {@code KeyExistsException}, {@code NOT_FOUND} for {@code KeyNotFoundException} and {@code INVALID_INPUT} for
+     * {@code IllegalArgumentException}.
+     *
+     * @param operation     operation performed
+     * @param status        result of the operation
+     * @param durationNanos duration of the operation, in nanoseconds
+     */
+    default void recorded(BoardOperation operation, OperationStatus status, long durationNanos) {
+    }
+
+    /**
+     * Record operation failed by unexpected exception, e.g. thrown by storage.
+     *
+     * @param operation     operation performed
+     * @param durationNanos duration of the operation until failure, in nanoseconds
+     */
+    default void failed(BoardOperation operation, long durationNanos) {
+    }
+}
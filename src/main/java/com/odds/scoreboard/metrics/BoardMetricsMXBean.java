@@ -0,0 +1,42 @@
+package com.odds.scoreboard.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@code RecordingBoardMetrics}. Counts are cumulative since the board was created.
+ */
+public interface BoardMetricsMXBean {
+
+    long getStarts();
+
+    long getUpdates();
+
+    long getFinishes();
+
+    long getSummaries();
+
+    /**
+     * @return number of starts of already started match, thrown as {@code KeyExistsException} by throwing operations
+     */
+    long getKeyExists();
+
+    /**
+     * @return number of updates and finishes of match not on board, thrown as {@code KeyNotFoundException} by throwing
+     * operations
+     */
+    long getKeyNotFound();
+
+    long getInvalidInputs();
+
+    /**
+     * @return number of operations failed by unexpected exception
+     */
+    long getFailures();
+
+    int getBoardSize();
+
+    /**
+     * @return latency percentiles in nanoseconds, keyed by operation and percentile, e.g. {@code update.p99}
+     */
+    Map<String, Long> getLatencyNanos();
+}
@@ -0,0 +1,14 @@
+package com.odds.scoreboard.metrics;
+
+/**
+ * Operations of {@code ScoreBoard} recorded by {@code BoardMetrics}.
+ */
+public enum BoardOperation {
+    START,
+    UPDATE,
+    FINISH,
+    /**
+     * Read of ordered matches in progress, whole board, one page or one competition.
+     */
+    SUMMARY
+}
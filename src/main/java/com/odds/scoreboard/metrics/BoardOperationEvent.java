@@ -0,0 +1,53 @@
+package com.odds.scoreboard.metrics;
+
+import com.odds.scoreboard.domain.OperationStatus;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Base of flight recorder events of {@code ScoreBoard} writes. Event spans the whole operation, including storage,
+ * so it can be correlated with GC pauses and safepoints in the same recording.
+ * <p>
+ * Event is begun by its constructor and completed by {@link #complete(OperationStatus)}. While the event is disabled,
+ * nothing else is done and JIT removes the event instance completely.
+ * <p>
+ * Events are disabled by default, so a recording started with default settings leaves them out. The
+ * {@code scoreboard.jfc} profile enables them with the same threshold.
+ */
+@Category({"Score Board", "Operations"})
+@StackTrace(false)
+@Enabled(false)
+@Threshold("20 us")
+public abstract class BoardOperationEvent extends Event {
+    @Label("Home Team")
+    String homeTeam;
+
+    @Label("Away Team")
+    String awayTeam;
+
+    @Label("Status")
+    @Description("Result of the operation, FAILURE if it failed by unexpected exception")
+    String status;
+
+    BoardOperationEvent(String homeTeam, String awayTeam) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+    }
+
+    /**
+     * End the event and commit it, if it's enabled and longer than its threshold.
+     *
+     * @param status result of the operation, null if it failed by unexpected exception
+     */
+    public void complete(OperationStatus status) {
+        if (shouldCommit()) {
+            this.status = status == null ? "FAILURE" : status.name();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.odds.scoreboard.metrics;
+
+import jdk.jfr.Configuration;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+
+/**
+ * Flight recorder profile tuned for tracing the board, shipped as {@value #PROFILE} next to this class.
+ * <p>
+ * Profile enables board events, e.g. {@code ScoreUpdatedEvent}, above threshold of few microseconds, together with
+ * GC pauses, safepoints, lock contention and allocation samples, so latency spikes of the board can be correlated with
+ * their cause.
+ */
+public final class BoardRecording {
+    /**
+     * Name of the profile resource.
+     */
+    public static final String PROFILE = "scoreboard.jfc";
+
+    private BoardRecording() {
+    }
+
+    /**
+     * Load the profile, e.g. for {@code new Recording(BoardRecording.profile())}.
+     *
+     * @return settings of the profile
+     * @throws IOException    if profile can't be read
+     * @throws ParseException if profile isn't valid
+     */
+    public static Configuration profile() throws IOException, ParseException {
+        try (Reader reader = new InputStreamReader(BoardRecording.class.getResourceAsStream(PROFILE),
+                StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.odds.scoreboard.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent histogram of latencies in nanoseconds, with log-linear buckets in the style of HdrHistogram.
+ * <p>
+ * Values below {@value #SUB_BUCKETS} have own bucket, every higher power of two is split into {@value #SUB_BUCKETS}
+ * linear buckets, so value is reported with relative error at most 1/{@value #SUB_BUCKETS}. Values above
+ * {@code 2^}{@value #MAX_EXPONENT} nanoseconds (about 68 seconds) are counted in the last bucket.
+ * <p>
+ * Counts are striped by thread into separate ranges of one {@code AtomicLongArray}, so threads recording concurrently
+ * mostly write different cache lines. Recording is one array increment and doesn't allocate. Reads sum all stripes,
+ * they are not atomic with concurrent recording.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 36;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final int stripeMask;
+    private final AtomicLongArray counts;
+
+    public LatencyHistogram() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param concurrency expected number of concurrently recording threads, rounded up to power of two stripes
+     */
+    public LatencyHistogram(int concurrency) {
+        int stripes = Integer.highestOneBit(Math.max(concurrency, 1) * 2 - 1);
+        stripeMask = stripes - 1;
+        counts = new AtomicLongArray(stripes * BUCKETS);
+    }
+
+    /**
+     * @param nanos recorded latency, negative is recorded as 0
+     */
+    public void record(long nanos) {
+        int stripe = (int) Thread.currentThread().threadId() & stripeMask;
+        counts.getAndIncrement(stripe * BUCKETS + bucket(nanos));
+    }
+
+    /**
+     * @return number of recorded latencies
+     */
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * @param percentile percentile between 0 and 100
+     * @return the highest latency of bucket containing given percentile, 0 if nothing is recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        long[] buckets = buckets();
+        long total = 0;
+        for (long count : buckets) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= rank) {
+                return highestValue(bucket);
+            }
+        }
+        return highestValue(BUCKETS - 1);
+    }
+
+    /**
+     * @return the highest latency of the highest non-empty bucket, 0 if nothing is recorded
+     */
+    public long max() {
+        long[] buckets = buckets();
+        for (int bucket = BUCKETS - 1; bucket >= 0; bucket--) {
+            if (buckets[bucket] != 0) {
+                return highestValue(bucket);
+            }
+        }
+        return 0;
+    }
+
+    private long[] buckets() {
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < counts.length(); i++) {
+            buckets[i % BUCKETS] += counts.get(i);
+        }
+        return buckets;
+    }
+
+    static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(nanos, 0);
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * width - 1;
+    }
+}
@@ -0,0 +1,22 @@
+package com.odds.scoreboard.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event of {@code ScoreBoard} finishing a match.
+ */
+@Name("com.odds.scoreboard.MatchFinished")
+@Label("Match Finished")
+@Description("Finish of match and its removal from board")
+public final class MatchFinishedEvent extends BoardOperationEvent {
+
+    /**
+     * Create event and begin its timing.
+     */
+    public MatchFinishedEvent(String homeTeam, String awayTeam) {
+        super(homeTeam, awayTeam);
+        begin();
+    }
+}
@@ -0,0 +1,25 @@
+package com.odds.scoreboard.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event of {@code ScoreBoard} starting a match.
+ */
+@Name("com.odds.scoreboard.MatchStarted")
+@Label("Match Started")
+@Description("Start of new match on board")
+public final class MatchStartedEvent extends BoardOperationEvent {
+    @Label("Competition")
+    String competition;
+
+    /**
+     * Create event and begin its timing.
+     */
+    public MatchStartedEvent(String competition, String homeTeam, String awayTeam) {
+        super(homeTeam, awayTeam);
+        this.competition = competition;
+        begin();
+    }
+}
@@ -0,0 +1,175 @@
+package com.odds.scoreboard.metrics;
+
+import com.odds.scoreboard.domain.OperationStatus;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Built-in {@code BoardMetrics}, counting operations by result in {@code LongAdder}s and recording their latencies
+ * in {@code LatencyHistogram}s, one per operation.
+ * <p>
+ * Recording is one counter increment and one histogram increment, both striped, so concurrent writers don't contend
+ * and nothing is allocated on the hot path. Metrics can be read by getters, or exposed through JMX by
+ * {@link #register(String)}.
+ */
+public class RecordingBoardMetrics implements BoardMetrics, BoardMetricsMXBean {
+    private static final BoardOperation[] OPERATIONS = BoardOperation.values();
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LongAdder[][] counts = new LongAdder[OPERATIONS.length][OperationStatus.values().length];
+    private final LongAdder[] failures = new LongAdder[OPERATIONS.length];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+    private volatile IntSupplier boardSize = () -> 0;
+
+    public RecordingBoardMetrics() {
+        for (int operation = 0; operation < OPERATIONS.length; operation++) {
+            for (int status = 0; status < counts[operation].length; status++) {
+                counts[operation][status] = new LongAdder();
+            }
+            failures[operation] = new LongAdder();
+            latencies[operation] = new LatencyHistogram();
+        }
+    }
+
+    @Override
+    public void bind(IntSupplier boardSize) {
+        this.boardSize = boardSize;
+    }
+
+    @Override
+    public void recorded(BoardOperation operation, OperationStatus status, long durationNanos) {
+        counts[operation.ordinal()][status.ordinal()].increment();
+        latencies[operation.ordinal()].record(durationNanos);
+    }
+
+    @Override
+    public void failed(BoardOperation operation, long durationNanos) {
+        failures[operation.ordinal()].increment();
+        latencies[operation.ordinal()].record(durationNanos);
+    }
+
+    /**
+     * Register these metrics in platform MBean server, under {@code com.odds.scoreboard:type=ScoreBoard,name=<name>}.
+     *
+     * @param name name of the board, unique in the process
+     * @return registered object name, to unregister the metrics
+     * @throws JMException if name is invalid or already registered
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName("com.odds.scoreboard:type=ScoreBoard,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    /**
+     * @return number of operations completed with {@code status}
+     */
+    public long count(BoardOperation operation, OperationStatus status) {
+        return counts[operation.ordinal()][status.ordinal()].sum();
+    }
+
+    /**
+     * @return number of operations failed by unexpected exception
+     */
+    public long failures(BoardOperation operation) {
+        return failures[operation.ordinal()].sum();
+    }
+
+    /**
+     * @return latencies of all recorded operations, including failed ones
+     */
+    public LatencyHistogram latency(BoardOperation operation) {
+        return latencies[operation.ordinal()];
+    }
+
+    @Override
+    public long getStarts() {
+        return total(BoardOperation.START);
+    }
+
+    @Override
+    public long getUpdates() {
+        return total(BoardOperation.UPDATE);
+    }
+
+    @Override
+    public long getFinishes() {
+        return total(BoardOperation.FINISH);
+    }
+
+    @Override
+    public long getSummaries() {
+        return total(BoardOperation.SUMMARY);
+    }
+
+    @Override
+    public long getKeyExists() {
+        return count(OperationStatus.ALREADY_EXISTS);
+    }
+
+    @Override
+    public long getKeyNotFound() {
+        return count(OperationStatus.NOT_FOUND);
+    }
+
+    @Override
+    public long getInvalidInputs() {
+        return count(OperationStatus.INVALID_INPUT);
+    }
+
+    @Override
+    public long getFailures() {
+        long total = 0;
+        for (LongAdder failure : failures) {
+            total += failure.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public int getBoardSize() {
+        return boardSize.getAsInt();
+    }
+
+    @Override
+    public Map<String, Long> getLatencyNanos() {
+        Map<String, Long> latencyNanos = new TreeMap<>();
+        for (BoardOperation operation : OPERATIONS) {
+            LatencyHistogram latency = latency(operation);
+            String prefix = operation.name().toLowerCase(Locale.ROOT) + ".";
+            for (double percentile : PERCENTILES) {
+                String name = percentile == (long) percentile ? Long.toString((long) percentile)
+                        : Double.toString(percentile).replace(".", "");
+                latencyNanos.put(prefix + "p" + name, latency.valueAtPercentile(percentile));
+            }
+            latencyNanos.put(prefix + "max", latency.max());
+        }
+        return latencyNanos;
+    }
+
+    /**
+     * @return number of completed and failed operations
+     */
+    private long total(BoardOperation operation) {
+        long total = failures(operation);
+        for (OperationStatus status : OperationStatus.values()) {
+            total += count(operation, status);
+        }
+        return total;
+    }
+
+    private long count(OperationStatus status) {
+        long total = 0;
+        for (BoardOperation operation : OPERATIONS) {
+            total += count(operation, status);
+        }
+        return total;
+    }
+}
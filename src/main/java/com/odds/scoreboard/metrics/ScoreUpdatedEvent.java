@@ -0,0 +1,29 @@
+package com.odds.scoreboard.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event of {@code ScoreBoard} updating score of a match.
+ */
+@Name("com.odds.scoreboard.ScoreUpdated")
+@Label("Score Updated")
+@Description("Update of score of match on board")
+public final class ScoreUpdatedEvent extends BoardOperationEvent {
+    @Label("Home Team Score")
+    int homeTeamScore;
+
+    @Label("Away Team Score")
+    int awayTeamScore;
+
+    /**
+     * Create event and begin its timing.
+     */
+    public ScoreUpdatedEvent(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+        super(homeTeam, awayTeam);
+        this.homeTeamScore = homeTeamScore;
+        this.awayTeamScore = awayTeamScore;
+        begin();
+    }
+}
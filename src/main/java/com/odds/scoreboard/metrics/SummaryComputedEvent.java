@@ -0,0 +1,66 @@
+package com.odds.scoreboard.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event of {@code ScoreBoard} reading ordered summary of matches in progress.
+ * <p>
+ * Storages keep matches ordered on write, so summary isn't sorted on read. Duration of the event is time storage takes
+ * to produce the ordering, by walking its ranked index or merging its partitions, and to copy the matches.
+ * <p>
+ * Disabled by default, enabled by the {@code scoreboard.jfc} profile.
+ */
+@Name("com.odds.scoreboard.SummaryComputed")
+@Label("Summary Computed")
+@Description("Read of ordered summary of matches in progress")
+@Category({"Score Board", "Operations"})
+@StackTrace(false)
+@Enabled(false)
+@Threshold("100 us")
+public final class SummaryComputedEvent extends Event {
+    @Label("Competition")
+    String competition;
+
+    @Label("Offset")
+    int offset;
+
+    @Label("Matches")
+    @Description("Number of matches in summary")
+    int matches;
+
+    @Label("Board Size")
+    @Description("Number of matches on board")
+    int boardSize;
+
+    /**
+     * Create event and begin its timing.
+     *
+     * @param competition competition of summary, null for whole board
+     * @param offset      number of top matches skipped
+     */
+    public SummaryComputedEvent(String competition, int offset) {
+        this.competition = competition;
+        this.offset = offset;
+        begin();
+    }
+
+    /**
+     * End the event and commit it. Must be called only if {@link #shouldCommit()} returns true, so size of board isn't
+     * looked up for disabled event.
+     *
+     * @param matches   number of matches in summary
+     * @param boardSize number of matches on board
+     */
+    public void complete(int matches, int boardSize) {
+        this.matches = matches;
+        this.boardSize = boardSize;
+        commit();
+    }
+}
@@ -0,0 +1,166 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.OperationStatus;
+import com.odds.scoreboard.infrastructure.ConcurrentMatchStorage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncScoreBoardTest extends BaseTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-04-22T12:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void writesOfOneMatchApplyInSubmittedOrder() {
+        var board = new ScoreBoard(new ConcurrentMatchStorage(), CLOCK);
+        try (var asyncBoard = new AsyncScoreBoard(board)) {
+            var started = asyncBoard.startMatch(MEXICO, CANADA);
+            var updated = asyncBoard.updateScore(MEXICO, 1, CANADA, 0);
+            var finished = asyncBoard.finishMatch(MEXICO, CANADA);
+            var notFound = asyncBoard.finishMatch(MEXICO, CANADA);
+
+            assertEquals(OperationStatus.OK, started.join());
+            assertEquals(OperationStatus.OK, updated.join());
+            assertEquals(OperationStatus.OK, finished.join());
+            assertEquals(OperationStatus.NOT_FOUND, notFound.join());
+            assertEquals(List.of(), asyncBoard.matchesInProgress().join());
+        }
+    }
+
+    @Test
+    void updatesQueuedBehindOtherWriteCoalesceToLatestScore() throws InterruptedException {
+        var board = new ScoreBoard(new ConcurrentMatchStorage(), CLOCK);
+        var executor = Executors.newSingleThreadExecutor();
+        var blocked = new CountDownLatch(1);
+        // occupy the only thread, so writes stay queued
+        executor.execute(() -> awaitQuietly(blocked));
+
+        try (var asyncBoard = new AsyncScoreBoard(board, executor)) {
+            var started = asyncBoard.startMatch(MEXICO, CANADA);
+            var first = asyncBoard.updateScore(MEXICO, 1, CANADA, 0);
+            var second = asyncBoard.updateScore(MEXICO, 2, CANADA, 0);
+            var third = asyncBoard.updateScore(MEXICO, 2, CANADA, 1);
+            blocked.countDown();
+
+            assertEquals(OperationStatus.OK, started.join());
+            assertSame(first, second);
+            assertSame(first, third);
+            assertEquals(OperationStatus.OK, third.join());
+            assertEquals(2, asyncBoard.coalescedUpdates());
+            // start and single coalesced update
+            assertEquals(2, board.version());
+            assertEquals(List.of(new Match(MEXICO, 2, CANADA, 1, CLOCK.instant().atOffset(ZoneOffset.UTC))),
+                    board.matchesInProgress());
+        }
+    }
+
+    @Test
+    void startMatchOfCompetitionStartMatchWithCompetition() {
+        var board = new ScoreBoard(new ConcurrentMatchStorage(), CLOCK);
+        try (var asyncBoard = new AsyncScoreBoard(board)) {
+            assertEquals(OperationStatus.OK, asyncBoard.startMatch("World Cup", MEXICO, CANADA).join());
+            assertEquals(OperationStatus.INVALID_INPUT, asyncBoard.startMatch(" ", SPAIN, BRAZIL).join());
+            var startTime = CLOCK.instant().atOffset(ZoneOffset.UTC);
+            assertEquals(List.of(new Match("World Cup", MEXICO, 0, CANADA, 0, startTime)),
+                    asyncBoard.matchesInProgress().join());
+        }
+    }
+
+    @Test
+    void writeIfInvalidInputReturnInvalidInput() {
+        try (var asyncBoard = new AsyncScoreBoard(new ScoreBoard(new ConcurrentMatchStorage(), CLOCK))) {
+            assertEquals(OperationStatus.INVALID_INPUT, asyncBoard.startMatch(null, CANADA).join());
+            assertEquals(OperationStatus.INVALID_INPUT, asyncBoard.updateScore(MEXICO, -1, CANADA, 0).join());
+        }
+    }
+
+    @Test
+    void invalidUpdateQueuedBehindOtherWriteNotCoalesced() {
+        var board = new ScoreBoard(new ConcurrentMatchStorage(), CLOCK);
+        var executor = Executors.newSingleThreadExecutor();
+        var blocked = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(blocked));
+
+        try (var asyncBoard = new AsyncScoreBoard(board, executor)) {
+            asyncBoard.startMatch(MEXICO, CANADA);
+            var valid = asyncBoard.updateScore(MEXICO, 1, CANADA, 0);
+            var invalid = asyncBoard.updateScore(MEXICO, -1, CANADA, 0);
+
+            assertEquals(OperationStatus.INVALID_INPUT, invalid.join());
+            blocked.countDown();
+            assertEquals(OperationStatus.OK, valid.join());
+            assertEquals(0, asyncBoard.coalescedUpdates());
+            assertEquals(List.of(new Match(MEXICO, 1, CANADA, 0, CLOCK.instant().atOffset(ZoneOffset.UTC))),
+                    board.matchesInProgress());
+        }
+    }
+
+    @Test
+    void writeIfClosedCompleteExceptionally() {
+        var asyncBoard = new AsyncScoreBoard(new ScoreBoard(new ConcurrentMatchStorage(), CLOCK));
+        asyncBoard.close();
+
+        var started = asyncBoard.startMatch(MEXICO, CANADA);
+        var again = asyncBoard.startMatch(MEXICO, CANADA);
+
+        var e = assertThrows(CompletionException.class, started::join);
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertThrows(CompletionException.class, again::join);
+    }
+
+    @Test
+    void updatesFromManyVirtualThreadClientsApplyOrCoalesceAll() throws InterruptedException {
+        int clients = 100_000;
+        int matches = 16;
+        var board = new ScoreBoard(new ConcurrentMatchStorage(), CLOCK);
+
+        try (var asyncBoard = new AsyncScoreBoard(board)) {
+            for (int m = 0; m < matches; m++) {
+                assertEquals(OperationStatus.OK, asyncBoard.startMatch("home" + m, "away" + m).join());
+            }
+
+            List<CompletableFuture<OperationStatus>> results = new ArrayList<>(Collections.nCopies(clients, null));
+            List<Thread> threads = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                int client = i;
+                threads.add(Thread.ofVirtual().start(() -> {
+                    int m = client % matches;
+                    results.set(client, asyncBoard.updateScore("home" + m, client, "away" + m, 0));
+                }));
+            }
+            for (var thread : threads) {
+                thread.join();
+            }
+
+            for (var result : results) {
+                assertEquals(OperationStatus.OK, result.join());
+            }
+            // every update is either applied, increasing version, or coalesced into applied one
+            assertEquals(matches + clients, board.version() + asyncBoard.coalescedUpdates());
+            assertEquals(matches, board.matchesInProgress().size());
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.odds.scoreboard;
 
+import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.TeamRegistry;
+
 /**
  * Base class for all tests containing constants and common methods.
  */
@@ -14,4 +17,18 @@ public class BaseTest {
     protected static final String ITALY = "Italy";
     protected static final String ARGENTINA = "Argentina";
     protected static final String AUSTRALIA = "Australia";
+
+    protected static final TeamRegistry TEAMS = new TeamRegistry();
+
+    static {
+        // registered up front, so boards find matches of test teams whatever order tests run in
+        for (String team : new String[]{MEXICO, CANADA, SPAIN, BRAZIL, GERMANY, FRANCE, URUGUAY, ITALY, ARGENTINA,
+                AUSTRALIA}) {
+            TEAMS.register(team);
+        }
+    }
+
+    protected static MatchId matchId(String homeTeam, String awayTeam) {
+        return TEAMS.matchId(homeTeam, awayTeam);
+    }
 }
@@ -0,0 +1,68 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.BoardEvent;
+import com.odds.scoreboard.domain.MatchSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoardEventPublisherTest extends BaseTest {
+    private static final MatchSnapshot MATCH = new MatchSnapshot(MEXICO, 1, CANADA, 0, OffsetDateTime.now());
+
+    // events are delivered by publishing thread, so test is deterministic
+    private final BoardEventPublisher publisher = new BoardEventPublisher(Runnable::run, 2);
+
+    @Test
+    void publishIfSubscribedDeliverEventsInSequence() {
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.publish(BoardEvent.Type.STARTED, MATCH, 0, -1);
+        publisher.publish(BoardEvent.Type.FINISHED, MATCH, -1, 0);
+
+        assertEquals(List.of(
+                new BoardEvent(1, BoardEvent.Type.STARTED, MATCH, 0, -1),
+                new BoardEvent(2, BoardEvent.Type.FINISHED, MATCH, -1, 0)), subscriber.events);
+        assertEquals(0, publisher.droppedEvents());
+    }
+
+    @Test
+    void publishIfSubscriberBufferFullDropForThatSubscriberOnly() {
+        var slowSubscriber = new RecordingSubscriber(0);
+        var fastSubscriber = new RecordingSubscriber();
+        publisher.subscribe(slowSubscriber);
+        publisher.subscribe(fastSubscriber);
+
+        for (int i = 0; i < 5; i++) {
+            publisher.publish(BoardEvent.Type.SCORE_CHANGED, MATCH, 0, 0);
+        }
+
+        assertEquals(5, fastSubscriber.events.size());
+        assertEquals(3, publisher.droppedEvents());
+
+        slowSubscriber.subscription.request(Long.MAX_VALUE);
+        publisher.publish(BoardEvent.Type.SCORE_CHANGED, MATCH, 0, 0);
+
+        var sequences = slowSubscriber.events.stream().map(BoardEvent::sequence).toList();
+        assertEquals(List.of(1L, 2L, 6L), sequences);
+    }
+
+    @Test
+    void closeCompleteSubscribersAndIgnoreLaterEvents() {
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        assertTrue(publisher.hasSubscribers());
+
+        publisher.close();
+        publisher.publish(BoardEvent.Type.STARTED, MATCH, 0, -1);
+
+        assertTrue(subscriber.completed);
+        assertFalse(publisher.hasSubscribers());
+        assertEquals(List.of(), subscriber.events);
+    }
+}
@@ -0,0 +1,69 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.ScoreEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChangeLogTest {
+
+    @Test
+    void changesReturnDistinctMatchesInOrderOfFirstChange() {
+        var log = new ChangeLog(8);
+        log.append(ScoreEvent.Type.UPDATE, 1);
+        log.append(ScoreEvent.Type.START, 2);
+        log.append(ScoreEvent.Type.UPDATE, 1);
+        log.append(ScoreEvent.Type.UPDATE, 2);
+        log.append(ScoreEvent.Type.FINISH, 3);
+
+        assertEquals(5, log.version());
+        assertEquals(List.of(1L, 2L, 3L), new ArrayList<>(log.changes(0, 5).keySet()));
+        assertEquals(Map.of(1L, false, 2L, true, 3L, false), log.changes(0, 5));
+        assertEquals(Map.of(2L, false, 3L, false), log.changes(3, 5));
+        assertEquals(Map.of(), log.changes(5, 5));
+    }
+
+    @Test
+    void changesIfVersionNotRetainedOrUnknownReturnNull() {
+        var log = new ChangeLog(4);
+        for (int i = 0; i < 6; i++) {
+            log.append(ScoreEvent.Type.UPDATE, i);
+        }
+
+        assertNull(log.changes(1, 6));
+        assertEquals(Map.of(2L, false, 3L, false, 4L, false, 5L, false), log.changes(2, 6));
+        assertNull(log.changes(-1, 6));
+        assertNull(log.changes(7, 6));
+    }
+
+    @Test
+    void appendIfConcurrentKeepAllVersions() throws InterruptedException {
+        var log = new ChangeLog(1 << 16);
+        var threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            long matchId = t;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    log.append(ScoreEvent.Type.UPDATE, matchId);
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, log.version());
+        assertEquals(Map.of(0L, false, 1L, false, 2L, false, 3L, false), log.changes(0, log.version()));
+    }
+
+    @Test
+    void constructorIfCapacityNotPowerOfTwoThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeLog(100));
+    }
+}
@@ -0,0 +1,155 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.ScoreEvent;
+import com.odds.scoreboard.infrastructure.SlabMatchStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IngestionPipelineTest extends BaseTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-04-22T12:00:00Z"), ZoneOffset.UTC);
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void submitFromManyProducersApplyAllInProducerOrder(WaitStrategy waitStrategy) throws InterruptedException {
+        var board = new ScoreBoard(new SlabMatchStorage(), CLOCK);
+        // small ring buffer, so producers wrap around it and wait for free slots
+        var pipeline = new IngestionPipeline(board, 8, waitStrategy, 4);
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < 8; p++) {
+            String home = "home" + p;
+            String away = "away" + p;
+            boolean finish = p % 2 == 0;
+            producers.add(Thread.ofPlatform().start(() -> {
+                pipeline.submitStart(home, away);
+                for (int score = 1; score <= 500; score++) {
+                    pipeline.submitUpdate(home, score, away, 0);
+                }
+                if (finish) {
+                    pipeline.submit(ScoreEvent.finish(home, away));
+                }
+            }));
+        }
+        for (var producer : producers) {
+            producer.join();
+        }
+        pipeline.close();
+
+        assertEquals(8 + 8 * 500 + 4, pipeline.applied());
+        assertEquals(0, pipeline.failed());
+        var matches = board.matchesInProgress();
+        assertEquals(4, matches.size());
+        for (Match match : matches) {
+            assertEquals(500, match.getHomeTeamScore());
+        }
+    }
+
+    @Test
+    void submitIfRejectedByBoardCountFailed() {
+        var board = new ScoreBoard(new SlabMatchStorage(), CLOCK);
+        var pipeline = new IngestionPipeline(board, WaitStrategy.PARK);
+
+        pipeline.submitUpdate(MEXICO, 1, CANADA, 0);
+        pipeline.submitStart(MEXICO, CANADA);
+        pipeline.submitStart(MEXICO, CANADA);
+        pipeline.submitFinish(SPAIN, BRAZIL);
+        pipeline.close();
+
+        assertEquals(1, pipeline.applied());
+        assertEquals(3, pipeline.failed());
+        assertEquals(List.of(new Match(MEXICO, 0, CANADA, 0, CLOCK.instant().atOffset(ZoneOffset.UTC))),
+                board.matchesInProgress());
+    }
+
+    @Test
+    void submitStartOfCompetitionStartMatchWithCompetition() {
+        var board = new ScoreBoard(new SlabMatchStorage(), CLOCK);
+        var pipeline = new IngestionPipeline(board, WaitStrategy.PARK);
+
+        pipeline.submitStart("World Cup", MEXICO, CANADA);
+        pipeline.submit(ScoreEvent.start("Friendly", SPAIN, BRAZIL));
+        pipeline.close();
+
+        var startTime = CLOCK.instant().atOffset(ZoneOffset.UTC);
+        assertEquals(List.of(new Match("World Cup", MEXICO, 0, CANADA, 0, startTime)),
+                board.matchesInProgress("World Cup"));
+        assertEquals(List.of(new Match("Friendly", SPAIN, 0, BRAZIL, 0, startTime)),
+                board.matchesInProgress("Friendly"));
+    }
+
+    @Test
+    void submitIfClosedThrowException() {
+        var pipeline = new IngestionPipeline(new ScoreBoard(new SlabMatchStorage(), CLOCK), WaitStrategy.YIELD);
+        pipeline.close();
+
+        assertThrows(IllegalStateException.class, () -> pipeline.submitStart(MEXICO, CANADA));
+    }
+
+    @Test
+    void closeIfInterruptedApplyAllAndRestoreInterruptStatus() {
+        var board = new ScoreBoard(new SlabMatchStorage(), CLOCK);
+        var pipeline = new IngestionPipeline(board, WaitStrategy.PARK);
+        pipeline.submitStart(MEXICO, CANADA);
+
+        Thread.currentThread().interrupt();
+        pipeline.close();
+
+        // clears the status, so it doesn't leak to other tests
+        assertTrue(Thread.interrupted());
+        assertEquals(1, pipeline.applied());
+    }
+
+    @Test
+    void submitIfStorageBatchFailsCountFailedAndKeepApplying() throws InterruptedException {
+        var batches = new AtomicInteger();
+        var storage = new SlabMatchStorage() {
+            @Override
+            public void batch(Runnable writes) {
+                // every other batch fails after its writes, like failed journal sync, others before any write
+                if (batches.incrementAndGet() % 2 == 0) {
+                    super.batch(writes);
+                }
+                throw new UncheckedIOException(new IOException("Journal write failed"));
+            }
+        };
+        var board = new ScoreBoard(storage, CLOCK);
+        // small ring buffer, so producer waits for applier to free slots of failed batches
+        var pipeline = new IngestionPipeline(board, 8, WaitStrategy.YIELD, 4);
+
+        var producer = Thread.ofPlatform().daemon().start(() -> {
+            for (int i = 0; i < 1000; i++) {
+                pipeline.submitStart("home" + i, "away" + i);
+            }
+        });
+        producer.join(10_000);
+        pipeline.close();
+
+        assertFalse(producer.isAlive());
+        assertEquals(1000, pipeline.applied() + pipeline.failed());
+        assertEquals(pipeline.applied(), board.matchesInProgress().size());
+        assertTrue(pipeline.failed() > 0);
+    }
+
+    @Test
+    void createIfCapacityNotPowerOfTwoThrowException() {
+        var board = new ScoreBoard(new SlabMatchStorage(), CLOCK);
+
+        assertThrows(IllegalArgumentException.class, () -> new IngestionPipeline(board, 10, WaitStrategy.PARK, 4));
+    }
+}
@@ -0,0 +1,47 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.BoardEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+/**
+ * Subscriber recording received events, requesting {@code initialDemand} events on subscribe.
+ */
+class RecordingSubscriber implements Flow.Subscriber<BoardEvent> {
+    final List<BoardEvent> events = new CopyOnWriteArrayList<>();
+    private final long initialDemand;
+    Flow.Subscription subscription;
+    volatile boolean completed;
+
+    RecordingSubscriber() {
+        this(Long.MAX_VALUE);
+    }
+
+    RecordingSubscriber(long initialDemand) {
+        this.initialDemand = initialDemand;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (initialDemand > 0) {
+            subscription.request(initialDemand);
+        }
+    }
+
+    @Override
+    public void onNext(BoardEvent item) {
+        events.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+    }
+}
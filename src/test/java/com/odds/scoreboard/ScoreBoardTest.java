@@ -1,8 +1,17 @@
 package com.odds.scoreboard;
 
+import com.odds.scoreboard.domain.BoardDelta;
+import com.odds.scoreboard.domain.BoardEvent;
+import com.odds.scoreboard.domain.BoardSnapshot;
 import com.odds.scoreboard.domain.Match;
-import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchChange;
+import com.odds.scoreboard.domain.MatchSnapshot;
+import com.odds.scoreboard.domain.OperationStatus;
+import com.odds.scoreboard.domain.ScoreEvent;
+import com.odds.scoreboard.domain.TeamRegistry;
+import com.odds.scoreboard.infrastructure.ConcurrentMatchStorage;
 import com.odds.scoreboard.infrastructure.MatchStorage;
+import com.odds.scoreboard.infrastructure.exception.KeyNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -12,20 +21,25 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-
 class ScoreBoardTest extends BaseTest {
     private static final String INVALID_INPUT_NULL_EMPTY = "Invalid input: Params null or empty";
     private static final String INVALID_INPUT_NEGATIVE = "Invalid input: Params negative";
@@ -35,10 +49,10 @@ class ScoreBoardTest extends BaseTest {
 
     @Test
     void startMatchIfAllValidSuccess() {
-        var scoreBoard = new ScoreBoard(matchStorage, clock);
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
         scoreBoard.startMatch(MEXICO, CANADA);
 
-        var expectedKey = new MatchId(MEXICO, CANADA);
+        var expectedKey = matchId(MEXICO, CANADA);
         var expectedStartTime = OffsetDateTime.now(clock);
         var expectedMatch = new Match(MEXICO, 0, CANADA, 0, expectedStartTime);
 
@@ -51,7 +65,7 @@ class ScoreBoardTest extends BaseTest {
         doThrow(RuntimeException.class).when(matchStorage)
                 .save(any(), any());
 
-        var scoreBoard = new ScoreBoard(matchStorage, clock);
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
         assertThrows(RuntimeException.class,
                 () -> scoreBoard.startMatch(MEXICO, CANADA));
     }
@@ -59,7 +73,7 @@ class ScoreBoardTest extends BaseTest {
     @ParameterizedTest
     @CsvSource({",Canada", "'',Canada", "Mexico,", "Mexico,''", ",", ",''", "'',", "'',''"})
     void startMatchIfHomeAndAwayTeamNullOrEmptyThrowException(String homeTeam, String awayTeam) {
-        var scoreBoard = new ScoreBoard(matchStorage, clock);
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
         var e = assertThrows(IllegalArgumentException.class,
                 () -> scoreBoard.startMatch(homeTeam, awayTeam));
 
@@ -71,23 +85,22 @@ class ScoreBoardTest extends BaseTest {
     void updateScoreIfAllValidSuccess() {
         int homeTeamScore = 1, awayTeamScore = 2;
 
-        var scoreBoard = new ScoreBoard(matchStorage, clock);
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
         scoreBoard.updateScore(MEXICO, homeTeamScore, CANADA, awayTeamScore);
 
-        var expectedKey = new MatchId(MEXICO, CANADA);
-        var expectedMatch = new Match(MEXICO, homeTeamScore, CANADA, awayTeamScore);
+        var expectedKey = matchId(MEXICO, CANADA);
 
         verify(matchStorage, times(1)).
-                update(expectedKey, expectedMatch);
+                update(expectedKey, homeTeamScore, awayTeamScore);
     }
 
     @Test
     void updateScoreIfStorageExceptionThrowException() {
         int homeTeamScore = 1, awayTeamScore = 2;
         doThrow(RuntimeException.class).when(matchStorage)
-                .update(any(), any());
+                .update(any(), anyInt(), anyInt());
 
-        var scoreBoard = new ScoreBoard(matchStorage, clock);
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
         assertThrows(RuntimeException.class,
                 () -> scoreBoard.updateScore(MEXICO, homeTeamScore, CANADA, awayTeamScore));
     }
@@ -97,7 +110,7 @@ class ScoreBoardTest extends BaseTest {
     void updateScoreIfHomeAndAwayTeamNullOrEmptyThrowException(String homeTeam, String awayTeam) {
         int homeTeamScore = 1, awayTeamScore = 2;
 
-        var scoreBoard = new ScoreBoard(matchStorage, clock);
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
         var e = assertThrows(IllegalArgumentException.class,
                 () -> scoreBoard.updateScore(homeTeam, homeTeamScore, awayTeam, awayTeamScore));
 
@@ -108,7 +121,7 @@ class ScoreBoardTest extends BaseTest {
     @ParameterizedTest
     @CsvSource({"-1,1", "1,-1", "-1,-1"})
     void updateScoreIfHomeAndAwayTeamScoreNegativeThrowException(int homeTeamScore, int awayTeamScore) {
-        var scoreBoard = new ScoreBoard(matchStorage, clock);
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
         var e = assertThrows(IllegalArgumentException.class,
                 () -> scoreBoard.updateScore(MEXICO, homeTeamScore, CANADA, awayTeamScore));
 
@@ -118,10 +131,10 @@ class ScoreBoardTest extends BaseTest {
 
     @Test
     void finishMatchIfAllValidSuccess() {
-        var scoreBoard = new ScoreBoard(matchStorage, clock);
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
         scoreBoard.finishMatch(MEXICO, CANADA);
 
-        var expectedKey = new MatchId(MEXICO, CANADA);
+        var expectedKey = matchId(MEXICO, CANADA);
 
         verify(matchStorage, times(1)).
                 delete(expectedKey);
@@ -132,14 +145,14 @@ class ScoreBoardTest extends BaseTest {
         doThrow(RuntimeException.class).when(matchStorage)
                 .delete(any());
 
-        var scoreBoard = new ScoreBoard(matchStorage, clock);
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
         assertThrows(RuntimeException.class, () -> scoreBoard.finishMatch(MEXICO, CANADA));
     }
 
     @ParameterizedTest
     @CsvSource({",Canada", "'',Canada", "Mexico,", "Mexico,''", ",", ",''", "'',", "'',''"})
     void finishMatchIfHomeAndAwayTeamNullOrEmptyThrowException(String homeTeam, String awayTeam) {
-        var scoreBoard = new ScoreBoard(matchStorage, clock);
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
         var e = assertThrows(IllegalArgumentException.class,
                 () -> scoreBoard.finishMatch(homeTeam, awayTeam));
 
@@ -147,11 +160,189 @@ class ScoreBoardTest extends BaseTest {
         assertTrue(actualMessage.contains(INVALID_INPUT_NULL_EMPTY));
     }
 
+    @Test
+    void tryStartMatchIfAllValidReturnOk() {
+        when(matchStorage.trySave(any(), any())).thenReturn(true);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(OperationStatus.OK, scoreBoard.tryStartMatch(MEXICO, CANADA));
+        verify(matchStorage, times(1))
+                .trySave(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now(clock)));
+    }
+
+    @Test
+    void startMatchOfCompetitionSaveMatchWithCompetition() {
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+        scoreBoard.startMatch("World Cup", MEXICO, CANADA);
+
+        verify(matchStorage, times(1)).save(matchId(MEXICO, CANADA),
+                new Match("World Cup", MEXICO, 0, CANADA, 0, OffsetDateTime.now(clock)));
+    }
+
+    @Test
+    void tryStartMatchIfCompetitionBlankReturnInvalidInput() {
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(OperationStatus.INVALID_INPUT, scoreBoard.tryStartMatch(" ", MEXICO, CANADA));
+        verifyNoInteractions(matchStorage);
+    }
+
+    @Test
+    void tryStartMatchIfAlreadyExistsReturnAlreadyExists() {
+        when(matchStorage.trySave(any(), any())).thenReturn(false);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(OperationStatus.ALREADY_EXISTS, scoreBoard.tryStartMatch(MEXICO, CANADA));
+    }
+
+    @ParameterizedTest
+    @CsvSource({",Canada", "'',Canada", "Mexico,", "Mexico,''", ",", ",''", "'',", "'',''"})
+    void tryStartMatchIfHomeAndAwayTeamNullOrEmptyReturnInvalidInput(String homeTeam, String awayTeam) {
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(OperationStatus.INVALID_INPUT, scoreBoard.tryStartMatch(homeTeam, awayTeam));
+        verifyNoInteractions(matchStorage);
+    }
+
+    @Test
+    void tryUpdateScoreIfAllValidReturnOk() {
+        when(matchStorage.tryUpdate(any(), anyInt(), anyInt())).thenReturn(true);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(OperationStatus.OK, scoreBoard.tryUpdateScore(MEXICO, 1, CANADA, 2));
+        verify(matchStorage, times(1)).tryUpdate(matchId(MEXICO, CANADA), 1, 2);
+    }
+
+    @Test
+    void tryUpdateScoreIfNotFoundReturnNotFound() {
+        when(matchStorage.tryUpdate(any(), anyInt(), anyInt())).thenReturn(false);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(OperationStatus.NOT_FOUND, scoreBoard.tryUpdateScore(MEXICO, 1, CANADA, 2));
+    }
+
+    @Test
+    void updateAndFinishIfTeamsUnknownReturnNotFoundWithoutRegisteringThem() {
+        var teams = new TeamRegistry();
+        var scoreBoard = new ScoreBoard(matchStorage, teams, clock);
+
+        assertEquals(OperationStatus.NOT_FOUND, scoreBoard.tryUpdateScore(MEXICO, 1, CANADA, 2));
+        assertEquals(OperationStatus.NOT_FOUND, scoreBoard.tryFinishMatch(MEXICO, CANADA));
+        assertThrows(KeyNotFoundException.class, () -> scoreBoard.updateScore(MEXICO, 1, CANADA, 2));
+        assertThrows(KeyNotFoundException.class, () -> scoreBoard.finishMatch(MEXICO, CANADA));
+        assertEquals(0, teams.size());
+        verifyNoInteractions(matchStorage);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'',1,Canada,1", "Mexico,1,,1", "Mexico,-1,Canada,1", "Mexico,1,Canada,-1"})
+    void tryUpdateScoreIfInvalidInputReturnInvalidInput(String homeTeam, int homeTeamScore,
+                                                        String awayTeam, int awayTeamScore) {
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(OperationStatus.INVALID_INPUT,
+                scoreBoard.tryUpdateScore(homeTeam, homeTeamScore, awayTeam, awayTeamScore));
+        verifyNoInteractions(matchStorage);
+    }
+
+    @Test
+    void tryFinishMatchIfAllValidReturnOk() {
+        when(matchStorage.tryDelete(any())).thenReturn(true);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(OperationStatus.OK, scoreBoard.tryFinishMatch(MEXICO, CANADA));
+        verify(matchStorage, times(1)).tryDelete(matchId(MEXICO, CANADA));
+    }
+
+    @Test
+    void tryFinishMatchIfNotFoundReturnNotFound() {
+        when(matchStorage.tryDelete(any())).thenReturn(false);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(OperationStatus.NOT_FOUND, scoreBoard.tryFinishMatch(MEXICO, CANADA));
+        assertEquals(OperationStatus.INVALID_INPUT, scoreBoard.tryFinishMatch(MEXICO, " "));
+    }
+
+    @Test
+    void applyBatchIfAllValidReturnOkInSingleStorageBatch() {
+        runStorageBatches();
+        when(matchStorage.trySave(any(), any())).thenReturn(true);
+        when(matchStorage.tryUpdate(any(), anyInt(), anyInt())).thenReturn(true);
+        when(matchStorage.tryDelete(any())).thenReturn(true);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+        var results = scoreBoard.applyBatch(List.of(
+                ScoreEvent.start(MEXICO, CANADA),
+                ScoreEvent.update(MEXICO, 1, CANADA, 0),
+                ScoreEvent.finish(MEXICO, CANADA)));
+
+        var expectedKey = matchId(MEXICO, CANADA);
+        assertEquals(List.of(OperationStatus.OK, OperationStatus.OK, OperationStatus.OK), results);
+        verify(matchStorage, times(1)).batch(any());
+        verify(matchStorage, times(1)).trySave(expectedKey, new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now(clock)));
+        verify(matchStorage, times(1)).tryUpdate(expectedKey, 1, 0);
+        verify(matchStorage, times(1)).tryDelete(expectedKey);
+    }
+
+    @Test
+    void applyBatchIfSomeFailReturnResultPerEvent() {
+        runStorageBatches();
+        when(matchStorage.trySave(any(), any())).thenReturn(false);
+        when(matchStorage.tryUpdate(any(), anyInt(), anyInt())).thenReturn(false);
+        when(matchStorage.tryDelete(any())).thenReturn(true);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+        var results = scoreBoard.applyBatch(Arrays.asList(
+                ScoreEvent.start(MEXICO, CANADA),
+                ScoreEvent.update(SPAIN, 1, BRAZIL, 0),
+                ScoreEvent.update(SPAIN, -1, BRAZIL, 0),
+                ScoreEvent.finish("", BRAZIL),
+                null,
+                ScoreEvent.finish(GERMANY, FRANCE)));
+
+        assertEquals(List.of(
+                OperationStatus.ALREADY_EXISTS,
+                OperationStatus.NOT_FOUND,
+                OperationStatus.INVALID_INPUT,
+                OperationStatus.INVALID_INPUT,
+                OperationStatus.INVALID_INPUT,
+                OperationStatus.OK), results);
+        verify(matchStorage, times(1)).tryDelete(matchId(GERMANY, FRANCE));
+    }
+
+    @Test
+    void applyBatchIfStartOfCompetitionSaveMatchWithCompetition() {
+        runStorageBatches();
+        when(matchStorage.trySave(any(), any())).thenReturn(true);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+        var results = scoreBoard.applyBatch(List.of(ScoreEvent.start("World Cup", MEXICO, CANADA)));
+
+        assertEquals(List.of(OperationStatus.OK), results);
+        verify(matchStorage, times(1)).trySave(matchId(MEXICO, CANADA),
+                new Match("World Cup", MEXICO, 0, CANADA, 0, OffsetDateTime.now(clock)));
+    }
+
+    @Test
+    void applyBatchIfEmptyReturnEmptyList() {
+        runStorageBatches();
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(List.of(), scoreBoard.applyBatch(List.of()));
+    }
+
     @Test
     void matchesInProgressIfNoMatchesReturnEmptyList() {
         when(matchStorage.getAll()).thenReturn(List.of());
 
-        var scoreBoard = new ScoreBoard(matchStorage, clock);
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
         var matches = scoreBoard.matchesInProgress();
 
         assertNotNull(matches);
@@ -163,7 +354,7 @@ class ScoreBoardTest extends BaseTest {
         var expectedMatches = List.of(new Match(MEXICO, 0, CANADA, 0));
         when(matchStorage.getAll()).thenReturn(expectedMatches);
 
-        var scoreBoard = new ScoreBoard(matchStorage, clock);
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
         var matches = scoreBoard.matchesInProgress();
 
         assertNotNull(matches);
@@ -249,4 +440,240 @@ class ScoreBoardTest extends BaseTest {
         assertNotNull(matches);
         assertEquals(expectedMatches, matches);
     }
+
+    @Test
+    void matchesInProgressOfCompetitionReturnFromStorage() {
+        var expectedMatches = List.of(new Match("World Cup", MEXICO, 1, CANADA, 0, OffsetDateTime.now(clock)));
+        when(matchStorage.getByCompetition("World Cup")).thenReturn(expectedMatches);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(expectedMatches, scoreBoard.matchesInProgress("World Cup"));
+    }
+
+    @Test
+    void currentMatchReturnMatchOfTeamFromStorage() {
+        var expectedMatch = new Match(MEXICO, 1, CANADA, 0);
+        when(matchStorage.getByTeam(CANADA)).thenReturn(expectedMatch);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(expectedMatch, scoreBoard.currentMatch(CANADA));
+        assertNull(scoreBoard.currentMatch(SPAIN));
+    }
+
+    @Test
+    void currentMatchIfTeamEmptyThrowException() {
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> scoreBoard.currentMatch(""));
+        assertEquals(INVALID_INPUT_NULL_EMPTY, exception.getMessage());
+    }
+
+    @Test
+    void topMatchesReturnFirstPageFromStorage() {
+        var expectedMatches = List.of(new Match(MEXICO, 1, CANADA, 0));
+        when(matchStorage.getRange(0, 20)).thenReturn(expectedMatches);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(expectedMatches, scoreBoard.topMatches(20));
+    }
+
+    @Test
+    void matchesInProgressPagedReturnPageFromStorage() {
+        var expectedMatches = List.of(new Match(MEXICO, 1, CANADA, 0));
+        when(matchStorage.getRange(40, 20)).thenReturn(expectedMatches);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(expectedMatches, scoreBoard.matchesInProgress(40, 20));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1,1", "1,-1", "-1,-1"})
+    void matchesInProgressPagedIfOffsetOrLimitNegativeThrowException(int offset, int limit) {
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+        var e = assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.matchesInProgress(offset, limit));
+
+        assertTrue(e.getMessage().contains(INVALID_INPUT_NEGATIVE));
+    }
+
+    @Test
+    void snapshotReturnStorageSnapshot() {
+        var expectedSnapshot = new BoardSnapshot(1, List.of());
+        when(matchStorage.snapshot()).thenReturn(expectedSnapshot);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+
+        assertEquals(expectedSnapshot, scoreBoard.snapshot());
+    }
+
+    @Test
+    void writesIfNoSubscribersNoEventsBuilt() {
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+        scoreBoard.startMatch(MEXICO, CANADA);
+        scoreBoard.updateScore(MEXICO, 1, CANADA, 0);
+        scoreBoard.finishMatch(MEXICO, CANADA);
+
+        verify(matchStorage, never()).batch(any());
+        verify(matchStorage, never()).rankOf(any());
+        verify(matchStorage, never()).get(any());
+    }
+
+    @Test
+    void startMatchIfSubscribedPublishStartedEvent() {
+        runStorageBatches();
+        var key = matchId(MEXICO, CANADA);
+        var match = new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now(clock));
+        when(matchStorage.trySave(any(), any())).thenReturn(true);
+        when(matchStorage.get(key)).thenReturn(match);
+        when(matchStorage.rankOf(key)).thenReturn(3);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock, new BoardEventPublisher(Runnable::run, 16));
+        var subscriber = new RecordingSubscriber();
+        scoreBoard.events().subscribe(subscriber);
+        scoreBoard.startMatch(MEXICO, CANADA);
+
+        assertEquals(List.of(new BoardEvent(1, BoardEvent.Type.STARTED, MatchSnapshot.of(match), 3, -1)),
+                subscriber.events);
+    }
+
+    @Test
+    void startMatchOfCompetitionIfSubscribedPublishSnapshotWithCompetition() {
+        var scoreBoard = new ScoreBoard(new ConcurrentMatchStorage(), TEAMS, clock,
+                new BoardEventPublisher(Runnable::run, 16));
+        var subscriber = new RecordingSubscriber();
+        scoreBoard.events().subscribe(subscriber);
+        scoreBoard.startMatch("World Cup", MEXICO, CANADA);
+
+        var snapshot = new MatchSnapshot(MEXICO, 0, CANADA, 0, OffsetDateTime.now(clock), "World Cup");
+        assertEquals(List.of(new BoardEvent(1, BoardEvent.Type.STARTED, snapshot, 0, -1)), subscriber.events);
+        assertEquals(List.of(snapshot.toMatch()), scoreBoard.matchesInProgress());
+    }
+
+    @Test
+    void updateScoreIfRankChangedPublishScoreAndRankChangedEvents() {
+        runStorageBatches();
+        var key = matchId(MEXICO, CANADA);
+        var match = new Match(MEXICO, 1, CANADA, 0, OffsetDateTime.now(clock));
+        when(matchStorage.tryUpdate(any(), anyInt(), anyInt())).thenReturn(true);
+        when(matchStorage.get(key)).thenReturn(match);
+        when(matchStorage.rankOf(key)).thenReturn(2, 0, 0, 0);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock, new BoardEventPublisher(Runnable::run, 16));
+        var subscriber = new RecordingSubscriber();
+        scoreBoard.events().subscribe(subscriber);
+        scoreBoard.updateScore(MEXICO, 1, CANADA, 0);
+        scoreBoard.tryUpdateScore(MEXICO, 1, CANADA, 0);
+
+        var snapshot = MatchSnapshot.of(match);
+        assertEquals(List.of(
+                new BoardEvent(1, BoardEvent.Type.SCORE_CHANGED, snapshot, 0, 2),
+                new BoardEvent(2, BoardEvent.Type.RANK_CHANGED, snapshot, 0, 2),
+                new BoardEvent(3, BoardEvent.Type.SCORE_CHANGED, snapshot, 0, 0)), subscriber.events);
+    }
+
+    @Test
+    void finishMatchIfSubscribedPublishFinishedEventWithFinalScore() {
+        runStorageBatches();
+        var key = matchId(MEXICO, CANADA);
+        var match = new Match(MEXICO, 2, CANADA, 1, OffsetDateTime.now(clock));
+        when(matchStorage.tryDelete(any())).thenReturn(true);
+        when(matchStorage.get(key)).thenReturn(match);
+        when(matchStorage.rankOf(key)).thenReturn(1);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock, new BoardEventPublisher(Runnable::run, 16));
+        var subscriber = new RecordingSubscriber();
+        scoreBoard.events().subscribe(subscriber);
+        scoreBoard.finishMatch(MEXICO, CANADA);
+
+        assertEquals(List.of(new BoardEvent(1, BoardEvent.Type.FINISHED, MatchSnapshot.of(match), -1, 1)),
+                subscriber.events);
+    }
+
+    @Test
+    void writesIfSubscribedAndFailedThrowExceptionWithoutEvents() {
+        runStorageBatches();
+        when(matchStorage.tryUpdate(any(), anyInt(), anyInt())).thenReturn(false);
+        when(matchStorage.tryDelete(any())).thenReturn(false);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock, new BoardEventPublisher(Runnable::run, 16));
+        var subscriber = new RecordingSubscriber();
+        scoreBoard.events().subscribe(subscriber);
+
+        assertThrows(KeyNotFoundException.class, () -> scoreBoard.updateScore(MEXICO, 1, CANADA, 0));
+        assertThrows(KeyNotFoundException.class, () -> scoreBoard.finishMatch(MEXICO, CANADA));
+        assertEquals(List.of(), subscriber.events);
+    }
+
+    @Test
+    void versionIncreasedBySuccessfulWritesOnly() {
+        when(matchStorage.trySave(any(), any())).thenReturn(false);
+
+        var scoreBoard = new ScoreBoard(matchStorage, TEAMS, clock);
+        scoreBoard.startMatch(MEXICO, CANADA);
+        scoreBoard.updateScore(MEXICO, 1, CANADA, 0);
+        scoreBoard.tryStartMatch(MEXICO, CANADA);
+        scoreBoard.tryStartMatch(MEXICO, "");
+        scoreBoard.finishMatch(MEXICO, CANADA);
+
+        assertEquals(3, scoreBoard.version());
+    }
+
+    @Test
+    void changesSinceReturnAddedChangedAndRemovedMatches() {
+        var scoreBoard = new ScoreBoard(new ConcurrentMatchStorage(), TEAMS, clock);
+        scoreBoard.startMatch(MEXICO, CANADA);
+        scoreBoard.startMatch(SPAIN, BRAZIL);
+        scoreBoard.startMatch(GERMANY, FRANCE);
+        long version = scoreBoard.version();
+
+        scoreBoard.updateScore(SPAIN, 1, BRAZIL, 0);
+        scoreBoard.updateScore(SPAIN, 2, BRAZIL, 0);
+        scoreBoard.finishMatch(GERMANY, FRANCE);
+        scoreBoard.startMatch(URUGUAY, ITALY);
+
+        var startTime = OffsetDateTime.now(clock);
+        var expectedDelta = new BoardDelta(7, false, List.of(
+                new MatchChange(MatchChange.Type.CHANGED, SPAIN, BRAZIL,
+                        new MatchSnapshot(SPAIN, 2, BRAZIL, 0, startTime), 0),
+                new MatchChange(MatchChange.Type.REMOVED, GERMANY, FRANCE, null, -1),
+                new MatchChange(MatchChange.Type.ADDED, URUGUAY, ITALY,
+                        new MatchSnapshot(URUGUAY, 0, ITALY, 0, startTime), 2)));
+
+        assertEquals(expectedDelta, scoreBoard.changesSince(version));
+        assertEquals(new BoardDelta(7, false, List.of()), scoreBoard.changesSince(7));
+    }
+
+    @Test
+    void changesSinceIfVersionTooOldOrUnknownReturnFullState() {
+        var scoreBoard = new ScoreBoard(new ConcurrentMatchStorage(), TEAMS, clock);
+        scoreBoard.startMatch(MEXICO, CANADA);
+        scoreBoard.startMatch(SPAIN, BRAZIL);
+        for (int i = 0; i < ScoreBoard.CHANGE_LOG_CAPACITY; i++) {
+            scoreBoard.updateScore(SPAIN, i % 2, BRAZIL, 0);
+        }
+        scoreBoard.updateScore(MEXICO, 0, CANADA, 2);
+
+        var startTime = OffsetDateTime.now(clock);
+        var expectedChanges = List.of(
+                new MatchChange(MatchChange.Type.ADDED, MEXICO, CANADA,
+                        new MatchSnapshot(MEXICO, 0, CANADA, 2, startTime), 0),
+                new MatchChange(MatchChange.Type.ADDED, SPAIN, BRAZIL,
+                        new MatchSnapshot(SPAIN, 1, BRAZIL, 0, startTime), 1));
+        long version = scoreBoard.version();
+
+        assertEquals(new BoardDelta(version, true, expectedChanges), scoreBoard.changesSince(0));
+        assertEquals(new BoardDelta(version, true, expectedChanges), scoreBoard.changesSince(version + 1));
+        assertEquals(1, scoreBoard.changesSince(version - 1).changes().size());
+    }
+
+    private void runStorageBatches() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(matchStorage).batch(any());
+    }
 }
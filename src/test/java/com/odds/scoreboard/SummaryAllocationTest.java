@@ -0,0 +1,114 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.MatchView;
+import com.odds.scoreboard.infrastructure.ConcurrentMatchStorage;
+import com.odds.scoreboard.infrastructure.MatchStorage;
+import com.odds.scoreboard.infrastructure.ShardedMatchStorage;
+import com.odds.scoreboard.infrastructure.SlabMatchStorage;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation profile of summary reads and score updates, measured by allocation counter of the calling thread after JIT
+ * warm-up. Board always loads its flight recorder event types, so disabled events are part of the measured path.
+ */
+class SummaryAllocationTest extends BaseTest {
+    private static final int BOARD_SIZE = 100;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_READS = 200_000;
+    private static final int READS = 10_000;
+
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"concurrent", "snapshot", "slab"})
+    void matchesInProgressIntoViewsIfSteadyStateAllocateNothing(String storage) {
+        var board = board(storage);
+        var views = MatchView.newArray(PAGE_SIZE);
+        for (int i = 0; i < WARMUP_READS; i++) {
+            board.matchesInProgress(i % BOARD_SIZE, views);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < READS; i++) {
+            board.matchesInProgress(i % BOARD_SIZE, views);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // any object allocated per read would take at least 16 bytes per read
+        assertTrue(allocated < READS, "Allocated " + allocated + " bytes by " + READS + " reads");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"concurrent", "slab"})
+    void matchesInProgressIfListReturnedAllocateCopies(String storage) {
+        var board = board(storage);
+        for (int i = 0; i < WARMUP_READS / 10; i++) {
+            board.matchesInProgress(0, PAGE_SIZE);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < READS; i++) {
+            board.matchesInProgress(0, PAGE_SIZE);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated > (long) READS * PAGE_SIZE * 16,
+                "Allocated " + allocated + " bytes by " + READS + " reads");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"slab", "sharded"})
+    void updateScoreIfSteadyStateAllocateNothing(String storage) {
+        var board = board(storage);
+        String[] homeTeams = new String[BOARD_SIZE];
+        String[] awayTeams = new String[BOARD_SIZE];
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            homeTeams[i] = "home-" + i;
+            awayTeams[i] = "away-" + i;
+        }
+        for (int i = 0; i < WARMUP_READS; i++) {
+            board.updateScore(homeTeams[i % BOARD_SIZE], i % 7, awayTeams[i % BOARD_SIZE], i % 5);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < READS; i++) {
+            board.updateScore(homeTeams[i % BOARD_SIZE], i % 7, awayTeams[i % BOARD_SIZE], i % 5);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // any object allocated per update would take at least 16 bytes per update
+        assertTrue(allocated < READS, "Allocated " + allocated + " bytes by " + READS + " updates");
+    }
+
+    private static ScoreBoard board(String storage) {
+        MatchStorage matchStorage = switch (storage) {
+            case "concurrent" -> new ConcurrentMatchStorage();
+            case "snapshot" -> new ConcurrentMatchStorage(true);
+            case "slab" -> new SlabMatchStorage();
+            case "sharded" -> new ShardedMatchStorage();
+            default -> throw new IllegalArgumentException(storage);
+        };
+
+        var board = new ScoreBoard(matchStorage, Clock.systemUTC());
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            board.startMatch("home-" + i, "away-" + i);
+            board.updateScore("home-" + i, i % 7, "away-" + i, i % 5);
+        }
+        return board;
+    }
+}
@@ -0,0 +1,126 @@
+package com.odds.scoreboard;
+
+import com.odds.scoreboard.domain.MatchSnapshot;
+import com.odds.scoreboard.infrastructure.ConcurrentMatchStorage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SummaryCacheTest extends BaseTest {
+    private final Clock clock = Clock.fixed(Instant.parse("2024-04-22T12:00:00.00Z"), ZoneId.of("UTC"));
+    private final ScoreBoard scoreBoard = new ScoreBoard(new ConcurrentMatchStorage(), TEAMS, clock);
+
+    @Test
+    void summaryIfBoardNotChangedReturnCachedSummary() {
+        scoreBoard.startMatch(MEXICO, CANADA);
+        scoreBoard.startMatch(SPAIN, BRAZIL);
+        scoreBoard.updateScore(SPAIN, 1, BRAZIL, 0);
+
+        var cache = new SummaryCache(scoreBoard);
+        var summary = cache.summary();
+
+        var startTime = OffsetDateTime.now(clock);
+        assertEquals(List.of(
+                new MatchSnapshot(SPAIN, 1, BRAZIL, 0, startTime),
+                new MatchSnapshot(MEXICO, 0, CANADA, 0, startTime)), summary);
+        assertSame(summary, cache.summary());
+        assertEquals(1, cache.misses());
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    void summaryIfBoardChangedRecompute() {
+        scoreBoard.startMatch(MEXICO, CANADA);
+
+        var cache = new SummaryCache(scoreBoard);
+        cache.summary();
+        scoreBoard.updateScore(MEXICO, 0, CANADA, 1);
+        scoreBoard.tryStartMatch(MEXICO, CANADA);
+
+        assertEquals(List.of(new MatchSnapshot(MEXICO, 0, CANADA, 1, OffsetDateTime.now(clock))), cache.summary());
+        assertEquals(2, cache.misses());
+        assertEquals(0, cache.hits());
+    }
+
+    @Test
+    void summaryIfConcurrentReadersOfStaleSummaryRecomputeOnce() throws InterruptedException {
+        scoreBoard.startMatch(MEXICO, CANADA);
+        var cache = new SummaryCache(scoreBoard);
+
+        int readers = 16;
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < readers; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                cache.summary();
+            }));
+        }
+        start.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, cache.misses());
+        assertEquals(readers - 1, cache.hits());
+    }
+
+    @Test
+    void serializedSummaryReturnReadOnlyJson() {
+        scoreBoard.startMatch("C\u00f4te d'Ivoire", "\"Brazil\"");
+        scoreBoard.updateScore("C\u00f4te d'Ivoire", 2, "\"Brazil\"", 1);
+        scoreBoard.startMatch(MEXICO, CANADA);
+
+        var cache = new SummaryCache(scoreBoard, SummarySerializer.json());
+        var buffer = cache.serializedSummary();
+        var bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+
+        var expectedJson = "["
+                + "{\"homeTeam\":\"C\u00f4te d'Ivoire\",\"homeScore\":2,\"awayTeam\":\"\\\"Brazil\\\"\",\"awayScore\":1,"
+                + "\"startTime\":\"2024-04-22T12:00Z\"},"
+                + "{\"homeTeam\":\"Mexico\",\"homeScore\":0,\"awayTeam\":\"Canada\",\"awayScore\":0,"
+                + "\"startTime\":\"2024-04-22T12:00Z\"}]";
+        assertEquals(expectedJson, new String(bytes, StandardCharsets.UTF_8));
+        assertTrue(cache.serializedSummary().isReadOnly());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void serializedSummaryIfMatchOfCompetitionReturnJsonWithCompetition() {
+        scoreBoard.startMatch("World Cup", MEXICO, CANADA);
+
+        var cache = new SummaryCache(scoreBoard, SummarySerializer.json());
+        var buffer = cache.serializedSummary();
+        var bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+
+        var expectedJson = "["
+                + "{\"homeTeam\":\"Mexico\",\"homeScore\":0,\"awayTeam\":\"Canada\",\"awayScore\":0,"
+                + "\"startTime\":\"2024-04-22T12:00Z\",\"competition\":\"World Cup\"}]";
+        assertEquals(expectedJson, new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void serializedSummaryIfNoSerializerThrowException() {
+        var cache = new SummaryCache(scoreBoard);
+
+        assertThrows(IllegalStateException.class, cache::serializedSummary);
+    }
+}
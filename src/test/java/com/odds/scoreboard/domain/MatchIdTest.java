@@ -5,6 +5,7 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 class MatchIdTest extends BaseTest {
     @Test
@@ -14,8 +15,23 @@ class MatchIdTest extends BaseTest {
 
     @Test
     void getIdCheckConstructor() {
-        var matchId = new MatchId(MEXICO, CANADA);
+        var matchId = new MatchId(3, 7);
 
-        assertEquals(MEXICO + "_" + CANADA, matchId.getId());
+        assertEquals((3L << 32) | 7L, matchId.getId());
+        assertEquals(MatchId.encode(3, 7), matchId.getId());
+        assertEquals(3, matchId.getHomeTeamId());
+        assertEquals(7, matchId.getAwayTeamId());
+    }
+
+    @Test
+    void decodeReturnEqualMatchId() {
+        var matchId = new MatchId(3, 7);
+
+        assertEquals(matchId, MatchId.decode(matchId.getId()));
+    }
+
+    @Test
+    void getIdIfHomeAndAwaySwappedReturnDifferentId() {
+        assertNotEquals(new MatchId(3, 7), new MatchId(7, 3));
     }
 }
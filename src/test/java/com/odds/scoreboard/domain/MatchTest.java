@@ -4,6 +4,9 @@ import com.odds.scoreboard.BaseTest;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class MatchTest extends BaseTest {
@@ -25,4 +28,28 @@ class MatchTest extends BaseTest {
 
         assertEquals(8, match.getTotalScore());
     }
+
+    @Test
+    void getStartEpochNanosReturnStartTimeInNanos() {
+        var startTime = OffsetDateTime.of(2024, 4, 22, 14, 0, 0, 123, ZoneOffset.ofHours(2));
+        var match = new Match(MEXICO, 0, CANADA, 0, startTime);
+
+        assertEquals(startTime.toInstant().getEpochSecond() * 1_000_000_000L + 123, match.getStartEpochNanos());
+    }
+
+    @Test
+    void matchViewSetCopyAllFields() {
+        var startTime = OffsetDateTime.of(2024, 4, 22, 14, 0, 0, 0, ZoneOffset.UTC);
+        var match = new Match("World Cup", MEXICO, 2, CANADA, 1, startTime);
+
+        var view = new MatchView().set(match);
+
+        assertEquals("World Cup", view.getCompetition());
+        assertEquals(MEXICO, view.getHomeTeamName());
+        assertEquals(2, view.getHomeTeamScore());
+        assertEquals(CANADA, view.getAwayTeamName());
+        assertEquals(1, view.getAwayTeamScore());
+        assertEquals(3, view.getTotalScore());
+        assertEquals(match.getStartEpochNanos(), view.getStartEpochNanos());
+    }
 }
@@ -0,0 +1,92 @@
+package com.odds.scoreboard.domain;
+
+import com.odds.scoreboard.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TeamRegistryTest extends BaseTest {
+    @Test
+    void registerIfNewTeamsAssignDenseIds() {
+        var teams = new TeamRegistry();
+
+        assertEquals(0, teams.register(MEXICO));
+        assertEquals(1, teams.register(CANADA));
+        assertEquals(0, teams.register(MEXICO));
+        assertEquals(2, teams.size());
+    }
+
+    @Test
+    void idOfIfNotRegisteredReturnMinusOne() {
+        var teams = new TeamRegistry();
+        teams.register(MEXICO);
+
+        assertEquals(0, teams.idOf(MEXICO));
+        assertEquals(-1, teams.idOf(CANADA));
+        assertEquals(1, teams.size());
+    }
+
+    @Test
+    void findMatchIdIfTeamNotRegisteredReturnNullWithoutRegistering() {
+        var teams = new TeamRegistry();
+        teams.register(MEXICO);
+        teams.register(CANADA);
+
+        assertEquals(new MatchId(0, 1), teams.findMatchId(MEXICO, CANADA));
+        assertNull(teams.findMatchId(MEXICO, SPAIN));
+        assertNull(teams.findMatchId(SPAIN, MEXICO));
+        assertEquals(2, teams.size());
+    }
+
+    @Test
+    void findMatchIdIfFoundAgainReturnCachedInstance() {
+        var teams = new TeamRegistry();
+        teams.register(MEXICO);
+        teams.register(CANADA);
+
+        assertSame(teams.findMatchId(MEXICO, CANADA), teams.findMatchId(MEXICO, CANADA));
+    }
+
+    @Test
+    void findMatchIdIfMoreMatchesThanCacheReturnMatchingId() {
+        var teams = new TeamRegistry();
+        for (int i = 0; i < 200; i++) {
+            teams.register("team" + i);
+        }
+
+        // 40000 matches evict each other from the cache
+        for (int round = 0; round < 2; round++) {
+            for (int home = 0; home < 200; home++) {
+                for (int away = 0; away < 200; away++) {
+                    assertEquals(new MatchId(home, away), teams.findMatchId("team" + home, "team" + away));
+                }
+            }
+        }
+    }
+
+    @Test
+    void nameOfIfManyTeamsReturnRegisteredName() {
+        var teams = new TeamRegistry();
+        for (int i = 0; i < 100; i++) {
+            teams.register("team" + i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("team" + i, teams.nameOf(teams.idOf("team" + i)));
+        }
+    }
+
+    @Test
+    void matchIdIfNamesWouldCollideWhenConcatenatedReturnDifferentIds() {
+        var teams = new TeamRegistry();
+
+        var first = teams.matchId("A_B", "C");
+        var second = teams.matchId("A", "B_C");
+
+        assertNotEquals(first, second);
+        assertEquals(new MatchId(teams.idOf("A_B"), teams.idOf("C")), first);
+    }
+}
@@ -0,0 +1,47 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.FinishedMatch;
+import com.odds.scoreboard.domain.Match;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ArchivingMatchStorageTest extends MatchStorageContractTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-04-22T14:00:00Z"), ZoneOffset.UTC);
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 4, 22, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Override
+    protected MatchStorage createStorage(boolean snapshotsEnabled) {
+        return new ArchivingMatchStorage(new ConcurrentMatchStorage(snapshotsEnabled), new MatchArchive(CLOCK));
+    }
+
+    @Test
+    void deleteIfMatchFoundArchiveFinalScore() {
+        var archive = new MatchArchive(CLOCK);
+        var storage = new ArchivingMatchStorage(new SlabMatchStorage(), archive);
+        storage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, START));
+        storage.update(matchId(MEXICO, CANADA), 3, 1);
+
+        storage.delete(matchId(MEXICO, CANADA));
+
+        assertEquals(List.of(new FinishedMatch(MEXICO, 3, CANADA, 1, START, CLOCK.instant().atOffset(ZoneOffset.UTC))),
+                archive.byTeam(CANADA));
+        assertEquals(0, storage.size());
+    }
+
+    @Test
+    void deleteIfMatchNotFoundArchiveNothing() {
+        var archive = new MatchArchive(CLOCK);
+        var storage = new ArchivingMatchStorage(new ConcurrentMatchStorage(), archive);
+
+        storage.tryDelete(matchId(MEXICO, CANADA));
+
+        assertEquals(0, archive.size());
+    }
+}
@@ -0,0 +1,87 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.TeamRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class CompetitionMatchStorageTest extends MatchStorageContractTest {
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 4, 22, 12, 0, 0, 0, ZoneOffset.UTC);
+    private static final List<String> COMPETITIONS = List.of("World Cup", "Friendly", "Copa America");
+
+    @Override
+    protected MatchStorage createStorage(boolean snapshotsEnabled) {
+        return new CompetitionMatchStorage(ConcurrentMatchStorage::new, snapshotsEnabled);
+    }
+
+    @Test
+    void saveIfSameTeamsInOtherCompetitionReject() {
+        var storage = new CompetitionMatchStorage();
+        storage.save(matchId(MEXICO, CANADA), new Match("World Cup", MEXICO, 0, CANADA, 0, START));
+
+        assertFalse(storage.trySave(matchId(MEXICO, CANADA), new Match("Friendly", MEXICO, 0, CANADA, 0, START)));
+        assertEquals(List.of(), storage.getByCompetition("Friendly"));
+        assertEquals(1, storage.size());
+    }
+
+    @Test
+    void updateAndDeleteRouteToCompetitionOfMatch() {
+        var storage = new CompetitionMatchStorage();
+        storage.save(matchId(MEXICO, CANADA), new Match("World Cup", MEXICO, 0, CANADA, 0, START));
+        storage.save(matchId(SPAIN, BRAZIL), new Match("Friendly", SPAIN, 0, BRAZIL, 0, START));
+
+        storage.update(matchId(MEXICO, CANADA), 1, 1);
+        storage.delete(matchId(SPAIN, BRAZIL));
+
+        assertEquals(List.of(new Match("World Cup", MEXICO, 1, CANADA, 1, START)),
+                storage.getByCompetition("World Cup"));
+        assertEquals(List.of(), storage.getByCompetition("Friendly"));
+        assertEquals(List.of("Friendly", "World Cup"), storage.competitions());
+    }
+
+    @Test
+    void randomOperationsMergeToSameOrderAsDefaultStorage() {
+        var teams = new TeamRegistry();
+        var random = new Random(17);
+        var expected = new ConcurrentMatchStorage();
+        var actual = new CompetitionMatchStorage(SlabMatchStorage::new, false);
+
+        for (int i = 0; i < 5000; i++) {
+            var home = "home" + random.nextInt(30);
+            var away = "away" + random.nextInt(30);
+            var key = teams.matchId(home, away);
+            var competition = COMPETITIONS.get(Math.floorMod(home.hashCode() + away.hashCode(), COMPETITIONS.size()));
+            // distinct start times, so there are no ties broken by competition
+            var startTime = START.plusSeconds(i);
+
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(expected.trySave(key, new Match(competition, home, 0, away, 0, startTime)),
+                        actual.trySave(key, new Match(competition, home, 0, away, 0, startTime)));
+                case 1 -> {
+                    int homeScore = random.nextInt(5), awayScore = random.nextInt(5);
+                    assertEquals(expected.tryUpdate(key, homeScore, awayScore),
+                            actual.tryUpdate(key, homeScore, awayScore));
+                }
+                default -> assertEquals(expected.tryDelete(key), actual.tryDelete(key));
+            }
+        }
+
+        var all = expected.getAll();
+        assertEquals(all, actual.getAll());
+        assertEquals(expected.getRange(10, 20), actual.getRange(10, 20));
+        for (String competition : COMPETITIONS) {
+            assertEquals(expected.getByCompetition(competition), actual.getByCompetition(competition));
+        }
+        for (int rank = 0; rank < all.size(); rank++) {
+            var match = all.get(rank);
+            assertEquals(rank, actual.rankOf(teams.matchId(match.getHomeTeamName(), match.getAwayTeamName())));
+        }
+    }
+}
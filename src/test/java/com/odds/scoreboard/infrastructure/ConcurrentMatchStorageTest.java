@@ -1,6 +1,5 @@
 package com.odds.scoreboard.infrastructure;
 
-import com.odds.scoreboard.BaseTest;
 import com.odds.scoreboard.domain.Match;
 import com.odds.scoreboard.domain.MatchId;
 import com.odds.scoreboard.infrastructure.exception.KeyExistsException;
@@ -8,27 +7,29 @@ import com.odds.scoreboard.infrastructure.exception.KeyNotFoundException;
 import org.junit.jupiter.api.Test;
 
 import java.time.OffsetDateTime;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 
-class MatchStorageTest extends BaseTest {
+class ConcurrentMatchStorageTest extends MatchStorageContractTest {
+    @Override
+    protected MatchStorage createStorage(boolean snapshotsEnabled) {
+        return new ConcurrentMatchStorage(snapshotsEnabled);
+    }
+
     @Test
     void saveIfEmptyStorageSuccess() throws NoSuchFieldException, IllegalAccessException {
-        var expectedKey = new MatchId(MEXICO, CANADA);
+        var expectedKey = matchId(MEXICO, CANADA);
         var expectedMatch = new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now());
 
-        var matchStorage = new MatchStorage();
+        var matchStorage = createStorage();
         matchStorage.save(expectedKey, expectedMatch);
 
         var expectedStorage = new ConcurrentHashMap<>();
-        expectedStorage.put(expectedKey.getId(), expectedMatch);
+        expectedStorage.put(expectedKey, expectedMatch);
 
         var actualStorage = extractStorage(matchStorage);
 
@@ -37,20 +38,20 @@ class MatchStorageTest extends BaseTest {
 
     @Test
     void saveIfNotEmptyStorageSuccess() throws NoSuchFieldException, IllegalAccessException {
-        var expectedKey = new MatchId(MEXICO, CANADA);
+        var expectedKey = matchId(MEXICO, CANADA);
         var expectedMatch = new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now());
 
-        var existingKey = new MatchId(SPAIN, BRAZIL);
+        var existingKey = matchId(SPAIN, BRAZIL);
         var existingMatch = new Match(SPAIN, 1, BRAZIL, 2, OffsetDateTime.now());
 
-        var matchStorage = new MatchStorage();
-        initStorage(matchStorage, Map.of(existingKey.getId(), existingMatch));
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(existingKey, existingMatch));
 
         matchStorage.save(expectedKey, expectedMatch);
 
         var expectedStorage = new ConcurrentHashMap<>();
-        expectedStorage.put(expectedKey.getId(), expectedMatch);
-        expectedStorage.put(existingKey.getId(), existingMatch);
+        expectedStorage.put(expectedKey, expectedMatch);
+        expectedStorage.put(existingKey, existingMatch);
 
         var actualStorage = extractStorage(matchStorage);
 
@@ -59,17 +60,17 @@ class MatchStorageTest extends BaseTest {
 
     @Test
     void saveIfKeyExistsThrowException() throws NoSuchFieldException, IllegalAccessException {
-        var key = new MatchId(MEXICO, CANADA);
+        var key = matchId(MEXICO, CANADA);
         var existingMatch = new Match(MEXICO, 0, CANADA, 5, OffsetDateTime.now());
         var newMatch = new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now());
 
-        var matchStorage = new MatchStorage();
-        initStorage(matchStorage, Map.of(key.getId(), existingMatch));
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(key, existingMatch));
 
         assertThrows(KeyExistsException.class, () -> matchStorage.save(key, newMatch));
 
         var expectedStorage = new ConcurrentHashMap<>();
-        expectedStorage.put(key.getId(), existingMatch);
+        expectedStorage.put(key, existingMatch);
 
         var actualStorage = extractStorage(matchStorage);
 
@@ -78,19 +79,18 @@ class MatchStorageTest extends BaseTest {
 
     @Test
     void updateIfSingleElemInStorageSuccess() throws NoSuchFieldException, IllegalAccessException {
-        var key = new MatchId(MEXICO, CANADA);
+        var key = matchId(MEXICO, CANADA);
         var startTime = OffsetDateTime.now();
         var existingMatch = new Match(MEXICO, 0, CANADA, 0, startTime);
-        var newMatch = new Match(MEXICO, 0, CANADA, 1);
 
-        var matchStorage = new MatchStorage();
-        initStorage(matchStorage, Map.of(key.getId(), existingMatch));
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(key, existingMatch));
 
-        matchStorage.update(key, newMatch);
+        matchStorage.update(key, 0, 1);
 
         var expectedStorage = new ConcurrentHashMap<>();
         var expectedMatch = new Match(MEXICO, 0, CANADA, 1, startTime);
-        expectedStorage.put(key.getId(), expectedMatch);
+        expectedStorage.put(key, expectedMatch);
 
         var actualStorage = extractStorage(matchStorage);
 
@@ -99,26 +99,25 @@ class MatchStorageTest extends BaseTest {
 
     @Test
     void updateIfTwoElemsInStorageUpdateCorrect() throws NoSuchFieldException, IllegalAccessException {
-        var key1 = new MatchId(MEXICO, CANADA);
+        var key1 = matchId(MEXICO, CANADA);
         var startTime1 = OffsetDateTime.now();
         var match1 = new Match(MEXICO, 0, CANADA, 0, startTime1);
 
-        var key2 = new MatchId(SPAIN, BRAZIL);
+        var key2 = matchId(SPAIN, BRAZIL);
         var startTime2 = OffsetDateTime.now().minusMinutes(35);
         var match2 = new Match(SPAIN, 0, BRAZIL, 0, startTime2);
 
-        var keyForUpdate = new MatchId(SPAIN, BRAZIL);
-        var matchToUpdate = new Match(SPAIN, 0, BRAZIL, 1);
+        var keyForUpdate = matchId(SPAIN, BRAZIL);
 
-        var matchStorage = new MatchStorage();
-        initStorage(matchStorage, Map.of(key1.getId(), match1, key2.getId(), match2));
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(key1, match1, key2, match2));
 
-        matchStorage.update(keyForUpdate, matchToUpdate);
+        matchStorage.update(keyForUpdate, 0, 1);
 
         var expectedStorage = new ConcurrentHashMap<>();
         var updatedMatch = new Match(SPAIN, 0, BRAZIL, 1, startTime2);
-        expectedStorage.put(key1.getId(), match1);
-        expectedStorage.put(keyForUpdate.getId(), updatedMatch);
+        expectedStorage.put(key1, match1);
+        expectedStorage.put(keyForUpdate, updatedMatch);
 
         var actualStorage = extractStorage(matchStorage);
 
@@ -127,20 +126,19 @@ class MatchStorageTest extends BaseTest {
 
     @Test
     void updateIfKeyDoesntExistThrowException() throws NoSuchFieldException, IllegalAccessException {
-        var existingKey = new MatchId(MEXICO, CANADA);
+        var existingKey = matchId(MEXICO, CANADA);
         var startTime = OffsetDateTime.now();
         var existingMatch = new Match(MEXICO, 0, CANADA, 0, startTime);
 
-        var newKey = new MatchId(SPAIN, BRAZIL);
-        var newMatch = new Match(SPAIN, 0, BRAZIL, 1);
+        var newKey = matchId(SPAIN, BRAZIL);
 
-        var matchStorage = new MatchStorage();
-        initStorage(matchStorage, Map.of(existingKey.getId(), existingMatch));
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(existingKey, existingMatch));
 
-        assertThrows(KeyNotFoundException.class, () -> matchStorage.update(newKey, newMatch));
+        assertThrows(KeyNotFoundException.class, () -> matchStorage.update(newKey, 0, 1));
 
         var expectedStorage = new ConcurrentHashMap<>();
-        expectedStorage.put(existingKey.getId(), existingMatch);
+        expectedStorage.put(existingKey, existingMatch);
 
         var actualStorage = extractStorage(matchStorage);
 
@@ -149,11 +147,11 @@ class MatchStorageTest extends BaseTest {
 
     @Test
     void deleteIfSingleElemInStorageSuccess() throws NoSuchFieldException, IllegalAccessException {
-        var key = new MatchId(MEXICO, CANADA);
+        var key = matchId(MEXICO, CANADA);
         var match = new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now());
 
-        var matchStorage = new MatchStorage();
-        initStorage(matchStorage, Map.of(key.getId(), match));
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(key, match));
 
         matchStorage.delete(key);
 
@@ -165,19 +163,19 @@ class MatchStorageTest extends BaseTest {
 
     @Test
     void deleteIfTwoElemsInStorageDeleteCorrect() throws NoSuchFieldException, IllegalAccessException {
-        var key1 = new MatchId(MEXICO, CANADA);
+        var key1 = matchId(MEXICO, CANADA);
         var match1 = new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now());
 
-        var key2 = new MatchId(SPAIN, BRAZIL);
+        var key2 = matchId(SPAIN, BRAZIL);
         var match2 = new Match(SPAIN, 0, BRAZIL, 0, OffsetDateTime.now().minusMinutes(35));
 
-        var matchStorage = new MatchStorage();
-        initStorage(matchStorage, Map.of(key1.getId(), match1, key2.getId(), match2));
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(key1, match1, key2, match2));
 
         matchStorage.delete(key2);
 
         var expectedStorage = new ConcurrentHashMap<>();
-        expectedStorage.put(key1.getId(), match1);
+        expectedStorage.put(key1, match1);
 
         var actualStorage = extractStorage(matchStorage);
 
@@ -186,67 +184,41 @@ class MatchStorageTest extends BaseTest {
 
     @Test
     void deleteIfKeyDoesntExistThrowException() throws NoSuchFieldException, IllegalAccessException {
-        var key = new MatchId(MEXICO, CANADA);
+        var key = matchId(MEXICO, CANADA);
         var match = new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now());
 
-        var matchStorage = new MatchStorage();
-        initStorage(matchStorage, Map.of(key.getId(), match));
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(key, match));
 
-        var keyToDelete = new MatchId(SPAIN, BRAZIL);
+        var keyToDelete = matchId(SPAIN, BRAZIL);
         assertThrows(KeyNotFoundException.class, () -> matchStorage.delete(keyToDelete));
 
         var expectedStorage = new ConcurrentHashMap<>();
-        expectedStorage.put(key.getId(), match);
+        expectedStorage.put(key, match);
 
         var actualStorage = extractStorage(matchStorage);
 
         assertEquals(expectedStorage, actualStorage);
     }
 
-    @Test
-    void getAllIfEmptyReturnEmptyList() {
-        var matchStorage = new MatchStorage();
-        var matches = matchStorage.getAll();
-
-        assertNotNull(matches);
-        assertEquals(0, matches.size());
-    }
-
-    @Test
-    void getAllIfNotEmptyReturnAll() throws NoSuchFieldException, IllegalAccessException {
-        var key1 = new MatchId(MEXICO, CANADA);
-        var match1 = new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now());
-
-        var key2 = new MatchId(SPAIN, BRAZIL);
-        var match2 = new Match(SPAIN, 0, BRAZIL, 0, OffsetDateTime.now().minusMinutes(35));
-
-        var matchStorage = new MatchStorage();
-        initStorage(matchStorage, Map.of(key1.getId(), match1, key2.getId(), match2));
-
-        var matches = matchStorage.getAll();
-
-        assertNotNull(matches);
-        assertTrue(matches.containsAll(List.of(match1, match2)));
-    }
-
     @Test
     void getAllIfModifyReturnedValuesStorageIsNotChanged() throws NoSuchFieldException, IllegalAccessException {
         var startTime = OffsetDateTime.now();
 
-        var key1 = new MatchId(MEXICO, CANADA);
+        var key1 = matchId(MEXICO, CANADA);
         var match1 = new Match(MEXICO, 0, CANADA, 0, startTime);
 
-        var key2 = new MatchId(SPAIN, BRAZIL);
+        var key2 = matchId(SPAIN, BRAZIL);
         var match2 = new Match(SPAIN, 0, BRAZIL, 0, startTime);
 
-        var matchStorage = new MatchStorage();
-        initStorage(matchStorage, Map.of(key1.getId(), match1, key2.getId(), match2));
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(key1, match1, key2, match2));
 
         // we expect that nothing is changed in storage
         var expectedStorage = new ConcurrentHashMap<>();
-        expectedStorage.put(new MatchId(MEXICO, CANADA).getId(),
+        expectedStorage.put(matchId(MEXICO, CANADA),
                 new Match(MEXICO, 0, CANADA, 0, startTime));
-        expectedStorage.put(new MatchId(SPAIN, BRAZIL).getId(),
+        expectedStorage.put(matchId(SPAIN, BRAZIL),
                 new Match(SPAIN, 0, BRAZIL, 0, startTime));
 
         var matches = matchStorage.getAll();
@@ -264,18 +236,41 @@ class MatchStorageTest extends BaseTest {
         assertEquals(expectedStorage, actualStorage);
     }
 
-    private ConcurrentMap<String, Match> extractStorage(MatchStorage matchStorage) throws NoSuchFieldException, IllegalAccessException {
-        var map = MatchStorage.class.getDeclaredField("storage");
-        map.setAccessible(true);
+    @Test
+    void batchIfSnapshotsEnabledPublishSingleVersion() {
+        var matchStorage = createStorage(true);
+
+        matchStorage.batch(() -> {
+            matchStorage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now()));
+            matchStorage.save(matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, OffsetDateTime.now()));
+            matchStorage.update(matchId(SPAIN, BRAZIL), 1, 0);
+        });
+        matchStorage.batch(() -> assertThrows(KeyNotFoundException.class,
+                () -> matchStorage.delete(matchId(GERMANY, FRANCE))));
+
+        assertEquals(1, matchStorage.snapshot().version());
+        assertEquals(2, matchStorage.snapshot().size());
+    }
 
-        return (ConcurrentMap<String, Match>) map.get(matchStorage);
+    @Test
+    void batchIfNestedPublishOnlyAtOuterEnd() {
+        var matchStorage = createStorage(true);
+
+        matchStorage.batch(() -> {
+            matchStorage.batch(() -> matchStorage.save(matchId(MEXICO, CANADA),
+                    new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now())));
+            assertEquals(0, matchStorage.snapshot().version());
+            matchStorage.save(matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, OffsetDateTime.now()));
+        });
+
+        assertEquals(1, matchStorage.snapshot().version());
+        assertEquals(2, matchStorage.snapshot().size());
     }
 
-    private void initStorage(MatchStorage matchStorage, Map<String, Match> initialState) throws NoSuchFieldException, IllegalAccessException {
-        var map = MatchStorage.class.getDeclaredField("storage");
+    private ConcurrentMap<MatchId, Match> extractStorage(MatchStorage matchStorage) throws NoSuchFieldException, IllegalAccessException {
+        var map = ConcurrentMatchStorage.class.getDeclaredField("storage");
         map.setAccessible(true);
 
-        var storage = (ConcurrentMap<String, Match>) map.get(matchStorage);
-        storage.putAll(initialState);
+        return (ConcurrentMap<MatchId, Match>) map.get(matchStorage);
     }
 }
@@ -0,0 +1,208 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.TeamRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalingMatchStorageTest extends MatchStorageContractTest {
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 4, 22, 12, 0, 0, 123, ZoneOffset.ofHours(2));
+
+    @TempDir
+    private Path directory;
+    private final List<JournalingMatchStorage> opened = new ArrayList<>();
+
+    @Override
+    protected MatchStorage createStorage(boolean snapshotsEnabled) {
+        return open(new ConcurrentMatchStorage(snapshotsEnabled), TEAMS,
+                directory.resolve("storage-" + opened.size()), FsyncPolicy.ALWAYS, 1000);
+    }
+
+    @AfterEach
+    void closeStorages() throws IOException {
+        for (var storage : opened) {
+            storage.close();
+        }
+    }
+
+    @Test
+    void recoverAfterCloseRebuildBoardWithOwnTeamIds() throws IOException {
+        var storage = open(new SlabMatchStorage(), TEAMS, directory, FsyncPolicy.PERIODIC, 1000);
+        storage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, START));
+        storage.save(matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, START.plusMinutes(5)));
+        storage.save(matchId(GERMANY, FRANCE), new Match(GERMANY, 0, FRANCE, 0, START.plusMinutes(10)));
+        storage.update(matchId(MEXICO, CANADA), 2, 1);
+        storage.delete(matchId(GERMANY, FRANCE));
+        close(storage);
+
+        // new process registers teams in other order, so team ids differ from journaled ones
+        var teams = new TeamRegistry();
+        teams.register(ARGENTINA);
+        teams.register(BRAZIL);
+        var recovered = open(new SlabMatchStorage(), teams, directory, FsyncPolicy.PERIODIC, 1000);
+
+        assertEquals(storage.getAll(), recovered.getAll());
+        assertTrue(recovered.tryUpdate(teams.matchId(SPAIN, BRAZIL), 1, 0));
+        assertEquals(List.of(
+                new Match(MEXICO, 2, CANADA, 1, START),
+                new Match(SPAIN, 1, BRAZIL, 0, START.plusMinutes(5))), recovered.getAll());
+    }
+
+    @Test
+    void recoverIfNotClosedRebuildAllSyncedWrites() {
+        var storage = open(new ConcurrentMatchStorage(), TEAMS, directory, FsyncPolicy.ALWAYS, 1000);
+        storage.batch(() -> {
+            storage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, START));
+            storage.update(matchId(MEXICO, CANADA), 1, 0);
+        });
+        storage.save(matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, START));
+
+        var recovered = open(new ConcurrentMatchStorage(), new TeamRegistry(), directory, FsyncPolicy.ALWAYS, 1000);
+
+        assertEquals(storage.getAll(), recovered.getAll());
+    }
+
+    @Test
+    void recoverIfTornLastRecordIgnoreItAndContinueInNewSegment() throws IOException {
+        var storage = open(new ConcurrentMatchStorage(), TEAMS, directory, FsyncPolicy.ALWAYS, 1000);
+        storage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, START));
+        storage.update(matchId(MEXICO, CANADA), 1, 0);
+        close(storage);
+
+        var torn = files("journal-").getLast();
+        Files.write(torn, new byte[]{0, 0, 0, 21, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        var teams = new TeamRegistry();
+        var recovered = open(new ConcurrentMatchStorage(), teams, directory, FsyncPolicy.ALWAYS, 1000);
+
+        assertEquals(List.of(new Match(MEXICO, 1, CANADA, 0, START)), recovered.getAll());
+        var segments = files("journal-");
+        assertEquals(1, segments.size());
+        assertNotEquals(torn, segments.getFirst());
+        assertEquals(0, Files.size(segments.getFirst()));
+
+        recovered.update(teams.matchId(MEXICO, CANADA), 2, 0);
+        close(recovered);
+
+        assertEquals(List.of(new Match(MEXICO, 2, CANADA, 0, START)),
+                open(new ConcurrentMatchStorage(), new TeamRegistry(), directory, FsyncPolicy.ALWAYS, 1000).getAll());
+    }
+
+    @Test
+    void checkpointEveryIntervalKeepOnlyLatestCheckpointAndTail() throws IOException {
+        var storage = open(new ConcurrentMatchStorage(), TEAMS, directory, FsyncPolicy.ALWAYS, 10);
+        var key = matchId(MEXICO, CANADA);
+        storage.save(key, new Match(MEXICO, 0, CANADA, 0, START));
+        for (int i = 1; i <= 25; i++) {
+            storage.update(key, i, 0);
+        }
+        close(storage);
+
+        assertEquals(1, files("checkpoint-").size());
+        assertEquals(1, files("journal-").size());
+
+        var recovered = open(new ConcurrentMatchStorage(), new TeamRegistry(), directory, FsyncPolicy.ALWAYS, 10);
+
+        assertEquals(List.of(new Match(MEXICO, 25, CANADA, 0, START)), recovered.getAll());
+    }
+
+    @Test
+    void recoverFromCheckpointAndJournalKeepCompetitions() throws IOException {
+        var storage = open(new SlabMatchStorage(), TEAMS, directory, FsyncPolicy.NEVER, 1000);
+        storage.save(matchId(MEXICO, CANADA), new Match("World Cup", MEXICO, 0, CANADA, 0, START));
+        storage.checkpoint();
+        storage.save(matchId(SPAIN, BRAZIL), new Match("Friendly", SPAIN, 0, BRAZIL, 0, START));
+        storage.save(matchId(GERMANY, FRANCE), new Match(GERMANY, 0, FRANCE, 0, START));
+        close(storage);
+
+        var recovered = open(new SlabMatchStorage(), new TeamRegistry(), directory, FsyncPolicy.NEVER, 1000);
+
+        assertEquals(List.of(new Match("World Cup", MEXICO, 0, CANADA, 0, START)),
+                recovered.getByCompetition("World Cup"));
+        assertEquals(List.of(new Match("Friendly", SPAIN, 0, BRAZIL, 0, START)),
+                recovered.getByCompetition("Friendly"));
+        assertEquals(List.of(new Match(GERMANY, 0, FRANCE, 0, START)), recovered.getByCompetition(null));
+    }
+
+    @Test
+    void recoverIfStartedAgainAfterFinishKeepNewMatch() throws IOException {
+        var storage = open(new ConcurrentMatchStorage(), TEAMS, directory, FsyncPolicy.NEVER, 1000);
+        var key = matchId(MEXICO, CANADA);
+        storage.save(key, new Match(MEXICO, 0, CANADA, 0, START));
+        storage.checkpoint();
+        storage.delete(key);
+        storage.save(key, new Match(MEXICO, 0, CANADA, 0, START.plusHours(2)));
+        close(storage);
+
+        var recovered = open(new ConcurrentMatchStorage(), new TeamRegistry(), directory, FsyncPolicy.NEVER, 1000);
+
+        assertEquals(List.of(new Match(MEXICO, 0, CANADA, 0, START.plusHours(2))), recovered.getAll());
+    }
+
+    @Test
+    void saveIfNameTooLongToJournalThrowExceptionWithoutChangingDelegate() throws IOException {
+        var delegate = new ConcurrentMatchStorage();
+        var storage = open(delegate, TEAMS, directory, FsyncPolicy.ALWAYS, 1000);
+        var match = new Match("x".repeat(70_000), 0, CANADA, 0, START);
+
+        assertThrows(IllegalArgumentException.class, () -> storage.save(matchId(MEXICO, CANADA), match));
+        assertEquals(0, delegate.size());
+        storage.save(matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, START));
+        close(storage);
+
+        var recovered = open(new ConcurrentMatchStorage(), new TeamRegistry(), directory, FsyncPolicy.ALWAYS, 1000);
+
+        assertEquals(List.of(new Match(SPAIN, 0, BRAZIL, 0, START)), recovered.getAll());
+    }
+
+    @Test
+    void writeIfClosedThrowExceptionWithoutChangingDelegate() throws IOException {
+        var delegate = new ConcurrentMatchStorage();
+        var storage = open(delegate, TEAMS, directory, FsyncPolicy.PERIODIC, 1000);
+        storage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, START));
+        close(storage);
+
+        assertThrows(IllegalStateException.class,
+                () -> storage.save(matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, START)));
+        assertThrows(IllegalStateException.class, () -> storage.update(matchId(MEXICO, CANADA), 1, 0));
+        assertThrows(IllegalStateException.class, () -> storage.delete(matchId(MEXICO, CANADA)));
+        assertEquals(List.of(new Match(MEXICO, 0, CANADA, 0, START)), delegate.getAll());
+    }
+
+    private JournalingMatchStorage open(MatchStorage delegate, TeamRegistry teams, Path path, FsyncPolicy policy,
+                                        long checkpointInterval) {
+        var storage = new JournalingMatchStorage(delegate, teams, path, policy, Duration.ofMillis(5),
+                checkpointInterval);
+        opened.add(storage);
+        return storage;
+    }
+
+    private void close(JournalingMatchStorage storage) throws IOException {
+        opened.remove(storage);
+        storage.close();
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+
+}
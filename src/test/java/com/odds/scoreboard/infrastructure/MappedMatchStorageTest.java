@@ -0,0 +1,165 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.BaseTest;
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchView;
+import com.odds.scoreboard.domain.TeamRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MappedMatchStorageTest extends BaseTest {
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 4, 22, 12, 0, 0, 123, ZoneOffset.ofHours(2));
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void openIfWrittenReturnSameOrderedMatches() throws IOException {
+        var teams = new TeamRegistry();
+        var storage = new SlabMatchStorage();
+        storage.save(teams.matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 5, START));
+        storage.save(teams.matchId(SPAIN, BRAZIL), new Match(SPAIN, 10, BRAZIL, 2, START.plusMinutes(10)));
+        storage.save(teams.matchId(GERMANY, FRANCE), new Match(GERMANY, 2, FRANCE, 2, START.plusMinutes(20)));
+        var file = directory.resolve("board.bin");
+
+        MappedMatchStorage.write(storage, teams, file);
+        var mapped = MappedMatchStorage.open(file);
+
+        assertEquals(3, mapped.size());
+        assertEquals(storage.getAll(), mapped.getAll());
+        assertEquals(storage.getRange(1, 5), mapped.getRange(1, 5));
+        assertEquals(List.of(), mapped.getRange(3, 5));
+    }
+
+    @Test
+    void copyRangeRefillViewsFromMappedRows() throws IOException {
+        var teams = new TeamRegistry();
+        var storage = new ConcurrentMatchStorage();
+        storage.save(teams.matchId(MEXICO, CANADA), new Match(MEXICO, 1, CANADA, 0, START));
+        storage.save(teams.matchId(SPAIN, BRAZIL), new Match(SPAIN, 3, BRAZIL, 0, START));
+        var file = directory.resolve("board.bin");
+        MappedMatchStorage.write(storage, teams, file);
+
+        var mapped = MappedMatchStorage.open(file);
+        var views = MatchView.newArray(5);
+
+        assertEquals(1, mapped.copyRange(1, views));
+        assertEquals(MEXICO, views[0].getHomeTeamName());
+        assertEquals(CANADA, views[0].getAwayTeamName());
+        assertEquals(1, views[0].getHomeTeamScore());
+        assertEquals(START.toInstant().getEpochSecond() * 1_000_000_000L + 123, views[0].getStartEpochNanos());
+        assertNull(views[0].getCompetition());
+    }
+
+    @Test
+    void openIfWrittenKeepCompetitions() throws IOException {
+        var teams = new TeamRegistry();
+        var storage = new SlabMatchStorage();
+        storage.save(teams.matchId(MEXICO, CANADA), new Match("World Cup", MEXICO, 1, CANADA, 0, START));
+        storage.save(teams.matchId(SPAIN, BRAZIL), new Match("Friendly", SPAIN, 3, BRAZIL, 0, START));
+        storage.save(teams.matchId(GERMANY, FRANCE),
+                new Match("World Cup", GERMANY, 0, FRANCE, 0, START.plusMinutes(5)));
+        storage.save(teams.matchId(URUGUAY, ITALY), new Match(URUGUAY, 0, ITALY, 0, START));
+        var file = directory.resolve("board.bin");
+        MappedMatchStorage.write(storage, teams, file);
+
+        var mapped = MappedMatchStorage.open(file);
+        var views = MatchView.newArray(2);
+
+        assertEquals(storage.getAll(), mapped.getAll());
+        assertEquals(storage.getByCompetition("World Cup"), mapped.getByCompetition("World Cup"));
+        assertEquals("Friendly", mapped.competition(0));
+        assertNull(mapped.competition(3));
+        assertEquals(2, mapped.copyRange(0, views));
+        assertEquals("Friendly", views[0].getCompetition());
+        assertEquals("World Cup", views[1].getCompetition());
+    }
+
+    @Test
+    void getIfTeamsOfSnapshotUsedFindMatchAndRank() throws IOException {
+        var teams = new TeamRegistry();
+        teams.register(ARGENTINA);
+        var storage = new ConcurrentMatchStorage();
+        storage.save(teams.matchId(MEXICO, CANADA), new Match(MEXICO, 1, CANADA, 0, START));
+        storage.save(teams.matchId(SPAIN, BRAZIL), new Match(SPAIN, 3, BRAZIL, 0, START));
+        var file = directory.resolve("board.bin");
+        MappedMatchStorage.write(storage, teams, file);
+
+        var mapped = MappedMatchStorage.open(file);
+        var mappedTeams = mapped.teams();
+
+        assertEquals(new Match(MEXICO, 1, CANADA, 0, START), mapped.get(mappedTeams.matchId(MEXICO, CANADA)));
+        assertEquals(1, mapped.rankOf(mappedTeams.matchId(MEXICO, CANADA)));
+        assertEquals(0, mapped.rankOf(mappedTeams.matchId(SPAIN, BRAZIL)));
+        assertEquals(-1, mapped.rankOf(mappedTeams.matchId(ARGENTINA, CANADA)));
+        assertNull(mapped.get(mappedTeams.matchId(ARGENTINA, CANADA)));
+    }
+
+    @Test
+    void primitiveAccessorsReadRowsByRank() throws IOException {
+        var teams = new TeamRegistry();
+        var storage = new ConcurrentMatchStorage();
+        storage.save(teams.matchId(MEXICO, CANADA), new Match(MEXICO, 2, CANADA, 1, START));
+        var file = directory.resolve("board.bin");
+        MappedMatchStorage.write(storage, teams, file);
+
+        var mapped = MappedMatchStorage.open(file);
+
+        assertEquals(teams.matchId(MEXICO, CANADA).getId(), mapped.matchId(0));
+        assertEquals(2, mapped.homeTeamScore(0));
+        assertEquals(1, mapped.awayTeamScore(0));
+        assertEquals(START.toEpochSecond() * 1_000_000_000L + 123, mapped.startEpochNanos(0));
+        assertEquals(CANADA, mapped.teamName(teams.idOf(CANADA)));
+    }
+
+    @Test
+    void writeIfEmptyOpenEmpty() throws IOException {
+        var file = directory.resolve("board.bin");
+        MappedMatchStorage.write(new ConcurrentMatchStorage(), new TeamRegistry(), file);
+
+        var mapped = MappedMatchStorage.open(file);
+
+        assertEquals(0, mapped.size());
+        assertEquals(List.of(), mapped.getAll());
+    }
+
+    @Test
+    void writeOperationsThrowUnsupported() throws IOException {
+        var file = directory.resolve("board.bin");
+        MappedMatchStorage.write(new ConcurrentMatchStorage(), TEAMS, file);
+        var mapped = MappedMatchStorage.open(file);
+        var key = matchId(MEXICO, CANADA);
+
+        assertThrows(UnsupportedOperationException.class, () -> mapped.trySave(key, new Match(MEXICO, 0, CANADA, 0)));
+        assertThrows(UnsupportedOperationException.class, () -> mapped.update(key, 1, 0));
+        assertThrows(UnsupportedOperationException.class, () -> mapped.delete(key));
+    }
+
+    @Test
+    void openIfTruncatedOrNotSnapshotThrowIOException() throws IOException {
+        var teams = new TeamRegistry();
+        var storage = new ConcurrentMatchStorage();
+        storage.save(teams.matchId(MEXICO, CANADA), new Match(MEXICO, 2, CANADA, 1, START));
+        var file = directory.resolve("board.bin");
+        MappedMatchStorage.write(storage, teams, file);
+
+        var bytes = Files.readAllBytes(file);
+        var truncated = Files.write(directory.resolve("truncated.bin"), Arrays.copyOf(bytes, 40));
+        var other = Files.write(directory.resolve("other.bin"), new byte[64]);
+
+        assertThrows(IOException.class, () -> MappedMatchStorage.open(truncated));
+        assertThrows(IOException.class, () -> MappedMatchStorage.open(other));
+    }
+}
@@ -0,0 +1,134 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.BaseTest;
+import com.odds.scoreboard.domain.FinishedMatch;
+import com.odds.scoreboard.domain.Match;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MatchArchiveTest extends BaseTest {
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 4, 22, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private final Clock clock = mock(Clock.class);
+
+    @Test
+    void byTeamReturnMatchesOfTeamMostRecentFirst() {
+        var archive = new MatchArchive(clock(START));
+        archive.add(new Match(MEXICO, 1, CANADA, 0, START));
+        archive.add(new Match(SPAIN, 2, BRAZIL, 2, START));
+        archive.add(new Match(CANADA, 0, SPAIN, 3, START));
+
+        assertEquals(List.of(CANADA + " " + SPAIN, MEXICO + " " + CANADA), names(archive.byTeam(CANADA)));
+        assertEquals(List.of(CANADA + " " + SPAIN, SPAIN + " " + BRAZIL), names(archive.byTeam(SPAIN)));
+        assertEquals(List.of(), archive.byTeam(URUGUAY));
+    }
+
+    @Test
+    void byCompetitionReturnMatchesOfCompetitionMostRecentFirst() {
+        var archive = new MatchArchive(clock(START));
+        archive.add(new Match("World Cup", MEXICO, 1, CANADA, 0, START));
+        archive.add(new Match(SPAIN, 2, BRAZIL, 2, START));
+        archive.add(new Match("World Cup", GERMANY, 0, FRANCE, 3, START));
+
+        assertEquals(List.of(GERMANY + " " + FRANCE, MEXICO + " " + CANADA), names(archive.byCompetition("World Cup")));
+        assertEquals(List.of(SPAIN + " " + BRAZIL), names(archive.byCompetition(null)));
+        assertEquals(List.of(), archive.byCompetition("Copa America"));
+    }
+
+    @Test
+    void byDayReturnMatchesStartedThatDayInZoneOfClock() {
+        var archive = new MatchArchive(clock(START.plusDays(1)));
+        archive.add(new Match(MEXICO, 1, CANADA, 0, START));
+        archive.add(new Match(SPAIN, 2, BRAZIL, 2, START.withHour(23)));
+        archive.add(new Match(GERMANY, 0, FRANCE, 0, START.plusDays(1)));
+
+        assertEquals(List.of(SPAIN + " " + BRAZIL, MEXICO + " " + CANADA),
+                names(archive.byDay(LocalDate.of(2024, 4, 22))));
+        assertEquals(List.of(GERMANY + " " + FRANCE), names(archive.byDay(LocalDate.of(2024, 4, 23))));
+        assertEquals(List.of(), archive.byDay(LocalDate.of(2024, 4, 21)));
+    }
+
+    @Test
+    void addIfCapacityExceededEvictOldest() {
+        var archive = new MatchArchive(2, Duration.ofDays(1), clock(START));
+        archive.add(new Match(MEXICO, 1, CANADA, 0, START));
+        archive.add(new Match(SPAIN, 2, BRAZIL, 2, START));
+        archive.add(new Match(CANADA, 0, SPAIN, 3, START));
+
+        assertEquals(2, archive.size());
+        assertEquals(List.of(CANADA + " " + SPAIN), names(archive.byTeam(CANADA)));
+        assertEquals(List.of(), archive.byTeam(MEXICO));
+    }
+
+    @Test
+    void addIfManyPendingIndexInChunksAndKeepLatest() {
+        var archive = new MatchArchive(4, Duration.ofDays(1), clock(START));
+        for (int score = 0; score < 1000; score++) {
+            archive.add(new Match(MEXICO, score, CANADA, 0, START));
+        }
+
+        assertEquals(4, archive.size());
+        assertEquals(999, archive.byTeam(MEXICO).getFirst().homeTeamScore());
+        assertEquals(996, archive.byTeam(MEXICO).getLast().homeTeamScore());
+    }
+
+    @Test
+    void lookupIfRetentionElapsedEvictExpired() {
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        var archive = new MatchArchive(10, Duration.ofHours(3), clock);
+        when(clock.instant()).thenReturn(START.plusHours(2).toInstant());
+        archive.add(new Match(MEXICO, 1, CANADA, 0, START));
+        when(clock.instant()).thenReturn(START.plusHours(4).toInstant());
+        archive.add(new Match(SPAIN, 2, BRAZIL, 2, START.plusHours(2)));
+
+        when(clock.instant()).thenReturn(START.plusHours(6).toInstant());
+
+        assertEquals(List.of(SPAIN + " " + BRAZIL), names(archive.byDay(START.toLocalDate())));
+        assertEquals(List.of(), archive.byTeam(MEXICO));
+        assertEquals(1, archive.size());
+    }
+
+    @Test
+    void addIfMatchOfCompetitionRecordCompetition() {
+        var archive = new MatchArchive(clock(START.plusHours(2)));
+        archive.add(new Match("World Cup", MEXICO, 1, CANADA, 4, START));
+
+        assertEquals(List.of(new FinishedMatch(MEXICO, 1, CANADA, 4, START, START.plusHours(2), "World Cup")),
+                archive.byTeam(MEXICO));
+    }
+
+    @Test
+    void addRecordFinalScoreAndTimes() {
+        var archive = new MatchArchive(clock(START.plusHours(2)));
+        archive.add(new Match(MEXICO, 1, CANADA, 4, START));
+
+        assertEquals(List.of(new FinishedMatch(MEXICO, 1, CANADA, 4, START, START.plusHours(2))),
+                archive.byTeam(MEXICO));
+    }
+
+    @Test
+    void constructorIfInvalidArgumentsThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new MatchArchive(0, Duration.ofDays(1), clock));
+        assertThrows(IllegalArgumentException.class, () -> new MatchArchive(1, Duration.ZERO, clock));
+    }
+
+    private static Clock clock(OffsetDateTime now) {
+        return Clock.fixed(now.toInstant(), ZoneId.of("UTC"));
+    }
+
+    private static List<String> names(List<FinishedMatch> matches) {
+        return matches.stream().map(m -> m.homeTeamName() + " " + m.awayTeamName()).toList();
+    }
+}
@@ -0,0 +1,514 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.BaseTest;
+import com.odds.scoreboard.domain.BoardSnapshot;
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchId;
+import com.odds.scoreboard.domain.MatchSnapshot;
+import com.odds.scoreboard.domain.MatchView;
+import com.odds.scoreboard.infrastructure.exception.KeyExistsException;
+import com.odds.scoreboard.infrastructure.exception.KeyNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Conformance tests, which every {@code MatchStorage} implementation must pass.
+ * Test class of implementation extends this class and provides storage under test.
+ */
+abstract class MatchStorageContractTest extends BaseTest {
+
+    protected abstract MatchStorage createStorage(boolean snapshotsEnabled);
+
+    protected MatchStorage createStorage() {
+        return createStorage(false);
+    }
+
+    @Test
+    void getAllIfEmptyReturnEmptyList() {
+        var matchStorage = createStorage();
+        var matches = matchStorage.getAll();
+
+        assertNotNull(matches);
+        assertEquals(0, matches.size());
+    }
+
+    @Test
+    void getAllIfNotEmptyReturnAll() throws NoSuchFieldException, IllegalAccessException {
+        var key1 = matchId(MEXICO, CANADA);
+        var match1 = new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now());
+
+        var key2 = matchId(SPAIN, BRAZIL);
+        var match2 = new Match(SPAIN, 0, BRAZIL, 0, OffsetDateTime.now().minusMinutes(35));
+
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(key1, match1, key2, match2));
+
+        var matches = matchStorage.getAll();
+
+        assertNotNull(matches);
+        assertTrue(matches.containsAll(List.of(match1, match2)));
+    }
+
+    @Test
+    void getAllIfDiffTotalScoresReturnOrdered() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        var nowPlus10Minutes = now.plusMinutes(10);
+
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(
+                matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 5, now),
+                matchId(SPAIN, BRAZIL), new Match(SPAIN, 10, BRAZIL, 2, nowPlus10Minutes),
+                matchId(GERMANY, FRANCE), new Match(GERMANY, 2, FRANCE, 2, nowPlus10Minutes)));
+
+        var matches = matchStorage.getAll();
+
+        var expectedMatches = List.of(
+                new Match(SPAIN, 10, BRAZIL, 2, nowPlus10Minutes),
+                new Match(MEXICO, 0, CANADA, 5, now),
+                new Match(GERMANY, 2, FRANCE, 2, nowPlus10Minutes));
+        assertEquals(expectedMatches, matches);
+    }
+
+    @Test
+    void getAllIfSomeTotalScoresEqualReturnOrdered() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        var nowMinus10Minutes = now.minusMinutes(10);
+        var nowMinus20Minutes = now.minusMinutes(20);
+        var nowMinus30Minutes = now.minusMinutes(30);
+        var nowMinus40Minutes = now.minusMinutes(40);
+
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(
+                matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 5, nowMinus40Minutes),
+                matchId(SPAIN, BRAZIL), new Match(SPAIN, 10, BRAZIL, 2, nowMinus30Minutes),
+                matchId(GERMANY, FRANCE), new Match(GERMANY, 2, FRANCE, 2, nowMinus20Minutes),
+                matchId(URUGUAY, ITALY), new Match(URUGUAY, 6, ITALY, 6, nowMinus10Minutes),
+                matchId(ARGENTINA, AUSTRALIA), new Match(ARGENTINA, 3, AUSTRALIA, 1, now)));
+
+        var matches = matchStorage.getAll();
+
+        var expectedMatches = List.of(
+                new Match(URUGUAY, 6, ITALY, 6, nowMinus10Minutes),
+                new Match(SPAIN, 10, BRAZIL, 2, nowMinus30Minutes),
+                new Match(MEXICO, 0, CANADA, 5, nowMinus40Minutes),
+                new Match(ARGENTINA, 3, AUSTRALIA, 1, now),
+                new Match(GERMANY, 2, FRANCE, 2, nowMinus20Minutes));
+        assertEquals(expectedMatches, matches);
+    }
+
+    @Test
+    void getAllIfScoreUpdatedReturnReordered() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        var nowMinus10Minutes = now.minusMinutes(10);
+
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(
+                matchId(MEXICO, CANADA), new Match(MEXICO, 1, CANADA, 0, nowMinus10Minutes),
+                matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, now)));
+
+        matchStorage.update(matchId(SPAIN, BRAZIL), 2, 0);
+
+        var expectedMatches = List.of(
+                new Match(SPAIN, 2, BRAZIL, 0, now),
+                new Match(MEXICO, 1, CANADA, 0, nowMinus10Minutes));
+        assertEquals(expectedMatches, matchStorage.getAll());
+    }
+
+    @Test
+    void getAllIfMatchDeletedReturnRemaining() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(
+                matchId(MEXICO, CANADA), new Match(MEXICO, 1, CANADA, 0, now),
+                matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, now)));
+
+        matchStorage.delete(matchId(MEXICO, CANADA));
+
+        assertEquals(List.of(new Match(SPAIN, 0, BRAZIL, 0, now)), matchStorage.getAll());
+    }
+
+    @Test
+    void getRangeIfWithinStorageReturnPage() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(
+                matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 5, now),
+                matchId(SPAIN, BRAZIL), new Match(SPAIN, 10, BRAZIL, 2, now),
+                matchId(GERMANY, FRANCE), new Match(GERMANY, 2, FRANCE, 2, now),
+                matchId(URUGUAY, ITALY), new Match(URUGUAY, 0, ITALY, 0, now)));
+
+        assertEquals(List.of(
+                        new Match(SPAIN, 10, BRAZIL, 2, now),
+                        new Match(MEXICO, 0, CANADA, 5, now)),
+                matchStorage.getRange(0, 2));
+        assertEquals(List.of(
+                        new Match(MEXICO, 0, CANADA, 5, now),
+                        new Match(GERMANY, 2, FRANCE, 2, now)),
+                matchStorage.getRange(1, 2));
+        assertEquals(List.of(new Match(URUGUAY, 0, ITALY, 0, now)), matchStorage.getRange(3, 10));
+    }
+
+    @Test
+    void getRangeIfOutsideStorageReturnEmptyList() {
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now())));
+
+        assertEquals(List.of(), matchStorage.getRange(1, 10));
+        assertEquals(List.of(), matchStorage.getRange(0, 0));
+    }
+
+    @Test
+    void copyRangeRefillViewsWithPage() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        var spain = new Match("World Cup", SPAIN, 10, BRAZIL, 2, now);
+        var mexico = new Match(MEXICO, 0, CANADA, 5, now);
+        var germany = new Match(GERMANY, 2, FRANCE, 2, now);
+
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(
+                matchId(MEXICO, CANADA), mexico,
+                matchId(SPAIN, BRAZIL), spain,
+                matchId(GERMANY, FRANCE), germany));
+        var views = MatchView.newArray(2);
+
+        assertEquals(2, matchStorage.copyRange(0, views));
+        assertView(spain, views[0]);
+        assertView(mexico, views[1]);
+
+        assertEquals(1, matchStorage.copyRange(2, views));
+        assertView(germany, views[0]);
+
+        assertEquals(0, matchStorage.copyRange(3, views));
+    }
+
+    @Test
+    void snapshotIfNotEnabledThrowException() {
+        var matchStorage = createStorage();
+
+        assertThrows(IllegalStateException.class, matchStorage::snapshot);
+    }
+
+    @Test
+    void snapshotIfEmptyReturnEmptyVersionZero() {
+        var matchStorage = createStorage(true);
+        var snapshot = matchStorage.snapshot();
+
+        assertEquals(0, snapshot.version());
+        assertEquals(0, snapshot.size());
+    }
+
+    @Test
+    void snapshotIfWritesPerformedReturnOrderedAndVersioned() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        var nowMinus10Minutes = now.minusMinutes(10);
+
+        var matchStorage = createStorage(true);
+        matchStorage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, nowMinus10Minutes));
+        matchStorage.save(matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, now));
+        matchStorage.save(matchId(GERMANY, FRANCE), new Match(GERMANY, 0, FRANCE, 0, now));
+        matchStorage.update(matchId(MEXICO, CANADA), 1, 0);
+        matchStorage.delete(matchId(GERMANY, FRANCE));
+
+        var snapshot = matchStorage.snapshot();
+
+        var expectedMatches = List.of(
+                new MatchSnapshot(MEXICO, 1, CANADA, 0, nowMinus10Minutes),
+                new MatchSnapshot(SPAIN, 0, BRAZIL, 0, now));
+        assertEquals(5, snapshot.version());
+        assertEquals(expectedMatches, snapshot.matches());
+    }
+
+    @Test
+    void snapshotIfFailedWriteVersionNotChanged() {
+        var matchStorage = createStorage(true);
+        matchStorage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now()));
+
+        assertThrows(KeyExistsException.class, () -> matchStorage.save(matchId(MEXICO, CANADA),
+                new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now())));
+        assertThrows(KeyNotFoundException.class, () -> matchStorage.delete(matchId(SPAIN, BRAZIL)));
+
+        assertEquals(1, matchStorage.snapshot().version());
+    }
+
+    @Test
+    void snapshotIfLaterWritesPerformedSnapshotNotChanged() {
+        var startTime = OffsetDateTime.now();
+
+        var matchStorage = createStorage(true);
+        matchStorage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, startTime));
+        var snapshot = matchStorage.snapshot();
+
+        matchStorage.update(matchId(MEXICO, CANADA), 3, 0);
+        matchStorage.save(matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, startTime));
+
+        assertEquals(1, snapshot.version());
+        assertEquals(List.of(new MatchSnapshot(MEXICO, 0, CANADA, 0, startTime)), snapshot.matches());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.matches().clear());
+    }
+
+    @Test
+    void updateIfDeletedConcurrentlyNeverReinsert() throws InterruptedException {
+        var key = matchId(MEXICO, CANADA);
+        var matchStorage = createStorage();
+        var running = new AtomicBoolean(true);
+
+        var updater = new Thread(() -> {
+            while (running.get()) {
+                try {
+                    matchStorage.update(key, 1, 1);
+                } catch (KeyNotFoundException e) {
+                    // expected, when match is deleted
+                }
+            }
+        });
+        updater.start();
+
+        for (int i = 0; i < 10_000; i++) {
+            matchStorage.save(key, new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now()));
+            matchStorage.delete(key);
+        }
+        running.set(false);
+        updater.join();
+
+        assertEquals(0, matchStorage.size());
+        assertEquals(List.of(), matchStorage.getAll());
+    }
+
+    @Test
+    void batchIfSomeWritesFailApplyOthersAndPublishAllAtOnce() throws InterruptedException {
+        var startTime = OffsetDateTime.now();
+        var matchStorage = createStorage(true);
+        matchStorage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, startTime));
+        var before = matchStorage.snapshot();
+
+        var insideBatch = new CountDownLatch(1);
+        var readDuringBatch = new AtomicReference<BoardSnapshot>();
+        var reader = new Thread(() -> {
+            awaitQuietly(insideBatch);
+            readDuringBatch.set(matchStorage.snapshot());
+        });
+        reader.start();
+
+        matchStorage.batch(() -> {
+            matchStorage.update(matchId(MEXICO, CANADA), 2, 0);
+            assertThrows(KeyExistsException.class,
+                    () -> matchStorage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, startTime)));
+            matchStorage.save(matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, startTime));
+            insideBatch.countDown();
+            // give reader a chance to read in the middle of the batch
+            sleepQuietly();
+        });
+        reader.join();
+
+        var expectedMatches = List.of(
+                new MatchSnapshot(MEXICO, 2, CANADA, 0, startTime),
+                new MatchSnapshot(SPAIN, 0, BRAZIL, 0, startTime));
+        assertEquals(expectedMatches, matchStorage.snapshot().matches());
+        var seen = readDuringBatch.get().matches();
+        assertTrue(seen.equals(before.matches()) || seen.equals(expectedMatches));
+    }
+
+    @Test
+    void tryWritesReportResultWithoutException() {
+        var startTime = OffsetDateTime.now();
+        var matchStorage = createStorage();
+
+        assertTrue(matchStorage.trySave(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, startTime)));
+        assertFalse(matchStorage.trySave(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, startTime)));
+        assertTrue(matchStorage.tryUpdate(matchId(MEXICO, CANADA), 1, 0));
+        assertFalse(matchStorage.tryUpdate(matchId(SPAIN, BRAZIL), 1, 0));
+        assertEquals(List.of(new Match(MEXICO, 1, CANADA, 0, startTime)), matchStorage.getAll());
+
+        assertFalse(matchStorage.tryDelete(matchId(SPAIN, BRAZIL)));
+        assertTrue(matchStorage.tryDelete(matchId(MEXICO, CANADA)));
+        assertFalse(matchStorage.tryDelete(matchId(MEXICO, CANADA)));
+        assertEquals(0, matchStorage.size());
+    }
+
+    @Test
+    void tryRemoveReturnLastStateOrNullIfNotFound() {
+        var startTime = OffsetDateTime.now(ZoneOffset.UTC);
+        var matchStorage = createStorage(true);
+        matchStorage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, startTime));
+        matchStorage.update(matchId(MEXICO, CANADA), 2, 1);
+
+        assertNull(matchStorage.tryRemove(matchId(SPAIN, BRAZIL)));
+        assertEquals(new Match(MEXICO, 2, CANADA, 1, startTime), matchStorage.tryRemove(matchId(MEXICO, CANADA)));
+        assertNull(matchStorage.tryRemove(matchId(MEXICO, CANADA)));
+        assertEquals(0, matchStorage.size());
+        assertEquals(3, matchStorage.snapshot().version());
+    }
+
+    @Test
+    void throwingWritesThrowStacklessExceptions() {
+        var matchStorage = createStorage();
+        matchStorage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now()));
+
+        var exists = assertThrows(KeyExistsException.class,
+                () -> matchStorage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now())));
+        var notFound = assertThrows(KeyNotFoundException.class, () -> matchStorage.delete(matchId(SPAIN, BRAZIL)));
+
+        assertEquals(0, exists.getStackTrace().length);
+        assertEquals(0, notFound.getStackTrace().length);
+    }
+
+    @Test
+    void getReturnCopyOrNullIfNotFound() {
+        var key = matchId(MEXICO, CANADA);
+        var match = new Match(MEXICO, 1, CANADA, 2, OffsetDateTime.now(ZoneOffset.UTC));
+
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(key, match));
+
+        var copy = matchStorage.get(key);
+        copy.setHomeTeamScore(5);
+
+        assertEquals(match, matchStorage.get(key));
+        assertNull(matchStorage.get(matchId(SPAIN, BRAZIL)));
+    }
+
+    @Test
+    void getByTeamReturnMatchOfHomeOrAwayTeamOrNull() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(
+                matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 5, now),
+                matchId(SPAIN, BRAZIL), new Match(SPAIN, 10, BRAZIL, 2, now)));
+
+        assertEquals(new Match(MEXICO, 0, CANADA, 5, now), matchStorage.getByTeam(MEXICO));
+        assertEquals(new Match(SPAIN, 10, BRAZIL, 2, now), matchStorage.getByTeam(BRAZIL));
+        assertNull(matchStorage.getByTeam(ITALY));
+
+        matchStorage.delete(matchId(SPAIN, BRAZIL));
+
+        assertNull(matchStorage.getByTeam(BRAZIL));
+    }
+
+    @Test
+    void getByCompetitionReturnOrderedMatchesOfCompetition() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(
+                matchId(MEXICO, CANADA), new Match("World Cup", MEXICO, 0, CANADA, 5, now),
+                matchId(SPAIN, BRAZIL), new Match("Friendly", SPAIN, 10, BRAZIL, 2, now),
+                matchId(GERMANY, FRANCE), new Match("World Cup", GERMANY, 4, FRANCE, 2, now),
+                matchId(URUGUAY, ITALY), new Match(URUGUAY, 0, ITALY, 0, now)));
+
+        assertEquals(List.of(
+                new Match("World Cup", GERMANY, 4, FRANCE, 2, now),
+                new Match("World Cup", MEXICO, 0, CANADA, 5, now)), matchStorage.getByCompetition("World Cup"));
+        assertEquals(List.of(new Match(URUGUAY, 0, ITALY, 0, now)), matchStorage.getByCompetition(null));
+        assertEquals(List.of(), matchStorage.getByCompetition("Olympics"));
+        assertEquals(4, matchStorage.getAll().size());
+    }
+
+    @Test
+    void rankOfReturnPositionOrMinusOneIfNotFound() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(
+                matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 5, now),
+                matchId(SPAIN, BRAZIL), new Match(SPAIN, 10, BRAZIL, 2, now),
+                matchId(GERMANY, FRANCE), new Match(GERMANY, 2, FRANCE, 2, now)));
+
+        assertEquals(0, matchStorage.rankOf(matchId(SPAIN, BRAZIL)));
+        assertEquals(1, matchStorage.rankOf(matchId(MEXICO, CANADA)));
+        assertEquals(2, matchStorage.rankOf(matchId(GERMANY, FRANCE)));
+        assertEquals(-1, matchStorage.rankOf(matchId(URUGUAY, ITALY)));
+
+        matchStorage.update(matchId(GERMANY, FRANCE), 20, 2);
+
+        assertEquals(0, matchStorage.rankOf(matchId(GERMANY, FRANCE)));
+        assertEquals(1, matchStorage.rankOf(matchId(SPAIN, BRAZIL)));
+    }
+
+    @Test
+    void countBeforeReturnNumberOfMatchesOrderedBeforeMatchNotInStorage() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(
+                matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 5, now),
+                matchId(SPAIN, BRAZIL), new Match(SPAIN, 10, BRAZIL, 2, now),
+                matchId(GERMANY, FRANCE), new Match(GERMANY, 2, FRANCE, 2, now)));
+
+        assertEquals(0, matchStorage.countBefore(new Match(URUGUAY, 13, ITALY, 0, now), false));
+        assertEquals(1, matchStorage.countBefore(new Match(URUGUAY, 5, ITALY, 0, now), false));
+        assertEquals(2, matchStorage.countBefore(new Match(URUGUAY, 5, ITALY, 0, now), true));
+        assertEquals(2, matchStorage.countBefore(new Match(URUGUAY, 5, ITALY, 0, now.minusSeconds(1)), true));
+        assertEquals(3, matchStorage.countBefore(new Match(URUGUAY, 4, ITALY, 0, now.minusSeconds(1)), false));
+    }
+
+    @Test
+    void batchIfNestedApplyAllWrites() {
+        var matchStorage = createStorage(true);
+
+        matchStorage.batch(() -> {
+            matchStorage.batch(() -> matchStorage.trySave(matchId(MEXICO, CANADA),
+                    new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now())));
+            matchStorage.trySave(matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, OffsetDateTime.now()));
+        });
+
+        assertEquals(2, matchStorage.snapshot().size());
+    }
+
+    @Test
+    void sizeReturnNumberOfMatches() {
+        var matchStorage = createStorage();
+        initStorage(matchStorage, Map.of(
+                matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, OffsetDateTime.now()),
+                matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, OffsetDateTime.now())));
+
+        matchStorage.delete(matchId(MEXICO, CANADA));
+
+        assertEquals(1, matchStorage.size());
+    }
+
+    protected void initStorage(MatchStorage matchStorage, Map<MatchId, Match> initialState) {
+        initialState.forEach(matchStorage::save);
+    }
+
+    private static void assertView(Match expected, MatchView actual) {
+        assertEquals(expected.getCompetition(), actual.getCompetition());
+        assertEquals(expected.getHomeTeamName(), actual.getHomeTeamName());
+        assertEquals(expected.getHomeTeamScore(), actual.getHomeTeamScore());
+        assertEquals(expected.getAwayTeamName(), actual.getAwayTeamName());
+        assertEquals(expected.getAwayTeamScore(), actual.getAwayTeamScore());
+        assertEquals(expected.getStartEpochNanos(), actual.getStartEpochNanos());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.BaseTest;
+import com.odds.scoreboard.domain.MatchSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RankedTreeTest extends BaseTest {
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 4, 22, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    void emptyTreeHasNoElements() {
+        var tree = RankedTree.EMPTY;
+
+        assertEquals(0, tree.size());
+        assertTrue(tree.asList().isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(0));
+    }
+
+    @Test
+    void putKeepsOrderAndOldVersionUnchanged() {
+        var first = rank(1, 0, 1);
+        var second = rank(5, 0, 2);
+
+        var v1 = RankedTree.EMPTY.put(first, snapshot(first));
+        var v2 = v1.put(second, snapshot(second));
+
+        assertEquals(List.of(snapshot(first)), v1.asList());
+        assertEquals(List.of(snapshot(second), snapshot(first)), v2.asList());
+        assertEquals(0, v2.indexOf(second));
+        assertEquals(1, v2.indexOf(first));
+    }
+
+    @Test
+    void removeIfRankNotPresentReturnSameTree() {
+        var first = rank(1, 0, 1);
+        var tree = RankedTree.EMPTY.put(first, snapshot(first));
+
+        assertSame(tree, tree.remove(rank(2, 0, 1)));
+        assertEquals(-1, tree.indexOf(rank(2, 0, 1)));
+    }
+
+    @Test
+    void randomOperationsMatchSortedMap() {
+        var random = new Random(42);
+        var expected = new TreeMap<MatchRank, MatchSnapshot>();
+        var versions = new ArrayList<RankedTree>();
+        var expectedVersions = new ArrayList<List<MatchSnapshot>>();
+        var tree = RankedTree.EMPTY;
+
+        for (int i = 0; i < 2000; i++) {
+            var rank = rank(random.nextInt(20), random.nextInt(10), random.nextInt(50));
+            if (expected.containsKey(rank)) {
+                expected.remove(rank);
+                tree = tree.remove(rank);
+            } else {
+                expected.put(rank, snapshot(rank));
+                tree = tree.put(rank, snapshot(rank));
+            }
+
+            if (i % 100 == 0) {
+                versions.add(tree);
+                expectedVersions.add(List.copyOf(expected.values()));
+            }
+        }
+
+        var expectedList = List.copyOf(expected.values());
+        assertEquals(expectedList, tree.asList());
+        for (int i = 0; i < expectedList.size(); i++) {
+            assertEquals(expectedList.get(i), tree.get(i));
+        }
+        int index = 0;
+        for (var rank : expected.keySet()) {
+            assertEquals(index++, tree.indexOf(rank));
+        }
+
+        // structural sharing must not affect already published versions
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).asList());
+        }
+    }
+
+    private static MatchRank rank(int totalScore, int minutes, long id) {
+        return new MatchRank(totalScore, START.plusMinutes(minutes), id);
+    }
+
+    private static MatchSnapshot snapshot(MatchRank rank) {
+        return new MatchSnapshot("home" + rank.id(), rank.totalScore(), "away" + rank.id(), 0, rank.startTime());
+    }
+}
@@ -0,0 +1,115 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.ScoreSample;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScoreHistoryMatchStorageTest extends MatchStorageContractTest {
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 4, 22, 12, 0, 0, 0, ZoneOffset.UTC);
+    private static final long START_MILLIS = START.toInstant().toEpochMilli();
+
+    private final Clock clock = mock(Clock.class);
+
+    @Override
+    protected MatchStorage createStorage(boolean snapshotsEnabled) {
+        return new ScoreHistoryMatchStorage(new ConcurrentMatchStorage(snapshotsEnabled), Clock.systemUTC());
+    }
+
+    @Test
+    void scoreAtReturnScoreInEffectAtThatTime() {
+        var storage = new ScoreHistoryMatchStorage(new SlabMatchStorage(), clock);
+        var key = matchId(MEXICO, CANADA);
+        storage.save(key, new Match(MEXICO, 0, CANADA, 0, START));
+        updateAt(storage, minutes(10), 1, 0);
+        updateAt(storage, minutes(25), 1, 1);
+
+        assertNull(storage.scoreAt(key, START.toInstant().minusSeconds(1)));
+        assertEquals(new ScoreSample(START.toInstant(), 0, 0), storage.scoreAt(key, START.toInstant()));
+        assertEquals(new ScoreSample(Instant.ofEpochMilli(minutes(10)), 1, 0),
+                storage.scoreAt(key, Instant.ofEpochMilli(minutes(20))));
+        assertEquals(new ScoreSample(Instant.ofEpochMilli(minutes(25)), 1, 1),
+                storage.scoreAt(key, Instant.ofEpochMilli(minutes(90))));
+        assertNull(storage.scoreAt(matchId(SPAIN, BRAZIL), START.toInstant()));
+    }
+
+    @Test
+    void goalsInLastCountChangeOfTotalScore() {
+        var storage = new ScoreHistoryMatchStorage(new ConcurrentMatchStorage(), clock);
+        var key = matchId(MEXICO, CANADA);
+        storage.save(key, new Match(MEXICO, 0, CANADA, 0, START));
+        updateAt(storage, minutes(10), 1, 0);
+        updateAt(storage, minutes(30), 2, 0);
+        updateAt(storage, minutes(35), 2, 1);
+
+        when(clock.millis()).thenReturn(minutes(40));
+        assertEquals(2, storage.goalsInLast(key, Duration.ofMinutes(15)));
+        assertEquals(3, storage.goalsInLast(key, Duration.ofMinutes(120)));
+        assertEquals(0, storage.goalsInLast(key, Duration.ofMinutes(1)));
+        assertEquals(-1, storage.goalsInLast(matchId(SPAIN, BRAZIL), Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void historyIfRetentionExceededKeepLatestChanges() {
+        var storage = new ScoreHistoryMatchStorage(new ConcurrentMatchStorage(), clock, 2);
+        var key = matchId(MEXICO, CANADA);
+        storage.save(key, new Match(MEXICO, 0, CANADA, 0, START));
+        updateAt(storage, minutes(10), 1, 0);
+        updateAt(storage, minutes(20), 2, 0);
+        updateAt(storage, minutes(30), 2, 1);
+
+        assertEquals(List.of(
+                new ScoreSample(Instant.ofEpochMilli(minutes(10)), 1, 0),
+                new ScoreSample(Instant.ofEpochMilli(minutes(20)), 2, 0),
+                new ScoreSample(Instant.ofEpochMilli(minutes(30)), 2, 1)), storage.history(key));
+        assertNull(storage.scoreAt(key, Instant.ofEpochMilli(minutes(5))));
+    }
+
+    @Test
+    void historyIfScoreCorrectedOrUnchangedRecordOnlyChanges() {
+        var storage = new ScoreHistoryMatchStorage(new ConcurrentMatchStorage(), clock);
+        var key = matchId(MEXICO, CANADA);
+        storage.save(key, new Match(MEXICO, 0, CANADA, 0, START));
+        updateAt(storage, minutes(10), 40_000, 0);
+        updateAt(storage, minutes(11), 1, 0);
+        updateAt(storage, minutes(12), 1, 0);
+
+        var history = storage.history(key);
+        assertEquals(new ScoreSample(Instant.ofEpochMilli(minutes(10)), 40_000, 0), history.get(2));
+        assertEquals(List.of(new ScoreSample(Instant.ofEpochMilli(minutes(11)), 1, 0)),
+                history.subList(history.size() - 1, history.size()));
+        assertEquals(new Match(MEXICO, 1, CANADA, 0, START), storage.get(key));
+    }
+
+    @Test
+    void historyIfMatchFinishedDropIt() {
+        var storage = new ScoreHistoryMatchStorage(new ConcurrentMatchStorage(), clock);
+        var key = matchId(MEXICO, CANADA);
+        storage.save(key, new Match(MEXICO, 0, CANADA, 0, START));
+        updateAt(storage, minutes(10), 1, 0);
+        storage.delete(key);
+        storage.save(key, new Match(MEXICO, 0, CANADA, 0, START.plusHours(2)));
+
+        assertEquals(List.of(new ScoreSample(START.plusHours(2).toInstant(), 0, 0)), storage.history(key));
+    }
+
+    private void updateAt(ScoreHistoryMatchStorage storage, long millis, int homeScore, int awayScore) {
+        when(clock.millis()).thenReturn(millis);
+        storage.update(matchId(MEXICO, CANADA), homeScore, awayScore);
+    }
+
+    private static long minutes(int minutes) {
+        return START_MILLIS + minutes * 60_000L;
+    }
+}
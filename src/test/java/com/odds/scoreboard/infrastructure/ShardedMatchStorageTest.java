@@ -0,0 +1,62 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.TeamRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardedMatchStorageTest extends MatchStorageContractTest {
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 4, 22, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Override
+    protected MatchStorage createStorage(boolean snapshotsEnabled) {
+        return new ShardedMatchStorage(4, SlabMatchStorage::new, snapshotsEnabled);
+    }
+
+    @Test
+    void createIfShardsNotPowerOfTwoThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedMatchStorage(3));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedMatchStorage(0));
+    }
+
+    @Test
+    void randomOperationsMergeToSameOrderAsDefaultStorage() {
+        var teams = new TeamRegistry();
+        var random = new Random(11);
+        var expected = new ConcurrentMatchStorage();
+        var actual = new ShardedMatchStorage(8, ConcurrentMatchStorage::new, false);
+
+        for (int i = 0; i < 5000; i++) {
+            var home = "home" + random.nextInt(30);
+            var away = "away" + random.nextInt(30);
+            var key = teams.matchId(home, away);
+            // distinct start times, so there are no ties broken by shard
+            var startTime = START.plusSeconds(i);
+
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(expected.trySave(key, new Match(home, 0, away, 0, startTime)),
+                        actual.trySave(key, new Match(home, 0, away, 0, startTime)));
+                case 1 -> {
+                    int homeScore = random.nextInt(5), awayScore = random.nextInt(5);
+                    assertEquals(expected.tryUpdate(key, homeScore, awayScore),
+                            actual.tryUpdate(key, homeScore, awayScore));
+                }
+                default -> assertEquals(expected.tryDelete(key), actual.tryDelete(key));
+            }
+        }
+
+        var all = expected.getAll();
+        assertEquals(all, actual.getAll());
+        assertEquals(expected.getRange(10, 20), actual.getRange(10, 20));
+        for (int rank = 0; rank < all.size(); rank++) {
+            var match = all.get(rank);
+            assertEquals(rank, actual.rankOf(teams.matchId(match.getHomeTeamName(), match.getAwayTeamName())));
+        }
+    }
+}
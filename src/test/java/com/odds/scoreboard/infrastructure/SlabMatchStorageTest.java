@@ -0,0 +1,98 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.domain.MatchSnapshot;
+import com.odds.scoreboard.domain.TeamRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SlabMatchStorageTest extends MatchStorageContractTest {
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 4, 22, 12, 0, 0, 123, ZoneOffset.ofHours(2));
+
+    @Override
+    protected MatchStorage createStorage(boolean snapshotsEnabled) {
+        return new SlabMatchStorage(snapshotsEnabled);
+    }
+
+    @Test
+    void saveUpdateDeleteReturnOrdered() {
+        var matchStorage = new SlabMatchStorage();
+        matchStorage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, START));
+        matchStorage.save(matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, START.plusMinutes(10)));
+        matchStorage.save(matchId(GERMANY, FRANCE), new Match(GERMANY, 0, FRANCE, 0, START.plusMinutes(20)));
+
+        matchStorage.update(matchId(MEXICO, CANADA), 1, 0);
+        matchStorage.delete(matchId(GERMANY, FRANCE));
+
+        var expectedMatches = List.of(
+                new Match(MEXICO, 1, CANADA, 0, START),
+                new Match(SPAIN, 0, BRAZIL, 0, START.plusMinutes(10)));
+        assertEquals(expectedMatches, matchStorage.getAll());
+        assertEquals(expectedMatches.subList(1, 2), matchStorage.getRange(1, 5));
+    }
+
+    @Test
+    void snapshotIfNoWritesSinceLastReadReturnSameSnapshot() {
+        var matchStorage = new SlabMatchStorage(true);
+        matchStorage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, START));
+
+        var snapshot = matchStorage.snapshot();
+        assertSame(snapshot, matchStorage.snapshot());
+        assertEquals(1, snapshot.version());
+        assertEquals(List.of(new MatchSnapshot(MEXICO, 0, CANADA, 0, START)), snapshot.matches());
+
+        matchStorage.update(matchId(MEXICO, CANADA), 1, 0);
+        assertEquals(2, matchStorage.snapshot().version());
+        assertEquals(List.of(new MatchSnapshot(MEXICO, 0, CANADA, 0, START)), snapshot.matches());
+    }
+
+    @Test
+    void randomOperationsMatchDefaultStorage() {
+        var teams = new TeamRegistry();
+        var random = new Random(7);
+        var expected = new ConcurrentMatchStorage();
+        var actual = new SlabMatchStorage();
+
+        for (int i = 0; i < 5000; i++) {
+            var home = "home" + random.nextInt(30);
+            var away = "away" + random.nextInt(30);
+            var key = teams.matchId(home, away);
+            var startTime = START.plusSeconds(random.nextInt(100));
+
+            switch (random.nextInt(3)) {
+                case 0 -> apply(() -> expected.save(key, new Match(home, 0, away, 0, startTime)),
+                        () -> actual.save(key, new Match(home, 0, away, 0, startTime)));
+                case 1 -> {
+                    int homeScore = random.nextInt(5), awayScore = random.nextInt(5);
+                    apply(() -> expected.update(key, homeScore, awayScore), () -> actual.update(key, homeScore, awayScore));
+                }
+                default -> apply(() -> expected.delete(key), () -> actual.delete(key));
+            }
+        }
+
+        assertEquals(expected.getAll(), actual.getAll());
+    }
+
+    private static void apply(Runnable expected, Runnable actual) {
+        Class<?> expectedException = null;
+        try {
+            expected.run();
+        } catch (RuntimeException e) {
+            expectedException = e.getClass();
+        }
+
+        if (expectedException == null) {
+            actual.run();
+        } else {
+            assertThrows(expectedException.asSubclass(Throwable.class), actual::run);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.odds.scoreboard.infrastructure;
+
+import com.odds.scoreboard.domain.Match;
+import com.odds.scoreboard.infrastructure.exception.KeyExistsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TeamIndexedMatchStorageTest extends MatchStorageContractTest {
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 4, 22, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Override
+    protected MatchStorage createStorage(boolean snapshotsEnabled) {
+        return new TeamIndexedMatchStorage(new ConcurrentMatchStorage(snapshotsEnabled));
+    }
+
+    @Test
+    void saveIfTeamPlaysOtherMatchRejectAndKeepIndex() {
+        var storage = new TeamIndexedMatchStorage(new SlabMatchStorage());
+        storage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 1, CANADA, 0, START));
+
+        assertFalse(storage.trySave(matchId(SPAIN, MEXICO), new Match(SPAIN, 0, MEXICO, 0, START)));
+        assertThrows(KeyExistsException.class,
+                () -> storage.save(matchId(CANADA, BRAZIL), new Match(CANADA, 0, BRAZIL, 0, START)));
+
+        assertEquals(1, storage.size());
+        assertEquals(new Match(MEXICO, 1, CANADA, 0, START), storage.getByTeam(CANADA));
+        // rejected match released its other team
+        assertNull(storage.getByTeam(SPAIN));
+        assertTrue(storage.trySave(matchId(SPAIN, BRAZIL), new Match(SPAIN, 0, BRAZIL, 0, START)));
+    }
+
+    @Test
+    void saveIfTeamFinishedItsMatchAccept() {
+        var storage = new TeamIndexedMatchStorage(new ConcurrentMatchStorage());
+        storage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 1, CANADA, 0, START));
+        storage.delete(matchId(MEXICO, CANADA));
+
+        assertTrue(storage.trySave(matchId(CANADA, MEXICO), new Match(CANADA, 0, MEXICO, 0, START)));
+        assertEquals(new Match(CANADA, 0, MEXICO, 0, START), storage.getByTeam(MEXICO));
+    }
+
+    @Test
+    void getByTeamIfScoreUpdatedReturnLatestScore() {
+        var storage = new TeamIndexedMatchStorage(new ConcurrentMatchStorage());
+        storage.save(matchId(MEXICO, CANADA), new Match(MEXICO, 0, CANADA, 0, START));
+        storage.update(matchId(MEXICO, CANADA), 2, 3);
+
+        assertEquals(new Match(MEXICO, 2, CANADA, 3, START), storage.getByTeam(MEXICO));
+    }
+
+    @Test
+    void saveIfSameTeamStartedConcurrentlyAcceptExactlyOne() throws InterruptedException {
+        var storage = new TeamIndexedMatchStorage(new ConcurrentMatchStorage());
+        var opponents = List.of(CANADA, SPAIN, BRAZIL, GERMANY, FRANCE, URUGUAY, ITALY, ARGENTINA);
+        var start = new CountDownLatch(1);
+        var saved = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (String opponent : opponents) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                awaitQuietly(start);
+                // the contested team plays at home in some matches and away in others
+                boolean home = opponent.length() % 2 == 0;
+                var match = home
+                        ? new Match(MEXICO, 0, opponent, 0, START) : new Match(opponent, 0, MEXICO, 0, START);
+                var key = home ? matchId(MEXICO, opponent) : matchId(opponent, MEXICO);
+                if (storage.trySave(key, match)) {
+                    saved.incrementAndGet();
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, saved.get());
+        assertEquals(1, storage.size());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.odds.scoreboard.metrics;
+
+import com.odds.scoreboard.BaseTest;
+import com.odds.scoreboard.ScoreBoard;
+import com.odds.scoreboard.infrastructure.ConcurrentMatchStorage;
+import com.odds.scoreboard.infrastructure.exception.KeyNotFoundException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlightRecorderEventsTest extends BaseTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-04-22T12:00:00Z"), ZoneOffset.UTC);
+    private static final String STARTED = "com.odds.scoreboard.MatchStarted";
+    private static final String UPDATED = "com.odds.scoreboard.ScoreUpdated";
+    private static final String FINISHED = "com.odds.scoreboard.MatchFinished";
+    private static final String SUMMARY = "com.odds.scoreboard.SummaryComputed";
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void operationsIfEventsEnabledRecordEvents() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            for (String event : List.of(STARTED, UPDATED, FINISHED, SUMMARY)) {
+                recording.enable(event).withoutThreshold();
+            }
+            recording.start();
+
+            var board = new ScoreBoard(new ConcurrentMatchStorage(), CLOCK);
+            board.startMatch("World Cup", MEXICO, CANADA);
+            board.tryStartMatch(SPAIN, BRAZIL);
+            board.updateScore(MEXICO, 1, CANADA, 0);
+            assertThrows(KeyNotFoundException.class, () -> board.finishMatch(GERMANY, FRANCE));
+            board.tryFinishMatch(SPAIN, BRAZIL);
+            board.topMatches(10);
+
+            recording.stop();
+            events = dump(recording);
+        }
+
+        List<RecordedEvent> started = eventsOf(events, STARTED);
+        assertEquals(2, started.size());
+        assertEquals("World Cup", started.getFirst().getString("competition"));
+        assertEquals(MEXICO, started.getFirst().getString("homeTeam"));
+        assertEquals("OK", started.getFirst().getString("status"));
+
+        RecordedEvent updated = eventsOf(events, UPDATED).getFirst();
+        assertEquals(1, updated.getInt("homeTeamScore"));
+        assertEquals(0, updated.getInt("awayTeamScore"));
+        assertEquals("OK", updated.getString("status"));
+
+        List<RecordedEvent> finished = eventsOf(events, FINISHED);
+        assertEquals(2, finished.size());
+        assertEquals("NOT_FOUND", finished.getFirst().getString("status"));
+        assertEquals("OK", finished.getLast().getString("status"));
+
+        RecordedEvent summary = eventsOf(events, SUMMARY).getFirst();
+        assertNull(summary.getString("competition"));
+        assertEquals(1, summary.getInt("matches"));
+        assertEquals(1, summary.getInt("boardSize"));
+    }
+
+    @Test
+    void operationsIfEventsDisabledRecordNothing() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.start();
+
+            var board = new ScoreBoard(new ConcurrentMatchStorage(), CLOCK);
+            board.startMatch(MEXICO, CANADA);
+            board.matchesInProgress();
+
+            recording.stop();
+            events = dump(recording);
+        }
+
+        assertTrue(events.stream().noneMatch(event -> event.getEventType().getName().startsWith("com.odds.")));
+    }
+
+    @Test
+    void profileEnableBoardEvents() throws IOException, ParseException {
+        Map<String, String> settings = BoardRecording.profile().getSettings();
+
+        for (String event : List.of(STARTED, UPDATED, FINISHED, SUMMARY)) {
+            assertEquals("true", settings.get(event + "#enabled"));
+        }
+        assertEquals("true", settings.get("jdk.GarbageCollection#enabled"));
+        assertEquals("true", settings.get("jdk.SafepointBegin#enabled"));
+    }
+
+    private List<RecordedEvent> dump(Recording recording) throws IOException {
+        Path file = dir.resolve("board.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> eventsOf(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+    }
+}
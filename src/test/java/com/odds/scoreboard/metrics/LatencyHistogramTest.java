@@ -0,0 +1,86 @@
+package com.odds.scoreboard.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void valueAtPercentileIfEmptyReturnZero() {
+        var histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.valueAtPercentile(99));
+        assertEquals(0, histogram.max());
+    }
+
+    @Test
+    void valueAtPercentileReturnValueWithinRelativeError() {
+        var histogram = new LatencyHistogram(1);
+        for (int value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000L);
+        }
+
+        assertEquals(10_000, histogram.count());
+        assertWithinError(5_000_000, histogram.valueAtPercentile(50));
+        assertWithinError(9_900_000, histogram.valueAtPercentile(99));
+        assertWithinError(10_000_000, histogram.max());
+    }
+
+    @Test
+    void recordIfSmallValueKeepExactValue() {
+        var histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(-5);
+
+        assertEquals(0, histogram.valueAtPercentile(50));
+        assertEquals(3, histogram.max());
+    }
+
+    @Test
+    void recordIfHugeValueCountInLastBucket() {
+        var histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(1, histogram.count());
+        assertEquals(LatencyHistogram.highestValue(LatencyHistogram.BUCKETS - 1), histogram.max());
+    }
+
+    @Test
+    void bucketContainsItsHighestValue() {
+        for (int bucket = 0; bucket < LatencyHistogram.BUCKETS; bucket++) {
+            long highest = LatencyHistogram.highestValue(bucket);
+            assertEquals(bucket, LatencyHistogram.bucket(highest));
+            if (bucket + 1 < LatencyHistogram.BUCKETS) {
+                assertEquals(bucket + 1, LatencyHistogram.bucket(highest + 1));
+            }
+        }
+    }
+
+    @Test
+    void recordFromManyThreadsCountAll() throws InterruptedException {
+        var histogram = new LatencyHistogram(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int value = 0; value < 10_000; value++) {
+                    histogram.record(value);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, histogram.count());
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 16, "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,102 @@
+package com.odds.scoreboard.metrics;
+
+import com.odds.scoreboard.BaseTest;
+import com.odds.scoreboard.BoardEventPublisher;
+import com.odds.scoreboard.ScoreBoard;
+import com.odds.scoreboard.domain.OperationStatus;
+import com.odds.scoreboard.domain.TeamRegistry;
+import com.odds.scoreboard.infrastructure.ConcurrentMatchStorage;
+import com.odds.scoreboard.infrastructure.MatchStorage;
+import com.odds.scoreboard.infrastructure.exception.KeyExistsException;
+import com.odds.scoreboard.infrastructure.exception.KeyNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class RecordingBoardMetricsTest extends BaseTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-04-22T12:00:00Z"), ZoneOffset.UTC);
+
+    private final RecordingBoardMetrics metrics = new RecordingBoardMetrics();
+
+    @Test
+    void operationsCountedByResult() {
+        var board = board(new ConcurrentMatchStorage());
+        board.startMatch(MEXICO, CANADA);
+        board.tryStartMatch(SPAIN, BRAZIL);
+        board.tryStartMatch(SPAIN, BRAZIL);
+        assertThrows(KeyExistsException.class, () -> board.startMatch(MEXICO, CANADA));
+        board.updateScore(MEXICO, 1, CANADA, 0);
+        board.tryUpdateScore(GERMANY, 1, FRANCE, 0);
+        assertThrows(KeyNotFoundException.class, () -> board.finishMatch(GERMANY, FRANCE));
+        assertThrows(IllegalArgumentException.class, () -> board.updateScore(MEXICO, -1, CANADA, 0));
+        board.finishMatch(SPAIN, BRAZIL);
+        board.matchesInProgress();
+        board.topMatches(10);
+
+        assertEquals(2, metrics.count(BoardOperation.START, OperationStatus.OK));
+        assertEquals(2, metrics.count(BoardOperation.START, OperationStatus.ALREADY_EXISTS));
+        assertEquals(1, metrics.count(BoardOperation.UPDATE, OperationStatus.OK));
+        assertEquals(1, metrics.count(BoardOperation.UPDATE, OperationStatus.NOT_FOUND));
+        assertEquals(1, metrics.count(BoardOperation.UPDATE, OperationStatus.INVALID_INPUT));
+        assertEquals(1, metrics.count(BoardOperation.FINISH, OperationStatus.NOT_FOUND));
+        assertEquals(4, metrics.getStarts());
+        assertEquals(3, metrics.getUpdates());
+        assertEquals(2, metrics.getFinishes());
+        assertEquals(2, metrics.getSummaries());
+        assertEquals(2, metrics.getKeyExists());
+        assertEquals(2, metrics.getKeyNotFound());
+        assertEquals(1, metrics.getInvalidInputs());
+        assertEquals(1, metrics.getBoardSize());
+        assertEquals(4, metrics.latency(BoardOperation.START).count());
+    }
+
+    @Test
+    void operationIfStorageFailsCountFailure() {
+        var storage = mock(MatchStorage.class);
+        doThrow(IllegalStateException.class).when(storage).save(any(), any());
+        var board = board(storage);
+
+        assertThrows(IllegalStateException.class, () -> board.startMatch(MEXICO, CANADA));
+
+        assertEquals(1, metrics.failures(BoardOperation.START));
+        assertEquals(1, metrics.getFailures());
+        assertEquals(1, metrics.getStarts());
+    }
+
+    @Test
+    void registerExposeMetricsThroughJmx() throws JMException {
+        var board = board(new ConcurrentMatchStorage());
+        board.startMatch(MEXICO, CANADA);
+
+        ObjectName name = metrics.register("test-board");
+        try {
+            var server = ManagementFactory.getPlatformMBeanServer();
+
+            assertEquals(1L, server.getAttribute(name, "Starts"));
+            assertEquals(1, server.getAttribute(name, "BoardSize"));
+            Map<String, Long> latencyNanos = metrics.getLatencyNanos();
+            assertTrue(latencyNanos.containsKey("start.p50"));
+            assertTrue(latencyNanos.containsKey("update.p999"));
+            assertTrue(latencyNanos.containsKey("summary.max"));
+        } finally {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        }
+    }
+
+    private ScoreBoard board(MatchStorage storage) {
+        return new ScoreBoard(storage, new TeamRegistry(), CLOCK, new BoardEventPublisher(), metrics);
+    }
+}